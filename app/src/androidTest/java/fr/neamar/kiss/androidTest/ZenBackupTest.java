@@ -0,0 +1,134 @@
+package fr.neamar.kiss.androidTest;
+
+import androidx.test.filters.SmallTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Random;
+
+import fi.zmengames.zen.BackupStorage;
+import fi.zmengames.zen.LocalBackupStorage;
+import fi.zmengames.zen.ZenBackup;
+
+import static androidx.test.InstrumentationRegistry.getInstrumentation;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@SmallTest
+public class ZenBackupTest {
+    private File dir;
+    private BackupStorage storage;
+    private byte[] database;
+
+    @Before
+    public void setUp() {
+        dir = new File(getInstrumentation().getTargetContext().getCacheDir(), "backup-test");
+        assertTrue(dir.isDirectory() || dir.mkdirs());
+        storage = new LocalBackupStorage(dir);
+
+        // Several chunks, part compressible and part random
+        database = new byte[200 * 1024];
+        new Random(42).nextBytes(database);
+        Arrays.fill(database, 0, 100 * 1024, (byte) 7);
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+        //noinspection ResultOfMethodCallIgnored
+        dir.delete();
+    }
+
+    private File writeBackup(String extraSection) throws IOException {
+        File file = new File(dir, "source");
+        try (ZenBackup.Writer writer = new ZenBackup.Writer(new FileOutputStream(file))) {
+            writer.writeText(ZenBackup.SECTION_SETTINGS, "{\"tags\": \"é\"}");
+            if (extraSection != null) {
+                writer.writeText(extraSection, "from a newer version");
+            }
+            OutputStream out = writer.openSection(ZenBackup.SECTION_DATABASE);
+            out.write(database, 0, 10);
+            out.write(database, 10, database.length - 10);
+            writer.openSection(ZenBackup.SECTION_WALLPAPER).close();
+        }
+        return file;
+    }
+
+    private byte[] download() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        storage.read("backup", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        storage.write("backup", "backup", writeBackup("unknown"));
+        byte[] content = download();
+
+        ZenBackup.Reader reader = new ZenBackup.Reader(new ByteArrayInputStream(content));
+        assertEquals(ZenBackup.SECTION_SETTINGS, reader.nextSection());
+        assertEquals("{\"tags\": \"é\"}", reader.readText());
+        // Unknown sections are skipped
+        assertEquals("unknown", reader.nextSection());
+        assertEquals(ZenBackup.SECTION_DATABASE, reader.nextSection());
+        ByteArrayOutputStream db = new ByteArrayOutputStream();
+        ZenBackup.copy(reader.getSectionStream(), db);
+        assertArrayEquals(database, db.toByteArray());
+        assertEquals(ZenBackup.SECTION_WALLPAPER, reader.nextSection());
+        assertEquals(-1, reader.getSectionStream().read());
+        assertNull(reader.nextSection());
+    }
+
+    @Test
+    public void testCorruptionIsDetected() throws IOException {
+        File file = writeBackup(null);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            // Flip a byte at the end of the database section (random data, stored as is)
+            long position = file.length() - 64;
+            raf.seek(position);
+            int b = raf.read();
+            raf.seek(position);
+            raf.write(b ^ 0xff);
+        }
+        storage.write("backup", "backup", file);
+
+        ZenBackup.Reader reader = new ZenBackup.Reader(new ByteArrayInputStream(download()));
+        try {
+            //noinspection StatementWithEmptyBody
+            while (reader.nextSection() != null) {
+            }
+            fail("Corrupted backup was read");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testLegacyBackupIsNotDetected() throws IOException {
+        InputStream in = new BufferedInputStream(new ByteArrayInputStream(new byte[]{(byte) 0xac, (byte) 0xed, 0, 5}));
+        assertFalse(ZenBackup.isBackup(in));
+        assertEquals(0xac, in.read());
+    }
+}
@@ -15,7 +15,6 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import java.util.Collection;
-import java.util.List;
 
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
@@ -37,7 +36,7 @@ public class AppListAdapter extends ArrayAdapter<Pojo> {
         mInflater = LayoutInflater.from(context);
     }
 
-    public void setData(List<Pojo> data) {
+    public void setData(Collection<? extends Pojo> data) {
         clear();
         if (data != null) {
             addAll(data);
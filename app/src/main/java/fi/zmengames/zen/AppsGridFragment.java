@@ -13,7 +13,6 @@ import org.greenrobot.eventbus.EventBus;
 import org.greenrobot.eventbus.Subscribe;
 import org.greenrobot.eventbus.ThreadMode;
 
-import java.util.Collections;
 import java.util.List;
 
 import fr.neamar.kiss.BuildConfig;
@@ -21,8 +20,6 @@ import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
 import fr.neamar.kiss.R;
 import fr.neamar.kiss.pojo.AppPojo;
-import fr.neamar.kiss.pojo.Pojo;
-import fr.neamar.kiss.pojo.PojoComparator;
 import fr.neamar.kiss.result.Result;
 import fr.neamar.kiss.ui.ListPopup;
 
@@ -40,13 +37,8 @@ public class AppsGridFragment extends GridFragment {
         mAdapter = new AppListAdapter(getActivity());
         setGridAdapter(mAdapter);
 
-        List<Pojo> apps = KissApplication.getApplication(getContext()).getDataHandler().getApplications();
-        try {
-            Collections.sort(apps, new PojoComparator());
-        } catch (Exception e){
-            Log.d(TAG, "AppsGridFragment, sort exception:" +e);
-        }
-
+        // Already sorted by name, and shared: do not sort it in place
+        List<AppPojo> apps = KissApplication.getApplication(getContext()).getDataHandler().getApplications();
         mAdapter.setData(apps);
         // till the data is loaded display a spinner
         setGridShown(true);
@@ -60,12 +52,7 @@ public class AppsGridFragment extends GridFragment {
         switch (event.getState()) {
             case LOAD_OVER:
                 Log.d(TAG, "LOAD_OVER");
-                List<Pojo> apps = KissApplication.getApplication(getContext()).getDataHandler().getApplications();
-                try {
-                    Collections.sort(apps, new PojoComparator());
-                } catch (Exception e){
-                    Log.d(TAG, "AppsGridFragment, sort exception:" +e);
-                }
+                List<AppPojo> apps = KissApplication.getApplication(getContext()).getDataHandler().getApplications();
                 mAdapter.setData(apps);
                 mAdapter.notifyDataSetInvalidated();
                 break;
@@ -0,0 +1,29 @@
+package fi.zmengames.zen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Place where Zen Launcher layout backups are kept, backups are streamed from and to files so that
+ * they never need to fit in memory.
+ */
+public interface BackupStorage {
+    /**
+     * Replace the content of a backup
+     *
+     * @param fileId  id of the backup
+     * @param name    name to give to the backup
+     * @param content file holding the new content
+     */
+    void write(String fileId, String name, File content) throws IOException;
+
+    /**
+     * Download a backup
+     *
+     * @param fileId id of the backup
+     * @param out    stream receiving the content of the backup
+     * @return name of the backup
+     */
+    String read(String fileId, OutputStream out) throws IOException;
+}
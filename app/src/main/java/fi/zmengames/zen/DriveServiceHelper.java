@@ -26,14 +26,16 @@ import androidx.core.util.Pair;
 
 import com.google.android.gms.tasks.Task;
 import com.google.android.gms.tasks.Tasks;
-import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.FileContent;
 import com.google.api.services.drive.Drive;
 import com.google.api.services.drive.model.File;
 import com.google.api.services.drive.model.FileList;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -42,7 +44,7 @@ import java.util.concurrent.Executors;
  * A utility for performing read/write operations on Drive files via the REST API and opening a
  * file picker UI via Storage Access Framework.
  */
-public class DriveServiceHelper {
+public class DriveServiceHelper implements BackupStorage {
     private static final String TAG = DriveServiceHelper.class.getSimpleName();
     private final Executor mExecutor = Executors.newSingleThreadExecutor();
     private final Drive mDriveService;
@@ -89,42 +91,49 @@ public class DriveServiceHelper {
     }
 
     /**
-     * Opens the file identified by {@code fileId} and returns a {@link Pair} of its name and
-     * contents.
+     * Downloads the file identified by {@code fileId} to {@code target} and returns its name.
      */
-    public Task<Pair<String, byte[]>> readFile(String fileId) {
+    public Task<String> readFile(String fileId, java.io.File target) {
         return Tasks.call(mExecutor, () -> {
-            // Retrieve the metadata as a File object.
-            File metadata = mDriveService.files().get(fileId).execute();
-            String name = metadata.getName();
-
-            // Stream the file contents to a String.
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            mDriveService.files().get(fileId).executeMediaAndDownloadTo(bos);
-
-
-            return Pair.create(name, bos.toByteArray());
+            try (OutputStream out = new FileOutputStream(target)) {
+                return read(fileId, out);
+            }
         });
     }
 
     /**
-     * Updates the file identified by {@code fileId} with the given {@code name} and {@code
-     * content}.
+     * Updates the file identified by {@code fileId} with the given {@code name} and the content
+     * of {@code content}.
      */
-    public Task<Void> saveFile(String fileId, String name, byte[] content) {
+    public Task<Void> saveFile(String fileId, String name, java.io.File content) {
         return Tasks.call(mExecutor, () -> {
-            // Create a File containing any metadata changes.
-            File metadata = new File().setName(name);
-
-            // Convert content to an AbstractInputStreamContent instance.
-            ByteArrayContent byteContent = new ByteArrayContent(null, content);
-
-            // Update the metadata and contents.
-            mDriveService.files().update(fileId, metadata, byteContent).execute();
+            write(fileId, name, content);
             return null;
         });
     }
 
+    @Override
+    public String read(String fileId, OutputStream out) throws IOException {
+        // Retrieve the metadata as a File object.
+        File metadata = mDriveService.files().get(fileId).execute();
+
+        // Stream the file contents, without holding them in memory.
+        mDriveService.files().get(fileId).executeMediaAndDownloadTo(out);
+        return metadata.getName();
+    }
+
+    @Override
+    public void write(String fileId, String name, java.io.File content) throws IOException {
+        // Create a File containing any metadata changes.
+        File metadata = new File().setName(name);
+
+        // Upload straight from the file.
+        FileContent fileContent = new FileContent(null, content);
+
+        // Update the metadata and contents.
+        mDriveService.files().update(fileId, metadata, fileContent).execute();
+    }
+
     /**
      * Returns a {@link FileList} containing all the visible files in the user's My Drive.
      *
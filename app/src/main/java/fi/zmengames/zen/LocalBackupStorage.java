@@ -0,0 +1,41 @@
+package fi.zmengames.zen;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Backups kept as files in a local folder, the file id being the file name.
+ * Used to check backups can be written and read again without a Google account.
+ */
+public class LocalBackupStorage implements BackupStorage {
+    private final File dir;
+
+    public LocalBackupStorage(File dir) {
+        this.dir = dir;
+    }
+
+    @Override
+    public void write(String fileId, String name, File content) throws IOException {
+        try (InputStream in = new FileInputStream(content);
+             OutputStream out = new FileOutputStream(new File(dir, fileId))) {
+            ZenBackup.copy(in, out);
+        }
+    }
+
+    @Override
+    public String read(String fileId, OutputStream out) throws IOException {
+        File file = new File(dir, fileId);
+        if (!file.isFile()) {
+            throw new FileNotFoundException("No backup " + fileId);
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            ZenBackup.copy(in, out);
+        }
+        return fileId;
+    }
+}
@@ -0,0 +1,361 @@
+package fi.zmengames.zen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Zen Launcher layout backup, made of named sections (settings, widgets, database, wallpaper).
+ * <p>
+ * Sections are written straight from their source and read back as streams, cut in chunks that
+ * are compressed one by one, so memory use does not depend on the size of the database or the
+ * wallpaper. Each section ends with the CRC32 of its content, checked once it is read to its end.
+ * <p>
+ * Layout: magic and format version, then for each section its name followed by its chunks
+ * (raw length, compression method, stored length, bytes), an empty chunk and the CRC32.
+ * An empty name follows the last section.
+ */
+public final class ZenBackup {
+    public static final String SECTION_SETTINGS = "settings";
+    public static final String SECTION_WIDGETS = "widgets";
+    public static final String SECTION_DATABASE = "database";
+    public static final String SECTION_WALLPAPER = "wallpaper";
+
+    private static final int MAGIC = 0x5a454e42; // "ZENB"
+    private static final int VERSION = 1;
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final byte METHOD_STORED = 0;
+    private static final byte METHOD_DEFLATED = 1;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private ZenBackup() {
+    }
+
+    /**
+     * Tell whether a stream holds a backup in this format, without consuming it
+     *
+     * @param in stream supporting mark, e.g. a BufferedInputStream
+     * @return false for anything else, e.g. backups made before this format existed
+     */
+    public static boolean isBackup(InputStream in) throws IOException {
+        in.mark(4);
+        int magic;
+        try {
+            magic = new DataInputStream(in).readInt();
+        } catch (EOFException e) {
+            magic = 0;
+        }
+        in.reset();
+        return magic == MAGIC;
+    }
+
+    public static long copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+            total += length;
+        }
+        return total;
+    }
+
+    public static class Writer implements Closeable {
+        private final DataOutputStream out;
+        private SectionOutputStream section = null;
+
+        public Writer(OutputStream out) throws IOException {
+            this.out = new DataOutputStream(out);
+            this.out.writeInt(MAGIC);
+            this.out.writeInt(VERSION);
+        }
+
+        /**
+         * Start a new section, ending the previous one
+         *
+         * @param name section name
+         * @return stream to write the section content to, closing it ends the section
+         */
+        public OutputStream openSection(String name) throws IOException {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Section name can't be empty");
+            }
+            closeSection();
+            out.writeUTF(name);
+            section = new SectionOutputStream(out);
+            return section;
+        }
+
+        public void writeText(String name, String text) throws IOException {
+            OutputStream section = openSection(name);
+            section.write(text.getBytes(UTF_8));
+            section.close();
+        }
+
+        private void closeSection() throws IOException {
+            if (section != null) {
+                section.close();
+                section = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeSection();
+            out.writeUTF("");
+            out.close();
+        }
+    }
+
+    public static class Reader implements Closeable {
+        private final DataInputStream in;
+        private SectionInputStream section = null;
+
+        public Reader(InputStream in) throws IOException {
+            this.in = new DataInputStream(in);
+            if (this.in.readInt() != MAGIC) {
+                throw new IOException("Not a Zen Launcher backup");
+            }
+            int version = this.in.readInt();
+            if (version > VERSION) {
+                throw new IOException("Unsupported backup version " + version);
+            }
+        }
+
+        /**
+         * Move to the next section, what is left of the current one is skipped (and checked)
+         *
+         * @return name of the section, null after the last one
+         */
+        public String nextSection() throws IOException {
+            if (section != null) {
+                section.skipToEnd();
+                section = null;
+            }
+            String name = in.readUTF();
+            if (name.isEmpty()) {
+                return null;
+            }
+            section = new SectionInputStream(in);
+            return name;
+        }
+
+        /**
+         * @return content of the current section, an IOException is thrown when reaching its end
+         * if it does not match its checksum
+         */
+        public InputStream getSectionStream() {
+            if (section == null) {
+                throw new IllegalStateException("No current section");
+            }
+            return section;
+        }
+
+        public String readText() throws IOException {
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            copy(getSectionStream(), text);
+            return new String(text.toByteArray(), UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static final class SectionOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private final byte[] compressed = new byte[CHUNK_SIZE];
+        private final Deflater deflater = new Deflater();
+        private final CRC32 crc = new CRC32();
+        private int length = 0;
+        private boolean closed = false;
+
+        SectionOutputStream(DataOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            chunk[length++] = (byte) b;
+            if (length == CHUNK_SIZE) {
+                writeChunk();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int n = Math.min(len, CHUNK_SIZE - length);
+                System.arraycopy(b, off, chunk, length, n);
+                length += n;
+                off += n;
+                len -= n;
+                if (length == CHUNK_SIZE) {
+                    writeChunk();
+                }
+            }
+        }
+
+        private void writeChunk() throws IOException {
+            if (length == 0) {
+                return;
+            }
+            crc.update(chunk, 0, length);
+
+            deflater.reset();
+            deflater.setInput(chunk, 0, length);
+            deflater.finish();
+            int compressedLength = deflater.deflate(compressed);
+
+            out.writeInt(length);
+            // Already compressed data (e.g. the wallpaper) is stored as is
+            if (deflater.finished() && compressedLength < length) {
+                out.writeByte(METHOD_DEFLATED);
+                out.writeInt(compressedLength);
+                out.write(compressed, 0, compressedLength);
+            } else {
+                out.writeByte(METHOD_STORED);
+                out.writeInt(length);
+                out.write(chunk, 0, length);
+            }
+            length = 0;
+        }
+
+        /**
+         * End the section, the underlying stream is left open
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writeChunk();
+            out.writeInt(0);
+            out.writeLong(crc.getValue());
+            deflater.end();
+        }
+    }
+
+    private static final class SectionInputStream extends InputStream {
+        private final DataInputStream in;
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private final byte[] compressed = new byte[CHUNK_SIZE];
+        private final Inflater inflater = new Inflater();
+        private final CRC32 crc = new CRC32();
+        private int position = 0;
+        private int length = 0;
+        private boolean ended = false;
+
+        SectionInputStream(DataInputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Read the next chunk
+         *
+         * @return false at the end of the section
+         */
+        private boolean readChunk() throws IOException {
+            if (ended) {
+                return false;
+            }
+
+            int rawLength = in.readInt();
+            if (rawLength == 0) {
+                ended = true;
+                inflater.end();
+                if (in.readLong() != crc.getValue()) {
+                    throw new IOException("Backup section doesn't match its checksum");
+                }
+                return false;
+            }
+
+            byte method = in.readByte();
+            int storedLength = in.readInt();
+            if (rawLength < 0 || rawLength > CHUNK_SIZE || storedLength < 0 || storedLength > CHUNK_SIZE) {
+                throw new IOException("Corrupted backup section");
+            }
+            if (method == METHOD_STORED && storedLength == rawLength) {
+                in.readFully(chunk, 0, rawLength);
+            } else if (method == METHOD_DEFLATED) {
+                in.readFully(compressed, 0, storedLength);
+                inflate(storedLength, rawLength);
+            } else {
+                throw new IOException("Corrupted backup section");
+            }
+
+            crc.update(chunk, 0, rawLength);
+            position = 0;
+            length = rawLength;
+            return true;
+        }
+
+        private void inflate(int storedLength, int rawLength) throws IOException {
+            inflater.reset();
+            inflater.setInput(compressed, 0, storedLength);
+            int inflated = 0;
+            try {
+                while (inflated < rawLength && !inflater.finished()) {
+                    int n = inflater.inflate(chunk, inflated, rawLength - inflated);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    inflated += n;
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupted backup section", e);
+            }
+            if (inflated != rawLength) {
+                throw new IOException("Corrupted backup section");
+            }
+        }
+
+        void skipToEnd() throws IOException {
+            while (readChunk()) {
+                position = length;
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position == length && !readChunk()) {
+                return -1;
+            }
+            return chunk[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position == length && !readChunk()) {
+                return -1;
+            }
+            int n = Math.min(len, length - position);
+            System.arraycopy(chunk, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        /**
+         * Sections are closed by the reader
+         */
+        @Override
+        public void close() {
+        }
+    }
+}
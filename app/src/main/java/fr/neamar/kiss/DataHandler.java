@@ -26,6 +26,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import fi.zmengames.zen.ZEvent;
 import fi.zmengames.zen.ZenProvider;
@@ -39,6 +46,7 @@ import fr.neamar.kiss.dataprovider.simpleprovider.CalculatorProvider;
 import fr.neamar.kiss.dataprovider.simpleprovider.PhoneProvider;
 import fr.neamar.kiss.dataprovider.simpleprovider.TagsProvider;
 import fr.neamar.kiss.db.DBHelper;
+import fr.neamar.kiss.db.QueryHistoryTrie;
 import fr.neamar.kiss.db.ShortcutRecord;
 import fr.neamar.kiss.db.ValuedHistoryRecord;
 import fr.neamar.kiss.pojo.AppPojo;
@@ -62,11 +70,32 @@ public class DataHandler
     final static private List<String> PROVIDER_NAMES = Arrays.asList(
             "app", "contacts", "settings", "shortcuts"
     );
+    /**
+     * Bounded pool used to query all providers at the same time (see "parallel-search")
+     */
+    final static private ExecutorService PROVIDER_POOL = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()))
+    );
     private TagsHandler tagsHandler;
     private BadgeHandler badgeHandler;
     final private Context context;
     private String currentQuery;
+    /**
+     * Queries typed before launching records, loaded from history on the first search
+     */
+    private volatile QueryHistoryTrie queryHistory = null;
+    /**
+     * Bumped under {@link #queryHistoryLock} whenever the history changes, so a trie loaded while
+     * launches were recorded or history was cleared is not kept
+     */
+    private int queryHistoryGeneration = 0;
+    private final Object queryHistoryLock = new Object();
     private final Map<String, ProviderEntry> providers = new HashMap<>();
+    /**
+     * Provider owning each id scheme (`"app://"`, `"contact://"`...), filled as ids get resolved
+     * and cleared whenever a provider is connected or disconnected
+     */
+    private final Map<String, IProvider> providersByScheme = new ConcurrentHashMap<>();
     public boolean allProvidersHaveLoaded = false;
     private final long start;
 
@@ -200,6 +229,7 @@ public class DataHandler
                 // Update provider info so that it contains something useful
                 entry.provider = provider;
                 entry.connection = this;
+                providersByScheme.clear();
 
                 if (provider.isLoaded()) {
                     handleProviderLoaded();
@@ -235,6 +265,7 @@ public class DataHandler
 
         // Remove provider from list
         this.providers.remove(name);
+        providersByScheme.clear();
     }
 
     /**
@@ -274,13 +305,61 @@ public class DataHandler
      */
     public void requestResults(String query, Searcher searcher) {
         currentQuery = query;
+        if (PreferenceManager.getDefaultSharedPreferences(context).getBoolean("parallel-search", true)) {
+            requestResultsInParallel(query, searcher);
+            return;
+        }
+        boolean providerDone = false;
         for (ProviderEntry entry : this.providers.values()) {
-            if (searcher.isCancelled())
+            if (searcher.shouldStop())
                 break;
             if (entry.provider == null)
                 continue;
+            // Display what previous providers found while this one is running
+            if (providerDone)
+                searcher.publishPartialResults();
             // Retrieve results for query:
             entry.provider.requestResults(query, searcher);
+            providerDone = true;
+        }
+    }
+
+    /**
+     * Get records for this query, querying all providers concurrently.
+     * Returns once every provider is done, so the search takes as long as the slowest provider,
+     * but the results found so far are published each time a provider is done.
+     *
+     * @param query    query to run
+     * @param searcher the searcher currently running, must accept results from any thread
+     */
+    private void requestResultsInParallel(final String query, final Searcher searcher) {
+        ArrayList<Callable<Void>> tasks = new ArrayList<>(this.providers.size());
+        final AtomicInteger remainingProviders = new AtomicInteger();
+        for (ProviderEntry entry : this.providers.values()) {
+            final IProvider provider = entry.provider;
+            if (provider == null)
+                continue;
+            tasks.add(() -> {
+                if (!searcher.shouldStop())
+                    provider.requestResults(query, searcher);
+                // The last provider results are displayed when the searcher completes
+                if (remainingProviders.decrementAndGet() > 0)
+                    searcher.publishPartialResults();
+                return null;
+            });
+        }
+        remainingProviders.set(tasks.size());
+
+        try {
+            for (Future<Void> future : PROVIDER_POOL.invokeAll(tasks)) {
+                // Forward provider failures, as if the provider had run on the search thread
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            // The searcher was cancelled, remaining provider tasks have been cancelled by invokeAll()
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
     }
 
@@ -298,7 +377,7 @@ public class DataHandler
 
             List<? extends Pojo> pojos = entry.provider.getPojos();
             if (pojos != null)
-                searcher.addResult(pojos.toArray(new Pojo[0]));
+                searcher.addResults(pojos);
         }
     }
 
@@ -323,17 +402,14 @@ public class DataHandler
         int extendedItemCount = itemCount + itemsToExcludeById.size();
 
         // Read history
-        List<ValuedHistoryRecord> ids = DBHelper.getHistory(context, extendedItemCount, historyMode);
+        List<ValuedHistoryRecord> records = DBHelper.getHistory(context, extendedItemCount, historyMode);
+        List<String> ids = new ArrayList<>(records.size());
+        for (ValuedHistoryRecord record : records) {
+            ids.add(record.record);
+        }
 
         // Find associated items
-        for (int i = 0; i < ids.size(); i++) {
-            // Ask all providers if they know this id
-            Pojo pojo = getPojo(ids.get(i).record);
-
-            if (pojo == null) {
-                continue;
-            }
-
+        for (Pojo pojo : getPojos(ids)) {
             if(itemsToExcludeById.contains(pojo.id)) {
                 continue;
             }
@@ -410,6 +486,58 @@ public class DataHandler
 
     public void clearHistory() {
         DBHelper.clearHistory(this.context);
+        invalidateQueryHistory();
+    }
+
+    public void removeFromHistory(String id) {
+        DBHelper.removeFromHistory(this.context, id);
+        synchronized (queryHistoryLock) {
+            queryHistoryGeneration += 1;
+            QueryHistoryTrie history = queryHistory;
+            if (history != null) {
+                history.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Drop what is known of the history, e.g. once the database was replaced
+     */
+    public void invalidateQueryHistory() {
+        synchronized (queryHistoryLock) {
+            queryHistoryGeneration += 1;
+            queryHistory = null;
+        }
+    }
+
+    /**
+     * Retrieve previously selected items for the query, without accessing the database once the
+     * history is loaded
+     *
+     * @param query query being typed
+     * @return records launched after typing a query starting with this one, with their number of
+     * launches, most launched first
+     */
+    public List<ValuedHistoryRecord> getPreviousResultsForQuery(String query) {
+        QueryHistoryTrie history = queryHistory;
+        if (history == null) {
+            int generation;
+            synchronized (queryHistoryLock) {
+                generation = queryHistoryGeneration;
+            }
+            // Read outside of the lock, launches must not wait for the database
+            history = DBHelper.getQueryHistory(this.context);
+            synchronized (queryHistoryLock) {
+                if (queryHistory != null) {
+                    history = queryHistory;
+                } else if (generation == queryHistoryGeneration) {
+                    queryHistory = history;
+                }
+                // Otherwise history changed during the read: use it for this query only and
+                // load it again on the next search
+            }
+        }
+        return history.getPreviousResults(query, 10);
     }
 
     public void removeShortcut(ShortcutPojo shortcut) {
@@ -526,6 +654,10 @@ public class DataHandler
         excluded.add(app.getComponentName());
         PreferenceManager.getDefaultSharedPreferences(context).edit().putStringSet("excluded-apps", excluded).apply();
         app.setExcluded(true);
+        AppProvider appProvider = getAppProvider();
+        if (appProvider != null) {
+            appProvider.updateSortedApp(app);
+        }
 
         // Ensure it's removed from favorites too
         DataHandler dataHandler = KissApplication.getApplication(context).getDataHandler();
@@ -542,6 +674,10 @@ public class DataHandler
         excluded.remove(app.getComponentName());
         PreferenceManager.getDefaultSharedPreferences(context).edit().putStringSet("excluded-apps", excluded).apply();
         app.setExcluded(false);
+        AppProvider appProvider = getAppProvider();
+        if (appProvider != null) {
+            appProvider.updateSortedApp(app);
+        }
 
         //Add shortcuts for this app
         addShortcut(app.packageName);
@@ -577,23 +713,16 @@ public class DataHandler
     }
 
     /**
-     * Return all applications (including excluded)
+     * Return applications that are not excluded, sorted by name
      *
-     * @return pojos for all applications
+     * @return pojos for applications, do not modify the list
      */
     @Nullable
-    public List<Pojo> getApplications() {
+    public List<AppPojo> getApplications() {
         AppProvider appProvider = getAppProvider();
         return appProvider != null ? appProvider.getAllApps() : null;
     }
 
-    @Nullable
-    public List<Pojo> getApplicationsCached() {
-        AppProvider appProvider = getAppProvider();
-        return appProvider != null ? appProvider.getAllAppsCached() : null;
-    }
-
-
     @Nullable
     public List<Pojo> getAppsWithNotif() {
         AppProvider appProvider = getAppProvider();
@@ -644,16 +773,8 @@ public class DataHandler
         assert favApps != null;
         List<String> favAppsList = Arrays.asList(favApps.split(";"));
 
-        // We might skip some later but this avoid to expand memory multiple times
-        favorites.ensureCapacity(favAppsList.size());
-
         // Find associated items
-        for (int i = 0; i < favAppsList.size(); i++) {
-            Pojo pojo = getPojo(favAppsList.get(i));
-            if (pojo != null) {
-                favorites.add(pojo);
-            }
-        }
+        favorites.addAll(getPojos(favAppsList));
 
         return favorites;
     }
@@ -771,15 +892,67 @@ public class DataHandler
         Set<String> excludedFromHistory = getExcludedFromHistory();
 
         if (!frozen && !excludedFromHistory.contains(id)) {
-            DBHelper.insertHistory(this.context, currentQuery, id);
+            boolean trimmed = DBHelper.insertHistory(this.context, currentQuery, id);
+            synchronized (queryHistoryLock) {
+                queryHistoryGeneration += 1;
+                QueryHistoryTrie history = queryHistory;
+                if (trimmed) {
+                    // Older queries are gone, reload on the next search
+                    queryHistory = null;
+                } else if (history != null) {
+                    history.add(currentQuery, id, 1);
+                }
+            }
         }
     }
 
     private Pojo getPojo(String id) {
+        IProvider provider = getProviderForId(id);
+        return provider == null ? null : provider.findById(id);
+    }
+
+    /**
+     * Resolve a list of ids, skipping the ones no provider knows about
+     *
+     * @param ids globally unique IDs, e.g. history records or favorites
+     * @return pojos in the same order as their ids
+     */
+    public List<Pojo> getPojos(List<String> ids) {
+        ArrayList<Pojo> pojos = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Pojo pojo = getPojo(id);
+            if (pojo != null) {
+                pojos.add(pojo);
+            }
+        }
+        return pojos;
+    }
+
+    /**
+     * Find the provider able to resolve an id, from its scheme when it was already seen
+     *
+     * @param id globally unique ID, usually starts with provider scheme, e.g. "app://" or "contact://"
+     * @return null if no provider can handle this id
+     */
+    @Nullable
+    private IProvider getProviderForId(String id) {
+        int schemeEnd = id.indexOf("://");
+        String scheme = schemeEnd == -1 ? null : id.substring(0, schemeEnd + 3);
+        if (scheme != null) {
+            IProvider provider = providersByScheme.get(scheme);
+            if (provider != null) {
+                return provider;
+            }
+        }
+
         // Ask all providers if they know this id
         for (ProviderEntry entry : this.providers.values()) {
-            if (entry.provider != null && entry.provider.mayFindById(id)) {
-                return entry.provider.findById(id);
+            IProvider provider = entry.provider;
+            if (provider != null && provider.mayFindById(id)) {
+                if (scheme != null && provider.mayFindById(scheme)) {
+                    providersByScheme.put(scheme, provider);
+                }
+                return provider;
             }
         }
 
@@ -797,12 +970,39 @@ public class DataHandler
         tagsHandler = new TagsHandler(this.context);
     }
 
-    public void renameApp(String componentName, String newName) {
-        DBHelper.addCustomAppName(context, componentName, newName);
+    public void renameApp(AppPojo app, String newName) {
+        DBHelper.addCustomAppName(context, app.getComponentName(), newName);
+        setAppName(app, newName);
     }
 
-    public void removeRenameApp(String componentName, String defaultName) {
-        DBHelper.removeCustomAppName(context, componentName);
+    public void removeRenameApp(AppPojo app, String defaultName) {
+        DBHelper.removeCustomAppName(context, app.getComponentName());
+        setAppName(app, defaultName);
+    }
+
+    /**
+     * Rename an app, through its provider so that it keeps its apps sorted
+     */
+    private void setAppName(AppPojo app, String name) {
+        AppProvider appProvider = getAppProvider();
+        if (appProvider != null) {
+            appProvider.renameApp(app, name);
+        } else {
+            app.setName(name);
+        }
+        invalidateSearchCandidates();
+    }
+
+    /**
+     * Forget the query matches kept by the providers for incremental search and index their
+     * texts again in the background, to be called when a pojo got renamed or re-tagged
+     */
+    public void invalidateSearchCandidates() {
+        for (ProviderEntry entry : this.providers.values()) {
+            if (entry.provider instanceof Provider) {
+                ((Provider<?>) entry.provider).reindexCandidates();
+            }
+        }
     }
 
     public long setCustomAppIcon(String componentName) {
@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import fi.zmengames.zen.ZEvent;
+import fr.neamar.kiss.cache.IconDiskCache;
 import fr.neamar.kiss.cache.MemoryCacheHelper;
 import fr.neamar.kiss.icons.IconPack;
 import fr.neamar.kiss.icons.IconPackXML;
@@ -62,6 +63,7 @@ public class IconsHandler {
     private int mContactsShape = DrawableUtils.SHAPE_SYSTEM;
     private boolean mForceShape = false;
     private Utilities.AsyncRun mLoadIconsPackTask = null;
+    private volatile IconDiskCache mDiskCache = null;
 
     public IconsHandler(Context ctx) {
         super();
@@ -177,7 +179,7 @@ public class IconsHandler {
                     drawable = DrawableUtils.applyIconMaskShape(ctx, iconPackDrawable, shape, true);
                 } else
                     drawable = mIconPack.applyBackgroundAndMask(ctx, iconPackDrawable, false);
-                storeDrawable(cacheGetFileName(cacheKey), drawable);
+                cacheStoreDrawable(cacheKey, drawable);
                 return drawable;
             }
         }
@@ -190,7 +192,7 @@ public class IconsHandler {
         // if the icon pack has a mask, use that instead of the adaptive shape
         if (mIconPack != null && mIconPack.hasMask() && userHandle.isCurrentUser()) {
             Drawable drawable = mIconPack.applyBackgroundAndMask(ctx, systemIcon, false);
-            storeDrawable(cacheGetFileName(cacheKey), drawable);
+            cacheStoreDrawable(cacheKey, drawable);
             return drawable;
         }
 
@@ -203,7 +205,7 @@ public class IconsHandler {
         else
             drawable = systemIcon;
 
-        storeDrawable(cacheGetFileName(cacheKey), drawable);
+        cacheStoreDrawable(cacheKey, drawable);
         return drawable;
     }
 
@@ -270,11 +272,6 @@ public class IconsHandler {
         return mIconPack != null ? mIconPack : mSystemPack;
     }
 
-    private boolean isDrawableInCache(String key) {
-        File drawableFile = cacheGetFileName(key);
-        return drawableFile.isFile();
-    }
-
     private void storeDrawable(File drawableFile, Drawable drawable) {
         if (drawable instanceof BitmapDrawable) {
             FileOutputStream fos;
@@ -289,33 +286,37 @@ public class IconsHandler {
         }
     }
 
-    private Drawable cacheGetDrawable(String key) {
-
-        if (!isDrawableInCache(key)) {
-            return null;
+    private void cacheStoreDrawable(String key, Drawable drawable) {
+        if (drawable instanceof BitmapDrawable) {
+            getDiskCache().put(key, ((BitmapDrawable) drawable).getBitmap());
         }
+    }
 
-        FileInputStream fis;
-        try {
-            fis = new FileInputStream(cacheGetFileName(key));
-            BitmapDrawable drawable =
-                    new BitmapDrawable(this.ctx.getResources(), BitmapFactory.decodeStream(fis));
-            fis.close();
-            return drawable;
-        } catch (Exception e) {
-            Log.e(TAG, "Unable to get drawable from cache " + e);
+    private Drawable cacheGetDrawable(String key) {
+        Bitmap bitmap = getDiskCache().get(key);
+        if (bitmap == null) {
+            return null;
         }
-
-        return null;
+        return new BitmapDrawable(this.ctx.getResources(), bitmap);
     }
 
     /**
-     * create path for icons cache like this
-     * {cacheDir}/icons/{icons_pack_package_name}_{key_hash}.png
+     * Disk cache of the current icons pack, stored in {cacheDir}/icons
      */
-    private File cacheGetFileName(String key) {
-        String iconsPackPackageName = getIconPack().getPackPackageName();
-        return new File(getIconsCacheDir(), iconsPackPackageName + "_" + key.hashCode() + ".png");
+    private IconDiskCache getDiskCache() {
+        IconDiskCache diskCache = mDiskCache;
+        if (diskCache == null) {
+            String iconsPackPackageName = getIconPack().getPackPackageName();
+            long iconsPackVersion = 0;
+            try {
+                iconsPackVersion = pm.getPackageInfo(iconsPackPackageName, 0).versionCode;
+            } catch (PackageManager.NameNotFoundException ignored) {
+                // system icons
+            }
+            diskCache = IconDiskCache.open(getIconsCacheDir(), iconsPackPackageName, iconsPackVersion);
+            mDiskCache = diskCache;
+        }
+        return diskCache;
     }
 
     private File getIconsCacheDir() {
@@ -343,16 +344,16 @@ public class IconsHandler {
         if(mMemoryCacheEnabled) {
             MemoryCacheHelper.trimMemory();
         }
-        File cacheDir = this.getIconsCacheDir();
+        mDiskCache = null;
+        // Icons may be drawn differently now, even with the same icons pack
+        IconDiskCache.clear(getIconsCacheDir());
+    }
 
-        File[] fileList = cacheDir.listFiles();
-        if (fileList != null) {
-            for (File item : fileList) {
-                if (!item.delete()) {
-                    Log.w(TAG, "Failed to delete file: " + item.getAbsolutePath());
-                }
-            }
-        }
+    /**
+     * Forget stored icons of a package, to be called when it gets installed, updated or removed
+     */
+    public void forgetIcons(String packageName) {
+        getDiskCache().remove(packageName + "/");
     }
 
     // Before we fixed the cache path actually returning a folder, a lot of icons got dumped
@@ -91,15 +91,18 @@ import org.greenrobot.eventbus.ThreadMode;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -120,6 +123,7 @@ import fi.zmengames.zen.ScreenReceiver;
 import fi.zmengames.zen.Utility;
 import fi.zmengames.zen.ZEvent;
 import fi.zmengames.zen.ZenAdmin;
+import fi.zmengames.zen.ZenBackup;
 import fr.neamar.kiss.adapter.RecordAdapter;
 import fr.neamar.kiss.broadcast.IncomingCallHandler;
 import fr.neamar.kiss.cache.MemoryCacheHelper;
@@ -133,6 +137,7 @@ import fr.neamar.kiss.searcher.ContactSearcher;
 import fr.neamar.kiss.searcher.HistorySearcher;
 import fr.neamar.kiss.searcher.QueryInterface;
 import fr.neamar.kiss.searcher.QuerySearcher;
+import fr.neamar.kiss.searcher.SearchScheduler;
 import fr.neamar.kiss.searcher.Searcher;
 import fr.neamar.kiss.searcher.ShortcutsSearcher;
 import fr.neamar.kiss.searcher.TagsSearcher;
@@ -285,7 +290,7 @@ public class MainActivity extends Activity implements QueryInterface, KeyboardSc
     /**
      * Task launched on text change
      */
-    private Searcher searchTask;
+    private final SearchScheduler searchScheduler = new SearchScheduler();
 
     /**
      * SystemUiVisibility helper
@@ -332,21 +337,6 @@ public class MainActivity extends Activity implements QueryInterface, KeyboardSc
         mSignedIn = false;
     }
 
-    public static byte[] objToByte(ZenLayout tcpPacket) throws IOException {
-        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-        ObjectOutputStream objStream = new ObjectOutputStream(byteStream);
-        objStream.writeObject(tcpPacket);
-        return byteStream.toByteArray();
-    }
-
-    public static Object byteToObj(byte[] bytes) throws IOException, ClassNotFoundException {
-        ByteArrayInputStream byteStream = new ByteArrayInputStream(bytes);
-        ObjectInputStream objStream = new ObjectInputStream(byteStream);
-        return objStream.readObject();
-    }
-
-    // current Zen Launcher layout - serializable
-    private ZenLayout mZenLayout;
     private Bitmap overlay(Bitmap bmp1, Bitmap bmp2) {
         Bitmap bmOverlay = Bitmap.createBitmap(bmp1.getWidth(), bmp1.getHeight(), bmp1.getConfig());
         Canvas canvas = new Canvas(bmOverlay);
@@ -376,13 +366,10 @@ public class MainActivity extends Activity implements QueryInterface, KeyboardSc
     }
 
     @TargetApi(Build.VERSION_CODES.KITKAT)
-    ByteArrayOutputStream getScreenShotWallPaper() {
+    void writeScreenShotWallPaper(OutputStream out) {
         final WallpaperManager wallpaperManager = WallpaperManager.getInstance(this);
         final Drawable wallpaperDrawable = wallpaperManager.getDrawable();
-        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
-        ((BitmapDrawable) wallpaperDrawable).getBitmap().compress(Bitmap.CompressFormat.JPEG, 80, bytes);
-
-        return bytes;
+        ((BitmapDrawable) wallpaperDrawable).getBitmap().compress(Bitmap.CompressFormat.JPEG, 80, out);
     }
 
     public static Bitmap RotateBitmap(Bitmap source, float angle) {
@@ -611,6 +598,18 @@ public class MainActivity extends Activity implements QueryInterface, KeyboardSc
             ((RecordAdapter) parent.getAdapter()).onLongClick(pos, v);
             return true;
         });
+        this.list.setOnScrollListener(new AbsListView.OnScrollListener() {
+            @Override
+            public void onScrollStateChanged(AbsListView view, int scrollState) {
+                if (scrollState == SCROLL_STATE_TOUCH_SCROLL) {
+                    adapter.onResultsTouched();
+                }
+            }
+
+            @Override
+            public void onScroll(AbsListView view, int firstVisibleItem, int visibleItemCount, int totalItemCount) {
+            }
+        });
 
         // Display empty list view when having no results
         this.adapter.registerDataSetObserver(new DataSetObserver() {
@@ -1836,64 +1835,149 @@ public class MainActivity extends Activity implements QueryInterface, KeyboardSc
         if (mDriveServiceHelper != null) {
             if (BuildConfig.DEBUG) Log.i(TAG, "Reading file " + fileId);
             showSpinner(R.string.loading_from_cloud);
-            mDriveServiceHelper.readFile(fileId)
-                    .addOnSuccessListener(nameAndContent -> {
-                        String name = nameAndContent.first;
-                        byte[] content = nameAndContent.second;
+            java.io.File backup = new java.io.File(getCacheDir(), "restore.zen");
+            mDriveServiceHelper.readFile(fileId, backup)
+                    .addOnSuccessListener(name -> {
                         if (BuildConfig.DEBUG) Log.i(TAG, "name " + name);
-                        getDataFromOpenedFile(content);
+                        getDataFromOpenedFile(backup);
                     })
-                    .addOnSuccessListener(stringPair -> dismissSpinner())
+                    .addOnSuccessListener(name -> dismissSpinner())
                     .addOnFailureListener(exception -> {
                         Toast.makeText(this, "Couldn't read file.", Toast.LENGTH_SHORT).show();
                         Log.e(TAG, "Couldn't read file.", exception);
+                        //noinspection ResultOfMethodCallIgnored
+                        backup.delete();
                         dismissSpinner();
                     });
 
         }
     }
 
-    private void getDataFromOpenedFile(byte[] content) {
-        try {
-            forwarderManager.removeWidgets();
-            mZenLayout = (ZenLayout) byteToObj(content);
-            DBHelper.writeDatabase(mZenLayout.getDataBase(), this);
-            int count = 0;
-            try {
-                count = loadJson(mZenLayout.getSavedSettings());
-            } catch (Exception e) {
-                Log.e(TAG, "can't load tags", e);
-                Toast.makeText(this, "can't load tags", Toast.LENGTH_LONG).show();
-            }
-            Toast.makeText(this, "loaded tags for " + count + " app(s)", Toast.LENGTH_SHORT).show();
-            try {
-                count = loadWidgetJson(mZenLayout.getSavedWidgets());
-            } catch (Exception e) {
-                Log.e(TAG, "can't load widgets", e);
-                Toast.makeText(this, "can't load tags", Toast.LENGTH_LONG).show();
+    /**
+     * Restore a layout from a downloaded backup.
+     * Every section is read (and its checksum checked) before anything gets replaced,
+     * the database and the wallpaper going through temporary files rather than memory.
+     *
+     * @param backup backup file, deleted once read
+     */
+    private void getDataFromOpenedFile(java.io.File backup) {
+        String settings = null;
+        String widgets = null;
+        java.io.File database = new java.io.File(getCacheDir(), "restore.db");
+        java.io.File wallpaper = new java.io.File(getCacheDir(), "restore.wallpaper");
+        //noinspection ResultOfMethodCallIgnored
+        database.delete();
+        //noinspection ResultOfMethodCallIgnored
+        wallpaper.delete();
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(backup))) {
+            if (ZenBackup.isBackup(in)) {
+                ZenBackup.Reader reader = new ZenBackup.Reader(in);
+                String section;
+                while ((section = reader.nextSection()) != null) {
+                    switch (section) {
+                        case ZenBackup.SECTION_SETTINGS:
+                            settings = reader.readText();
+                            break;
+                        case ZenBackup.SECTION_WIDGETS:
+                            widgets = reader.readText();
+                            break;
+                        case ZenBackup.SECTION_DATABASE:
+                            copyToFile(reader.getSectionStream(), database);
+                            break;
+                        case ZenBackup.SECTION_WALLPAPER:
+                            copyToFile(reader.getSectionStream(), wallpaper);
+                            break;
+                        default:
+                            // Written by a newer version, skipped
+                            Log.w(TAG, "Unknown backup section " + section);
+                    }
+                }
+            } else {
+                // Backups made before the sectioned format are a serialized ZenLayout
+                ZenLayout zenLayout = (ZenLayout) new ObjectInputStream(in).readObject();
+                settings = zenLayout.getSavedSettings();
+                widgets = zenLayout.getSavedWidgets();
+                // Like sections, a database or wallpaper missing from the backup is skipped
+                if (zenLayout.getDataBase() != null) {
+                    copyToFile(new ByteArrayInputStream(zenLayout.getDataBase()), database);
+                }
+                if (zenLayout.getData() != null) {
+                    copyToFile(new ByteArrayInputStream(zenLayout.getData()), wallpaper);
+                }
             }
-            Toast.makeText(this, "loaded widgets for " + count + " app(s)", Toast.LENGTH_LONG).show();
-
-        } catch (ClassNotFoundException e) {
-            Log.e(TAG, "ClassNotFoundException", e);
-            e.printStackTrace();
-        } catch (IOException e) {
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
             Toast.makeText(this, "can't load settings", Toast.LENGTH_LONG).show();
-            Log.e(TAG, "IOException", e);
-            e.printStackTrace();
+            Log.e(TAG, "Invalid backup", e);
+            //noinspection ResultOfMethodCallIgnored
+            database.delete();
+            //noinspection ResultOfMethodCallIgnored
+            wallpaper.delete();
+            return;
+        } finally {
+            //noinspection ResultOfMethodCallIgnored
+            backup.delete();
         }
-        if (mZenLayout != null) {
-            new Thread(() -> {
-                Bitmap bMap = BitmapFactory.decodeByteArray(mZenLayout.getData(), 0, mZenLayout.getData().length);
-                try {
-                    getApplicationContext().setWallpaper(bMap);
+
+        forwarderManager.removeWidgets();
+        if (database.isFile()) {
+            try (InputStream in = new FileInputStream(database)) {
+                DBHelper.writeDatabase(in, this);
+                KissApplication.getApplication(this).getDataHandler().invalidateQueryHistory();
+            } catch (IOException e) {
+                Toast.makeText(this, "can't load settings", Toast.LENGTH_LONG).show();
+                Log.e(TAG, "IOException", e);
+            }
+            //noinspection ResultOfMethodCallIgnored
+            database.delete();
+        }
+        int count = 0;
+        try {
+            count = loadJson(settings);
+        } catch (Exception e) {
+            Log.e(TAG, "can't load tags", e);
+            Toast.makeText(this, "can't load tags", Toast.LENGTH_LONG).show();
+        }
+        Toast.makeText(this, "loaded tags for " + count + " app(s)", Toast.LENGTH_SHORT).show();
+        try {
+            count = loadWidgetJson(widgets);
+        } catch (Exception e) {
+            Log.e(TAG, "can't load widgets", e);
+            Toast.makeText(this, "can't load tags", Toast.LENGTH_LONG).show();
+        }
+        Toast.makeText(this, "loaded widgets for " + count + " app(s)", Toast.LENGTH_LONG).show();
+
+        new Thread(() -> {
+            if (wallpaper.isFile()) {
+                try (InputStream in = new BufferedInputStream(new FileInputStream(wallpaper))) {
+                    getApplicationContext().setWallpaper(in);
                 } catch (IOException e) {
                     e.printStackTrace();
-                } catch (NullPointerException e) {
-                    e.printStackTrace();
                 }
-                System.exit(0);
-            }).start();
+                //noinspection ResultOfMethodCallIgnored
+                wallpaper.delete();
+            }
+            System.exit(0);
+        }).start();
+    }
+
+    private static void copyToFile(InputStream in, java.io.File target) throws IOException {
+        try (OutputStream out = new FileOutputStream(target)) {
+            ZenBackup.copy(in, out);
+        }
+    }
+
+    /**
+     * Write the current layout to a backup file, each part being streamed to its own section
+     *
+     * @param target file receiving the backup
+     */
+    private void writeBackup(java.io.File target) throws IOException, JSONException {
+        try (ZenBackup.Writer writer = new ZenBackup.Writer(new BufferedOutputStream(new FileOutputStream(target)))) {
+            writer.writeText(ZenBackup.SECTION_SETTINGS, getSerializedSettings2());
+            writer.writeText(ZenBackup.SECTION_WIDGETS, getSerializedWidgetSettings());
+            DBHelper.copyDatabaseTo(this, writer.openSection(ZenBackup.SECTION_DATABASE));
+            writeScreenShotWallPaper(writer.openSection(ZenBackup.SECTION_WALLPAPER));
         }
     }
 
@@ -1904,26 +1988,33 @@ public class MainActivity extends Activity implements QueryInterface, KeyboardSc
     private void saveFile(String fileId, String fileName) {
         if (mDriveServiceHelper != null) {
             if (BuildConfig.DEBUG) Log.i(TAG, "Saving " + fileId);
-            byte[] fileContent = null;
+            java.io.File backup = new java.io.File(getCacheDir(), "backup.zen");
             try {
-                mZenLayout = new ZenLayout(getSerializedSettings2(), getSerializedWidgetSettings(), getScreenShotWallPaper(), DBHelper.getDatabaseBytes());
-                fileContent = objToByte(mZenLayout);
-            } catch (IOException e) {
-                e.printStackTrace();
-            } catch (JSONException e) {
-                e.printStackTrace();
+                writeBackup(backup);
+            } catch (IOException | JSONException e) {
+                Log.e(TAG, "Unable to write backup", e);
+                //noinspection ResultOfMethodCallIgnored
+                backup.delete();
+                dismissSpinner();
+                Toast.makeText(getBaseContext(), "Unable to save",
+                        Toast.LENGTH_SHORT).show();
+                return;
             }
 
-            mDriveServiceHelper.saveFile(fileId, fileName, fileContent)
+            mDriveServiceHelper.saveFile(fileId, fileName, backup)
                     .addOnSuccessListener(new OnSuccessListener<Void>() {
                         @Override
                         public void onSuccess(Void aVoid) {
+                            //noinspection ResultOfMethodCallIgnored
+                            backup.delete();
                             dismissSpinner();
                             Toast.makeText(getBaseContext(), "Saved",
                                     Toast.LENGTH_SHORT).show();
                         }
                     })
                     .addOnFailureListener(exception -> {
+                        //noinspection ResultOfMethodCallIgnored
+                        backup.delete();
                         dismissSpinner();
                         Toast.makeText(getBaseContext(), "Unable to save",
                                 Toast.LENGTH_SHORT).show();
@@ -2310,7 +2401,7 @@ public class MainActivity extends Activity implements QueryInterface, KeyboardSc
             // Needs to be done after setting the text content to empty
             isDisplayingKissBar = true;
 
-            searchTask.executeOnExecutor(Searcher.SEARCH_THREAD);
+            runTask(searchTask);
 
             // Reveal the bar
             if (android.os.Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
@@ -2390,16 +2481,11 @@ public class MainActivity extends Activity implements QueryInterface, KeyboardSc
     }
 
     public void runTask(Searcher task) {
-        resetTask();
-        searchTask = task;
-        searchTask.executeOnExecutor(Searcher.SEARCH_THREAD);
+        searchScheduler.schedule(task);
     }
 
     public void resetTask() {
-        if (searchTask != null) {
-            searchTask.cancel(true);
-            searchTask = null;
-        }
+        searchScheduler.cancel();
     }
 
     protected void onPause() {
@@ -39,6 +39,8 @@ public class TagsHandler {
         DBHelper.insertTagsForId(this.context, tags, id);
         // add to cache
         tagsCache.put(id, tags);
+        // tags are searchable, previous query matches may be outdated
+        KissApplication.getApplication(context).getDataHandler().invalidateSearchCandidates();
     }
 
     public String getTags(String id) {
@@ -15,11 +15,12 @@ import androidx.annotation.NonNull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import fr.neamar.kiss.KissApplication;
-import fr.neamar.kiss.normalizer.StringNormalizer;
+import fr.neamar.kiss.normalizer.NormalizedQuery;
 import fr.neamar.kiss.result.AppResult;
 import fr.neamar.kiss.result.ContactsResult;
 import fr.neamar.kiss.result.PhoneResult;
@@ -40,6 +41,11 @@ public class RecordAdapter extends BaseAdapter implements SectionIndexer {
      * Array list containing all the results currently displayed
      */
     private List<Result> results;
+    /**
+     * Did the user interact with the results currently displayed (scroll, tap, long press)?
+     * They must then stay in place while the search completes, see mergeResults()
+     */
+    private boolean resultsTouched = false;
 
     // Mapping from letter to a position (only used for fast scroll, when viewing app list)
     private HashMap<String, Integer> alphaIndexer = new HashMap<>();
@@ -106,6 +112,7 @@ public class RecordAdapter extends BaseAdapter implements SectionIndexer {
 
 
     public void onLongClick(final int pos, View v) {
+        resultsTouched = true;
         ListPopup menu = results.get(pos).getPopupMenu(v.getContext(), this, v);
 
         //check if menu contains elements and if yes show it
@@ -116,6 +123,7 @@ public class RecordAdapter extends BaseAdapter implements SectionIndexer {
     }
 
     public void onClick(final int position, View v) {
+        resultsTouched = true;
         final Result result;
 
         try {
@@ -145,14 +153,48 @@ public class RecordAdapter extends BaseAdapter implements SectionIndexer {
         notifyDataSetChanged();
     }
 
-    public void updateResults(List<Result> results, String query) {
+    public void updateResults(List<Result> results, NormalizedQuery query) {
         this.results = results;
-        StringNormalizer.Result queryNormalized = StringNormalizer.normalizeWithResult(query, false);
+        this.resultsTouched = false;
 
-        fuzzyScore = new FuzzyScore(queryNormalized.codePoints, true);
+        // Only matched on display for results whose highlights were not computed by the searcher
+        fuzzyScore = new FuzzyScore(query, true);
         notifyDataSetChanged();
     }
 
+    /**
+     * Update results of a search that already displayed some of its results.
+     * If the user interacted with them in the meantime, the results already displayed keep their
+     * order and stay at the bottom of the list, new results are only added above them.
+     */
+    public void mergeResults(List<Result> results, NormalizedQuery query) {
+        if (!resultsTouched) {
+            updateResults(results, query);
+            return;
+        }
+
+        HashSet<String> displayedIds = new HashSet<>(this.results.size());
+        for (Result result : this.results) {
+            displayedIds.add(result.getPojoId());
+        }
+        ArrayList<Result> merged = new ArrayList<>(results.size() + this.results.size());
+        for (Result result : results) {
+            if (!displayedIds.contains(result.getPojoId())) {
+                merged.add(result);
+            }
+        }
+        merged.addAll(this.results);
+        this.results = merged;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Called when the user scrolls through the results
+     */
+    public void onResultsTouched() {
+        resultsTouched = true;
+    }
+
     /**
      * Force set transcript mode on the list.
      * Prefer to use `parent.temporarilyDisableTranscriptMode();`
@@ -12,7 +12,6 @@ import fi.zmengames.zen.ZEvent;
 import fr.neamar.kiss.BuildConfig;
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.dataprovider.AppProvider;
-import fr.neamar.kiss.pojo.AppPojo;
 import fr.neamar.kiss.utils.UserHandle;
 
 import static fr.neamar.kiss.MainActivity.REFRESH_UI;
@@ -30,6 +29,10 @@ public class PackageAddedRemovedHandler extends BroadcastReceiver {
     public static void handleEvent(Context ctx, String action, String packageName, UserHandle user, boolean replacing) {
         String className = null;
         if (BuildConfig.DEBUG) Log.d(TAG,"handleEvent, action:" + action);
+        if (packageName != null && ("android.intent.action.PACKAGE_ADDED".equals(action) || "android.intent.action.PACKAGE_REMOVED".equals(action))) {
+            // Installed, updated or removed package, its stored icons are outdated
+            KissApplication.getApplication(ctx).getIconsHandler().forgetIcons(packageName);
+        }
         if ("android.intent.action.PACKAGE_ADDED".equals(action) && !replacing) {
 
             KissApplication.getApplication(ctx).resetIconsHandler();
@@ -65,8 +68,7 @@ public class PackageAddedRemovedHandler extends BroadcastReceiver {
             final AppProvider provider = KissApplication.getApplication(ctx).getDataHandler().getAppProvider();
 
             if (provider != null) {
-                AppPojo appPojo = (AppPojo) provider.findByPackageName(packageName);
-                provider.removeApp(appPojo);
+                provider.removePackage(packageName, user);
             }
             ZEvent event = new ZEvent(ZEvent.State.INTERNAL_EVENT, REFRESH_UI);
             EventBus.getDefault().postSticky(event);
@@ -0,0 +1,184 @@
+package fr.neamar.kiss.cache;
+
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.os.Build;
+import android.os.UserManager;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import fr.neamar.kiss.BuildConfig;
+import fr.neamar.kiss.normalizer.StringNormalizer;
+import fr.neamar.kiss.pojo.AppPojo;
+import fr.neamar.kiss.utils.UserHandle;
+
+/**
+ * Apps found on last load, stored in a binary file along with their normalized names and tags,
+ * so that they can be searched on start before apps are listed again.
+ */
+public class AppCatalogSnapshot {
+    private static final String TAG = AppCatalogSnapshot.class.getSimpleName();
+
+    private static final String FILE_NAME = "app_catalog.bin";
+    private static final int MAGIC = 0x4b415050; // "KAPP"
+    /**
+     * Bump when the layout of the file changes, existing snapshots will then be ignored
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Snapshots are written in the background, one after the other
+     */
+    private static final Executor WRITER = Executors.newSingleThreadExecutor();
+
+    private AppCatalogSnapshot() {
+    }
+
+    /**
+     * Read the last stored snapshot
+     *
+     * @param context context
+     * @return stored apps, or null when there is no usable snapshot
+     */
+    @Nullable
+    public static ArrayList<AppPojo> read(@NonNull Context context) {
+        long start = System.nanoTime();
+        File file = new File(context.getFilesDir(), FILE_NAME);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int count = in.readInt();
+            ArrayList<AppPojo> apps = new ArrayList<>(Math.max(0, Math.min(count, 1024)));
+            for (int i = 0; i < count; i += 1) {
+                AppPojo app = readApp(context, in);
+                if (app != null) {
+                    apps.add(app);
+                }
+            }
+            long end = System.nanoTime();
+            if (BuildConfig.DEBUG) Log.i("time", (end - start) / 1000000 + " milliseconds to read " + apps.size() + " apps from snapshot");
+            return apps;
+        } catch (FileNotFoundException e) {
+            return null;
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to read app catalog snapshot " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Store a snapshot in the background, replacing the previous one once fully written
+     *
+     * @param context context
+     * @param apps    apps to store, must not be modified afterwards
+     */
+    public static void write(@NonNull Context context, @NonNull final List<AppPojo> apps) {
+        final File dir = context.getFilesDir();
+        WRITER.execute(() -> {
+            File file = new File(dir, FILE_NAME);
+            File tmp = new File(dir, FILE_NAME + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(apps.size());
+                for (AppPojo app : apps) {
+                    writeApp(out, app);
+                }
+            } catch (IOException e) {
+                Log.w(TAG, "Unable to write app catalog snapshot " + e);
+                //noinspection ResultOfMethodCallIgnored
+                tmp.delete();
+                return;
+            }
+            if (!tmp.renameTo(file)) {
+                Log.w(TAG, "Unable to replace app catalog snapshot");
+                //noinspection ResultOfMethodCallIgnored
+                tmp.delete();
+            }
+        });
+    }
+
+    private static void writeApp(DataOutputStream out, AppPojo app) throws IOException {
+        out.writeUTF(app.id);
+        out.writeUTF(app.packageName);
+        out.writeUTF(app.activityName);
+        out.writeBoolean(app.userHandle.isCurrentUser());
+        out.writeLong(app.userHandle.getSerial());
+        writeString(out, app.getName(), app.normalizedName);
+        writeString(out, app.getTags(), app.getNormalizedTags());
+        out.writeBoolean(app.isExcluded());
+        out.writeBoolean(app.isExcludedFromHistory());
+        out.writeLong(app.getCustomIconId());
+    }
+
+    /**
+     * @return the stored app, or null if it belongs to a user profile that no longer exists
+     */
+    @Nullable
+    private static AppPojo readApp(Context context, DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String packageName = in.readUTF();
+        String activityName = in.readUTF();
+        boolean currentUser = in.readBoolean();
+        long serial = in.readLong();
+        String name = in.readUTF();
+        StringNormalizer.Result normalizedName = readNormalized(in);
+        String tags = in.readUTF();
+        StringNormalizer.Result normalizedTags = readNormalized(in);
+        boolean excluded = in.readBoolean();
+        boolean excludedFromHistory = in.readBoolean();
+        long customIconId = in.readLong();
+
+        UserHandle user = currentUser ? new UserHandle() : getUser(context, serial);
+        if (user == null) {
+            return null;
+        }
+
+        AppPojo app = new AppPojo(id, packageName, activityName, user, excluded, excludedFromHistory);
+        app.setNormalizedName(name, normalizedName);
+        app.setNormalizedTags(tags, normalizedTags);
+        app.setCustomIconId(customIconId);
+        return app;
+    }
+
+    private static void writeString(DataOutputStream out, String text, StringNormalizer.Result normalized) throws IOException {
+        out.writeUTF(text == null ? "" : text);
+        out.writeBoolean(normalized != null);
+        if (normalized != null) {
+            normalized.writeTo(out);
+        }
+    }
+
+    @Nullable
+    private static StringNormalizer.Result readNormalized(DataInputStream in) throws IOException {
+        return in.readBoolean() ? StringNormalizer.Result.readFrom(in) : null;
+    }
+
+    @Nullable
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR1)
+    private static UserHandle getUser(Context context, long serial) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            return null;
+        }
+        UserManager manager = (UserManager) context.getSystemService(Context.USER_SERVICE);
+        android.os.UserHandle user = manager == null ? null : manager.getUserForSerialNumber(serial);
+        return user == null ? null : new UserHandle(serial, user);
+    }
+}
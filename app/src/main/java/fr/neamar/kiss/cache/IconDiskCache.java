@@ -0,0 +1,406 @@
+package fr.neamar.kiss.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Build;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Icons generated for one icon pack, stored in a single data file with an index file next to it:
+ * <ul>
+ * <li>`{name}.dat` holds the compressed icons one after the other</li>
+ * <li>`{name}.idx` holds, for each icon, its full key with its offset and length in the data file</li>
+ * </ul>
+ * The index is read in one go when the cache is opened and the data file is memory mapped,
+ * so getting an icon does not open any file.
+ * Icons are compressed and written in the background, in the order they were added.
+ */
+public class IconDiskCache {
+    private static final String TAG = IconDiskCache.class.getSimpleName();
+
+    /**
+     * Bump when the layout of the files changes, existing caches will then be dropped
+     */
+    private static final int FORMAT_VERSION = 1;
+    private static final int INDEX_MAGIC = 0x4b495353; // "KISS"
+    /**
+     * Rewrite the cache from scratch once it holds more than this many outdated entries
+     */
+    private static final int MAX_OUTDATED_ENTRIES = 64;
+
+    /**
+     * All file operations happen on this thread, so that opening, writing to and clearing caches
+     * always happen in the order they were requested
+     */
+    private static final Executor WRITER = Executors.newSingleThreadExecutor();
+    /**
+     * Cache currently in use for each folder
+     */
+    private static final Map<String, IconDiskCache> sOpenCaches = new HashMap<>();
+
+    private final File dir;
+    private final String name;
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    private final Map<String, Bitmap> pendingWrites = new ConcurrentHashMap<>();
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private volatile boolean closed = false;
+
+    // Written to from the writer thread only, read from any thread
+    private volatile RandomAccessFile dataFile = null;
+    // Only used from the writer thread
+    private DataOutputStream indexOutput = null;
+    private long dataLength = 0;
+    // Data written before the cache was opened, read without any system call
+    private volatile MappedByteBuffer mappedData = null;
+
+    private IconDiskCache(File dir, String name) {
+        this.dir = dir;
+        this.name = name;
+    }
+
+    /**
+     * Get the cache for an icon pack, loading it in the background the first time.
+     * Caches of other icon packs or versions are closed and deleted.
+     *
+     * @param dir         folder holding icon caches
+     * @param packName    package name of the icon pack
+     * @param packVersion version of the icon pack
+     * @return cache to use for this icon pack
+     */
+    public static IconDiskCache open(@NonNull File dir, @NonNull String packName, long packVersion) {
+        String name = "v" + FORMAT_VERSION + "_" + packName + "_" + packVersion;
+        synchronized (sOpenCaches) {
+            IconDiskCache cache = sOpenCaches.get(dir.getPath());
+            if (cache != null && cache.name.equals(name)) {
+                return cache;
+            }
+            if (cache != null) {
+                final IconDiskCache oldCache = cache;
+                oldCache.closed = true;
+                WRITER.execute(oldCache::closeFiles);
+            }
+            cache = new IconDiskCache(dir, name);
+            WRITER.execute(cache::load);
+            sOpenCaches.put(dir.getPath(), cache);
+            return cache;
+        }
+    }
+
+    /**
+     * Close the cache in use and delete all stored icons, e.g. once icons are drawn differently.
+     * The next {@link #open} starts from an empty cache.
+     *
+     * @param dir folder holding icon caches
+     */
+    public static void clear(@NonNull final File dir) {
+        synchronized (sOpenCaches) {
+            final IconDiskCache cache = sOpenCaches.remove(dir.getPath());
+            if (cache != null) {
+                cache.closed = true;
+            }
+            WRITER.execute(() -> {
+                if (cache != null) {
+                    cache.closeFiles();
+                }
+                deleteFiles(dir, null);
+            });
+        }
+    }
+
+    /**
+     * @param key full key of the icon
+     * @return the stored icon, or null when there is none
+     */
+    @Nullable
+    public Bitmap get(@NonNull String key) {
+        Bitmap pending = pendingWrites.get(key);
+        if (pending != null) {
+            return pending;
+        }
+
+        try {
+            loaded.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        Entry entry = index.get(key);
+        if (entry == null || closed) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = read(entry);
+            return BitmapFactory.decodeByteArray(bytes, 0, bytes.length);
+        } catch (IOException e) {
+            Log.e(TAG, "Unable to get drawable from cache " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Store an icon in the background
+     *
+     * @param key    full key of the icon
+     * @param bitmap icon, must not be modified afterwards
+     */
+    public void put(@NonNull final String key, @NonNull final Bitmap bitmap) {
+        if (closed) {
+            return;
+        }
+        pendingWrites.put(key, bitmap);
+        WRITER.execute(() -> {
+            try {
+                write(key, bitmap);
+            } catch (IOException e) {
+                Log.e(TAG, "Unable to store drawable in cache " + e);
+            } finally {
+                pendingWrites.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Remove in the background all icons whose key starts with the given prefix
+     *
+     * @param prefix beginning of the keys to remove, e.g. a package name
+     */
+    public void remove(@NonNull final String prefix) {
+        if (closed) {
+            return;
+        }
+        WRITER.execute(() -> {
+            try {
+                List<String> keys = new ArrayList<>();
+                for (String key : index.keySet()) {
+                    if (key.startsWith(prefix)) {
+                        keys.add(key);
+                    }
+                }
+                for (String key : keys) {
+                    writeRemoval(key);
+                }
+            } catch (IOException e) {
+                Log.e(TAG, "Unable to remove drawable from cache " + e);
+            }
+        });
+    }
+
+    private byte[] read(Entry entry) throws IOException {
+        byte[] bytes = new byte[entry.length];
+        MappedByteBuffer mapped = mappedData;
+        if (mapped != null && entry.offset + entry.length <= mapped.capacity()) {
+            ByteBuffer buffer = mapped.duplicate();
+            buffer.position((int) entry.offset);
+            buffer.get(bytes);
+        } else {
+            RandomAccessFile file = dataFile;
+            if (file == null) {
+                throw new IOException("cache is closed");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            FileChannel channel = file.getChannel();
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, entry.offset + buffer.position()) == -1) {
+                    throw new EOFException();
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Read the index and map the data file, runs on the writer thread
+     */
+    private void load() {
+        try {
+            deleteFiles(dir, name);
+            File data = new File(dir, name + ".dat");
+            File idx = new File(dir, name + ".idx");
+
+            int entries = 0;
+            boolean valid = true;
+            if (data.isFile() && idx.isFile()) {
+                long length = data.length();
+                DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(idx)));
+                try {
+                    valid = in.readInt() == INDEX_MAGIC;
+                    while (valid && in.available() > 0) {
+                        String key = in.readUTF();
+                        long offset = in.readLong();
+                        int size = in.readInt();
+                        if (size == 0) {
+                            // Icon was removed
+                            index.remove(key);
+                        } else {
+                            valid = offset >= 0 && size > 0 && offset + size <= length;
+                            // Later entries replace earlier ones for the same key
+                            index.put(key, new Entry(offset, size));
+                        }
+                        entries += 1;
+                    }
+                } catch (EOFException e) {
+                    // Last entry was only partially written
+                    valid = false;
+                } finally {
+                    in.close();
+                }
+            }
+            if (!valid || entries - index.size() > MAX_OUTDATED_ENTRIES) {
+                index.clear();
+                entries = 0;
+            }
+            if (entries == 0) {
+                //noinspection ResultOfMethodCallIgnored
+                data.delete();
+                //noinspection ResultOfMethodCallIgnored
+                idx.delete();
+            }
+
+            dataFile = new RandomAccessFile(data, "rw");
+            dataLength = dataFile.length();
+            if (dataLength > 0) {
+                mappedData = dataFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, dataLength);
+            }
+            indexOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(idx, true)));
+            if (entries == 0) {
+                indexOutput.writeInt(INDEX_MAGIC);
+                indexOutput.flush();
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Unable to open icon cache " + name + " " + e);
+            index.clear();
+            closeFiles();
+            closed = true;
+        } finally {
+            loaded.countDown();
+        }
+    }
+
+    /**
+     * Append an icon to the data file then reference it in the index, runs on the writer thread
+     */
+    private void write(String key, Bitmap bitmap) throws IOException {
+        if (closed || dataFile == null) {
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (!bitmap.compress(getCompressFormat(), 100, bytes)) {
+            return;
+        }
+
+        long offset = dataLength;
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        FileChannel channel = dataFile.getChannel();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+        dataLength += buffer.capacity();
+
+        indexOutput.writeUTF(key);
+        indexOutput.writeLong(offset);
+        indexOutput.writeInt(buffer.capacity());
+        indexOutput.flush();
+
+        index.put(key, new Entry(offset, buffer.capacity()));
+    }
+
+    /**
+     * Reference an icon with an empty entry in the index, runs on the writer thread
+     */
+    private void writeRemoval(String key) throws IOException {
+        if (closed || indexOutput == null) {
+            return;
+        }
+
+        indexOutput.writeUTF(key);
+        indexOutput.writeLong(0);
+        indexOutput.writeInt(0);
+        indexOutput.flush();
+
+        index.remove(key);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Bitmap.CompressFormat getCompressFormat() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+            return Bitmap.CompressFormat.WEBP_LOSSLESS;
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            // quality 100 means lossless from Android Q
+            return Bitmap.CompressFormat.WEBP;
+        }
+        return Bitmap.CompressFormat.PNG;
+    }
+
+    private void closeFiles() {
+        mappedData = null;
+        try {
+            if (indexOutput != null) {
+                indexOutput.close();
+            }
+            if (dataFile != null) {
+                dataFile.close();
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to close icon cache " + name + " " + e);
+        }
+        indexOutput = null;
+        dataFile = null;
+    }
+
+    /**
+     * @param dir  folder holding icon caches
+     * @param keep name of the cache whose files should be kept, null to delete all files
+     */
+    private static void deleteFiles(File dir, String keep) {
+        File[] fileList = dir.listFiles();
+        if (fileList == null) {
+            return;
+        }
+        for (File item : fileList) {
+            if (keep != null && item.getName().startsWith(keep + ".")) {
+                continue;
+            }
+            if (!item.delete()) {
+                Log.w(TAG, "Failed to delete file: " + item.getAbsolutePath());
+            }
+        }
+    }
+
+    private static final class Entry {
+        final long offset;
+        final int length;
+
+        Entry(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
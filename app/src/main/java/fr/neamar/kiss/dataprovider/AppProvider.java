@@ -8,34 +8,39 @@ import android.content.Intent;
 import android.content.IntentFilter;
 import android.content.SharedPreferences;
 import android.content.pm.LauncherApps;
+import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Process;
 import android.os.UserManager;
 import android.preference.PreferenceManager;
-import android.util.Log;
 
 import androidx.annotation.RequiresApi;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TimeZone;
 
 import fi.zmengames.zen.AlarmUtils;
-import fr.neamar.kiss.BuildConfig;
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.broadcast.PackageAddedRemovedHandler;
+import fr.neamar.kiss.cache.AppCatalogSnapshot;
 import fr.neamar.kiss.cache.MemoryCacheHelper;
 import fr.neamar.kiss.loader.LoadAppPojos;
+import fr.neamar.kiss.normalizer.NormalizedQuery;
 import fr.neamar.kiss.normalizer.StringNormalizer;
 import fr.neamar.kiss.pojo.AppPojo;
 import fr.neamar.kiss.pojo.Pojo;
+import fr.neamar.kiss.pojo.PojoComparator;
+import fr.neamar.kiss.pojo.ScoredPojo;
 import fr.neamar.kiss.pojo.SearchPojo;
 import fr.neamar.kiss.searcher.Searcher;
-import fr.neamar.kiss.utils.Base64Serialize;
 import fr.neamar.kiss.utils.FuzzyScore;
 import fr.neamar.kiss.utils.UserHandle;
 
@@ -45,6 +50,17 @@ import static fr.neamar.kiss.notification.NotificationListener.NOTIFICATION_PREF
 public class AppProvider extends Provider<AppPojo> {
     private SharedPreferences prefs;
     private static final String TAG = AppProvider.class.getSimpleName();
+    /**
+     * Apps by package name. A package can have more than one launcher activity,
+     * and is listed once per user profile it is installed in
+     */
+    private volatile Map<String, List<AppPojo>> pojosByPackageName = Collections.emptyMap();
+    /**
+     * Apps that are not excluded, in PojoComparator order. A published list is never modified:
+     * adding, removing or renaming an app publishes a patched copy, so readers get it as is
+     */
+    private volatile List<AppPojo> sortedApps = Collections.emptyList();
+    private final PojoComparator appComparator = new PojoComparator();
 
     @Override
     @SuppressLint("NewApi")
@@ -162,106 +178,227 @@ public class AppProvider extends Provider<AppPojo> {
 
     @Override
     public void requestResults(String query, Searcher searcher) {
-        StringNormalizer.Result queryNormalized = StringNormalizer.normalizeWithResult(query, false);
+        NormalizedQuery normalizedQuery = searcher.getNormalizedQuery(query);
+        StringNormalizer.Result queryNormalized = normalizedQuery.normalized;
 
         if (queryNormalized.codePoints.length == 0) {
             return;
         }
 
-        FuzzyScore fuzzyScore = new FuzzyScore(queryNormalized.codePoints);
+        FuzzyScore fuzzyScore = new FuzzyScore(normalizedQuery);
         FuzzyScore.MatchInfo matchInfo;
         boolean match;
-
-        for (AppPojo pojo : pojos) {
+        int relevance;
+
+        List<AppPojo> source = pojos;
+        ArrayList<AppPojo> matches = new ArrayList<>();
+        ArrayList<ScoredPojo> results = new ArrayList<>();
+        for (AppPojo pojo : getCandidates(source, queryNormalized)) {
+            if (searcher.shouldStop()) {
+                // Matches found so far can't narrow down the next query, only display them
+                searcher.addScoredResults(results);
+                return;
+            }
             if(pojo.isExcluded()) {
+                // Keep it as a candidate, it may be included back while the user is typing
+                matches.add(pojo);
                 continue;
             }
 
-            matchInfo = fuzzyScore.match(pojo.normalizedName.codePoints);
+            matchInfo = fuzzyScore.match(pojo.normalizedName);
             match = matchInfo.match;
-            pojo.relevance = matchInfo.score;
+            relevance = matchInfo.score;
 
             // check relevance for tags
             if (pojo.getNormalizedTags() != null) {
-                matchInfo = fuzzyScore.match(pojo.getNormalizedTags().codePoints);
-                if (matchInfo.match && (!match || matchInfo.score > pojo.relevance)) {
+                matchInfo = fuzzyScore.match(pojo.getNormalizedTags());
+                if (matchInfo.match && (!match || matchInfo.score > relevance)) {
                     match = true;
-                    pojo.relevance = matchInfo.score;
+                    relevance = matchInfo.score;
                 }
             }
 
-            if (match && !searcher.addResult(pojo)) {
-                return;
+            if (!match) {
+                continue;
+            }
+            matches.add(pojo);
+            if (searcher.mayKeep(pojo, relevance)) {
+                results.add(new ScoredPojo(pojo, relevance));
+            }
+        }
+        setCandidates(source, queryNormalized, matches);
+        searcher.addScoredResults(results);
+    }
+
+    @Override
+    StringNormalizer.Result[] getSearchableTexts(AppPojo pojo) {
+        return new StringNormalizer.Result[]{pojo.normalizedName, pojo.getNormalizedTags()};
+    }
+
+    @Override
+    void rebuildIndexes() {
+        super.rebuildIndexes();
+
+        HashMap<String, List<AppPojo>> byPackageName = new HashMap<>(pojos.size() * 2);
+        for (AppPojo pojo : pojos) {
+            if (pojo == null) {
+                continue;
             }
+            List<AppPojo> apps = byPackageName.get(pojo.packageName);
+            if (apps == null) {
+                apps = new ArrayList<>(1);
+                byPackageName.put(pojo.packageName, apps);
+            }
+            apps.add(pojo);
         }
+        pojosByPackageName = byPackageName;
     }
 
     /**
-     * Return a Pojo
+     * Return the first app of a package
      *
-     * @param id we're looking for
+     * @param packageName package we're looking for
      * @return an AppPojo, or null
      */
-    @Override
-    public Pojo findById(String id) {
-        for (Pojo pojo : pojos) {
-            if (pojo.id.equals(id)) {
-                return pojo;
+    public Pojo findByPackageName(String packageName) {
+        List<AppPojo> apps = pojosByPackageName.get(packageName);
+        return apps == null ? null : apps.get(0);
+    }
+
+    /**
+     * Return all apps of a package installed for a given user
+     *
+     * @param packageName package we're looking for
+     * @param user        user profile the package is installed in
+     * @return a possibly empty list, do not modify it
+     */
+    public List<AppPojo> findAllByPackageName(String packageName, UserHandle user) {
+        List<AppPojo> apps = pojosByPackageName.get(packageName);
+        if (apps == null) {
+            return Collections.emptyList();
+        }
+        ArrayList<AppPojo> userApps = new ArrayList<>(apps.size());
+        for (AppPojo pojo : apps) {
+            if (pojo.userHandle.isSameUser(user)) {
+                userApps.add(pojo);
             }
         }
-
-        return null;
+        return userApps;
     }
 
-    public Pojo findByPackageName(String packageName){
-        for (Pojo pojo : pojos) {
-            if (pojo.id.contains(packageName)) {
-                return pojo;
+    /**
+     * Sort all apps, when they are all replaced
+     */
+    private synchronized void sortApps() {
+        ArrayList<AppPojo> sorted = new ArrayList<>(pojos.size());
+        for (AppPojo pojo : pojos) {
+            if (pojo != null && !pojo.isExcluded()) {
+                sorted.add(pojo);
             }
         }
-        return null;
+        Collections.sort(sorted, appComparator);
+        sortedApps = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Move an app to its place in the sorted apps, to be called once it was added, excluded or
+     * included back
+     */
+    public synchronized void updateSortedApp(AppPojo app) {
+        ArrayList<AppPojo> sorted = new ArrayList<>(sortedApps);
+        int position = findSortedApp(sorted, app);
+        if (position >= 0) {
+            sorted.remove(position);
+        }
+        if (!app.isExcluded() && findById(app.id) == app) {
+            insertSortedApp(sorted, app);
+        }
+        sortedApps = Collections.unmodifiableList(sorted);
     }
 
-    ArrayList<Pojo> records = new ArrayList<>();
+    /**
+     * Give an app a new name and move it to its new place in the sorted apps
+     */
+    public synchronized void renameApp(AppPojo app, String name) {
+        // Found from its current name, before it changes
+        ArrayList<AppPojo> sorted = new ArrayList<>(sortedApps);
+        int position = findSortedApp(sorted, app);
+        app.setName(name);
+        if (position >= 0) {
+            sorted.remove(position);
+            insertSortedApp(sorted, app);
+            sortedApps = Collections.unmodifiableList(sorted);
+        }
+    }
 
-    public ArrayList<Pojo> getAllApps() {
-        records.clear();
-        for (AppPojo pojo : pojos) {
-            if (pojo!=null) {
-                if (BuildConfig.DEBUG) Log.d(TAG,"getAllApps4:" + pojo.activityName);
-                if(pojo.isExcluded()) continue;
-                pojo.relevance = 0;
-                records.add(pojo);
+    private synchronized void removeSortedApps(List<AppPojo> apps) {
+        ArrayList<AppPojo> sorted = new ArrayList<>(sortedApps);
+        for (AppPojo app : apps) {
+            int position = findSortedApp(sorted, app);
+            if (position >= 0) {
+                sorted.remove(position);
             }
         }
-        return records;
+        sortedApps = Collections.unmodifiableList(sorted);
     }
 
-    public ArrayList<Pojo> getAllAppsCached(){
-        if (records.size()>0){
-            return records;
-        } else {
-            for (AppPojo pojo : pojos) {
-                if (pojo!=null) {
-                    if(pojo.isExcluded()) continue;
-                    pojo.relevance = 0;
-                    records.add(pojo);
-                }
+    /**
+     * @return position of app in sorted, -1 if it is not there
+     */
+    private int findSortedApp(List<AppPojo> sorted, AppPojo app) {
+        int position = Collections.binarySearch(sorted, app, appComparator);
+        if (position < 0) {
+            return -1;
+        }
+        // Apps sorting the same are next to each other
+        for (int i = position; i >= 0 && appComparator.compare(sorted.get(i), app) == 0; i -= 1) {
+            if (sorted.get(i) == app) {
+                return i;
             }
-            return records;
         }
+        for (int i = position + 1; i < sorted.size() && appComparator.compare(sorted.get(i), app) == 0; i += 1) {
+            if (sorted.get(i) == app) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insertSortedApp(ArrayList<AppPojo> sorted, AppPojo app) {
+        int position = Collections.binarySearch(sorted, app, appComparator);
+        sorted.add(position < 0 ? -position - 1 : position, app);
     }
 
-    public void removeApp(AppPojo appPojo) {
-        pojos.remove(appPojo);
+    /**
+     * @return apps that are not excluded, sorted by name, do not modify it
+     */
+    public List<AppPojo> getAllApps() {
+        return sortedApps;
+    }
+
+    public synchronized void removeApp(AppPojo appPojo) {
+        ArrayList<AppPojo> apps = new ArrayList<>(pojos);
+        apps.remove(appPojo);
+        publishPojos(apps);
+        removeSortedApps(Collections.singletonList(appPojo));
+    }
+
+    public synchronized void removePackage(String packageName, UserHandle user) {
+        List<AppPojo> removed = findAllByPackageName(packageName, user);
+        if (removed.isEmpty()) {
+            return;
+        }
+        ArrayList<AppPojo> apps = new ArrayList<>(pojos);
+        apps.removeAll(removed);
+        publishPojos(apps);
+        removeSortedApps(removed);
     }
 
 
     public List<Pojo> getAppsWithNotif() {
-        records.clear();
+        ArrayList<Pojo> records = new ArrayList<>();
         for (AppPojo pojo : pojos) {
             if (pojo!=null) {
-                pojo.relevance = 0;
                 if (pojo.getBadgeCount() > 0 || pojo.getHasNotification()) {
                     if(pojo.isExcluded()) continue;
                     records.add(pojo);
@@ -284,39 +421,52 @@ public class AppProvider extends Provider<AppPojo> {
     @Override
     public void loadOver(ArrayList<AppPojo> results) {
         super.loadOver(results);
+        sortApps();
         saveCache();
     }
 
     private void saveCache() {
-        HashSet<String> appSet = new HashSet<>();
         Set<String> allKeys = new HashSet<>(prefs.getAll().keySet());
         for (AppPojo appPojo : pojos) {
-            String serializedPojo = Base64Serialize.encode(appPojo.id, appPojo.packageName, appPojo.activityName, appPojo.getName(), appPojo.isExcluded(), appPojo.isExcludedFromHistory());
-            appSet.add(serializedPojo);
             appPojo.setHasNotification(allKeys.contains(appPojo.packageName));
         }
-        SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(this);
-        prefs.edit().putStringSet("AppProviderCache", appSet).apply();
+        AppCatalogSnapshot.write(this, new ArrayList<>(pojos));
     }
 
+    /**
+     * Show apps from last load (with their names and tags already normalized) until they are
+     * listed again. The snapshot is read in the background, and ignored if apps were listed first
+     */
     private void loadCache() {
-        SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(this);
-        Set<String> appSet = prefs.getStringSet("AppProviderCache", null);
-        if (appSet == null)
-            return;
-        pojos.clear();
-        for (String serializedPojo : appSet) {
-            Object[] pojoData = Base64Serialize.decode(serializedPojo);
-            if (pojoData == null || pojoData.length != 5)
-                continue;
-            AppPojo app = new AppPojo((String) pojoData[0], (String) pojoData[1], (String) pojoData[2], new UserHandle(),(Boolean) pojoData[3],(Boolean) pojoData[4]);
-            app.setName((String) pojoData[3]);
-            pojos.add(app);
-        }
+        AsyncTask.THREAD_POOL_EXECUTOR.execute(() -> {
+            // Apps used to be stored in preferences
+            SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(this);
+            if (prefs.contains("AppProviderCache")) {
+                prefs.edit().remove("AppProviderCache").apply();
+            }
+
+            ArrayList<AppPojo> apps = AppCatalogSnapshot.read(this);
+            if (apps == null)
+                return;
+            synchronized (this) {
+                if (isLoaded() || !pojos.isEmpty())
+                    return;
+                publishPojos(apps);
+                sortApps();
+            }
+        });
     }
 
     public void addApp(String packageName, String className, UserHandle user, Context context) {
-        pojos.add(loadAppPojos.loadApp(packageName, user, className, context));
+        AppPojo app = loadAppPojos.loadApp(packageName, user, className, context);
+        if (app != null) {
+            synchronized (this) {
+                ArrayList<AppPojo> apps = new ArrayList<>(pojos);
+                apps.add(app);
+                publishPojos(apps);
+                updateSortedApp(app);
+            }
+        }
         MemoryCacheHelper.cacheAppIconDrawable(context, new ComponentName(packageName, className), user);
     }
 }
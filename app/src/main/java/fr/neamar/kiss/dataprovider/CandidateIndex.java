@@ -0,0 +1,424 @@
+package fr.neamar.kiss.dataprovider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import fr.neamar.kiss.normalizer.StringNormalizer;
+
+/**
+ * Inverted index telling which items may match a query, so that only those get scored.
+ * <p>
+ * Fuzzy matching looks for the query as a subsequence of a text, so indexing the character
+ * n-grams of texts would miss matches. Instead every ordered pair of characters (a, b) such that
+ * a appears somewhere before b in one of the texts of an item is indexed. An item can only match
+ * a query if it has every pair of consecutive query characters, so the candidates are the
+ * intersection of the lists of those pairs, starting with the shortest one.
+ * <p>
+ * An item has up to distinct² pairs per text, so only its main texts (e.g. names) are indexed
+ * that way. Its secondary texts (e.g. phone numbers, companies) only have their characters
+ * indexed: an item matching a query through a secondary text has every character of the query.
+ * Candidates are then the items having every pair of the query in their main texts, or every
+ * character of the query in their secondary texts.
+ * <p>
+ * Items are indexed incrementally: calling {@link #update(List)} only indexes items that were
+ * added or whose texts changed, and forgets items that were removed.
+ */
+public final class CandidateIndex<T> {
+    /**
+     * Shorter queries are cheap enough to run on every item
+     */
+    public static final int MIN_QUERY_LENGTH = 3;
+    /**
+     * Rebuild the index once it holds more than this many removed items (and more removed than
+     * live ones)
+     */
+    private static final int MAX_REMOVED_ITEMS = 64;
+
+    public interface SearchableTexts<T> {
+        /**
+         * @param item indexed item
+         * @return normalized texts a query is matched against (may contain null values), or
+         * null if the item is not searchable
+         */
+        StringNormalizer.Result[] get(T item);
+    }
+
+    private final SearchableTexts<T> searchableTexts;
+    private final SearchableTexts<T> secondaryTexts;
+    /**
+     * Items by slot, null once removed. Slots only grow so that posting lists stay sorted
+     */
+    private final ArrayList<T> items = new ArrayList<>();
+    /**
+     * Texts indexed for each slot, to find out which items changed
+     */
+    private final ArrayList<StringNormalizer.Result[]> itemTexts = new ArrayList<>();
+    private final ArrayList<StringNormalizer.Result[]> itemSecondaryTexts = new ArrayList<>();
+    private final IdentityHashMap<T, Integer> slots = new IdentityHashMap<>();
+    private final HashMap<Long, Postings> postings = new HashMap<>();
+    private List<T> source = null;
+    private int removedCount = 0;
+
+    public CandidateIndex(SearchableTexts<T> searchableTexts) {
+        this(searchableTexts, null);
+    }
+
+    /**
+     * @param searchableTexts main texts of the items, indexed by character pairs
+     * @param secondaryTexts  other texts of the items, only indexed by character, null for none
+     */
+    public CandidateIndex(SearchableTexts<T> searchableTexts, SearchableTexts<T> secondaryTexts) {
+        this.searchableTexts = searchableTexts;
+        this.secondaryTexts = secondaryTexts;
+    }
+
+    /**
+     * Bring the index in line with the given items
+     *
+     * @param current items to index, usually the provider pojos
+     */
+    public synchronized void update(List<T> current) {
+        source = current;
+        BitSet seen = new BitSet(items.size());
+        for (T item : current) {
+            if (item == null) {
+                continue;
+            }
+            StringNormalizer.Result[] texts = searchableTexts.get(item);
+            if (texts == null) {
+                continue;
+            }
+            StringNormalizer.Result[] secondary = secondaryTexts == null ? null : secondaryTexts.get(item);
+            Integer slot = slots.get(item);
+            if (slot != null && Arrays.equals(itemTexts.get(slot), texts)
+                    && Arrays.equals(itemSecondaryTexts.get(slot), secondary)) {
+                seen.set(slot);
+                continue;
+            }
+            if (slot != null) {
+                remove(slot);
+            }
+            seen.set(add(item, texts, secondary));
+        }
+        for (int slot = seen.nextClearBit(0); slot < items.size(); slot = seen.nextClearBit(slot + 1)) {
+            if (items.get(slot) != null) {
+                remove(slot);
+            }
+        }
+
+        if (removedCount > MAX_REMOVED_ITEMS && removedCount > slots.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * @param list a list of items
+     * @return true if the index was last updated from this list
+     */
+    public synchronized boolean isIndexing(List<T> list) {
+        return source == list;
+    }
+
+    /**
+     * Items that may match the query, all other indexed items can't
+     *
+     * @param query normalized query
+     * @return items having every pair of consecutive query characters in their main texts, or
+     * every query character in their secondary texts, in indexing order, or null when the index
+     * can't help (query too short, nothing indexed)
+     */
+    public synchronized List<T> getCandidates(int[] query) {
+        if (query.length < MIN_QUERY_LENGTH || slots.isEmpty()) {
+            return null;
+        }
+
+        long[] keys = new long[query.length - 1];
+        for (int i = 0; i < query.length - 1; i += 1) {
+            keys[i] = pairKey(Character.toLowerCase(query[i]), Character.toLowerCase(query[i + 1]));
+        }
+        int[] candidates = getSlots(keys);
+
+        if (secondaryTexts != null) {
+            long[] charKeys = new long[query.length];
+            for (int i = 0; i < query.length; i += 1) {
+                charKeys[i] = charKey(Character.toLowerCase(query[i]));
+            }
+            candidates = union(candidates, getSlots(charKeys));
+        }
+
+        ArrayList<T> result = new ArrayList<>(candidates.length);
+        for (int candidate : candidates) {
+            T item = items.get(candidate);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return slots found in the posting lists of all the keys, in increasing order
+     */
+    private int[] getSlots(long[] keys) {
+        Postings[] lists = new Postings[keys.length];
+        int count = 0;
+        for (long key : keys) {
+            Postings list = postings.get(key);
+            if (list == null) {
+                return new int[0];
+            }
+            boolean duplicate = false;
+            for (int j = 0; j < count && !duplicate; j += 1) {
+                duplicate = lists[j] == list;
+            }
+            if (!duplicate) {
+                lists[count++] = list;
+            }
+        }
+        Arrays.sort(lists, 0, count, (a, b) -> a.size - b.size);
+
+        int[] candidates = Arrays.copyOf(lists[0].slots, lists[0].size);
+        int candidateCount = candidates.length;
+        for (int i = 1; i < count && candidateCount > 0; i += 1) {
+            candidateCount = intersect(candidates, candidateCount, lists[i]);
+        }
+        return Arrays.copyOf(candidates, candidateCount);
+    }
+
+    /**
+     * @return slots found in either of two sorted arrays, in increasing order
+     */
+    private static int[] union(int[] a, int[] b) {
+        int[] merged = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length || j < b.length) {
+            int next;
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j += 1;
+            }
+            merged[count++] = next;
+        }
+        return Arrays.copyOf(merged, count);
+    }
+
+    /**
+     * @return number of keys (character pairs and characters) in the index
+     */
+    public synchronized int getKeyCount() {
+        return postings.size();
+    }
+
+    /**
+     * @return number of entries in all posting lists, including items removed since the last
+     * rebuild
+     */
+    public synchronized long getPostingCount() {
+        long count = 0;
+        for (Postings list : postings.values()) {
+            count += list.size;
+        }
+        return count;
+    }
+
+    /**
+     * Keep the candidates found in list, looked up by binary search from the last position found
+     * since the candidates are usually much fewer than the list entries
+     *
+     * @return number of candidates kept, moved to the beginning of candidates
+     */
+    private static int intersect(int[] candidates, int candidateCount, Postings list) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < candidateCount && from < list.size; i += 1) {
+            int position = Arrays.binarySearch(list.slots, from, list.size, candidates[i]);
+            if (position >= 0) {
+                candidates[kept++] = candidates[i];
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+        }
+        return kept;
+    }
+
+    private int add(T item, StringNormalizer.Result[] texts, StringNormalizer.Result[] secondary) {
+        int slot = items.size();
+        items.add(item);
+        itemTexts.add(texts);
+        itemSecondaryTexts.add(secondary);
+        slots.put(item, slot);
+
+        for (long key : pairKeys(texts)) {
+            addPosting(key, slot);
+        }
+        if (secondary != null) {
+            for (long key : charKeys(secondary)) {
+                addPosting(key, slot);
+            }
+        }
+        return slot;
+    }
+
+    private void addPosting(long key, int slot) {
+        Postings list = postings.get(key);
+        if (list == null) {
+            list = new Postings();
+            postings.put(key, list);
+        }
+        list.add(slot);
+    }
+
+    /**
+     * Forget an item, its slot stays in the posting lists until the next rebuild
+     */
+    private void remove(int slot) {
+        slots.remove(items.get(slot));
+        items.set(slot, null);
+        itemTexts.set(slot, null);
+        itemSecondaryTexts.set(slot, null);
+        removedCount += 1;
+    }
+
+    private void rebuild() {
+        ArrayList<T> liveItems = new ArrayList<>(slots.size());
+        ArrayList<StringNormalizer.Result[]> liveTexts = new ArrayList<>(slots.size());
+        ArrayList<StringNormalizer.Result[]> liveSecondaryTexts = new ArrayList<>(slots.size());
+        for (int slot = 0; slot < items.size(); slot += 1) {
+            if (items.get(slot) != null) {
+                liveItems.add(items.get(slot));
+                liveTexts.add(itemTexts.get(slot));
+                liveSecondaryTexts.add(itemSecondaryTexts.get(slot));
+            }
+        }
+        items.clear();
+        itemTexts.clear();
+        itemSecondaryTexts.clear();
+        slots.clear();
+        postings.clear();
+        removedCount = 0;
+        for (int i = 0; i < liveItems.size(); i += 1) {
+            add(liveItems.get(i), liveTexts.get(i), liveSecondaryTexts.get(i));
+        }
+    }
+
+    /**
+     * @return sorted, distinct keys of the ordered character pairs found in the texts
+     */
+    private static long[] pairKeys(StringNormalizer.Result[] texts) {
+        long[] keys = new long[16];
+        int keyCount = 0;
+        for (StringNormalizer.Result text : texts) {
+            if (text == null) {
+                continue;
+            }
+            int[] codePoints = text.codePoints;
+            // Distinct characters, with their first and last positions
+            int[] chars = new int[codePoints.length];
+            int[] first = new int[codePoints.length];
+            int[] last = new int[codePoints.length];
+            int charCount = 0;
+            for (int i = 0; i < codePoints.length; i += 1) {
+                int c = Character.toLowerCase(codePoints[i]);
+                int j = 0;
+                while (j < charCount && chars[j] != c) {
+                    j += 1;
+                }
+                if (j == charCount) {
+                    chars[charCount] = c;
+                    first[charCount] = i;
+                    charCount += 1;
+                }
+                last[j] = i;
+            }
+            // a appears before b if its first occurrence is before the last occurrence of b
+            for (int a = 0; a < charCount; a += 1) {
+                for (int b = 0; b < charCount; b += 1) {
+                    if (first[a] < last[b]) {
+                        if (keyCount == keys.length) {
+                            keys = Arrays.copyOf(keys, keyCount * 2);
+                        }
+                        keys[keyCount++] = pairKey(chars[a], chars[b]);
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(keys, 0, keyCount);
+        int distinct = 0;
+        for (int i = 0; i < keyCount; i += 1) {
+            if (distinct == 0 || keys[distinct - 1] != keys[i]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    /**
+     * @return sorted, distinct keys of the characters found in the texts
+     */
+    private static long[] charKeys(StringNormalizer.Result[] texts) {
+        int length = 0;
+        for (StringNormalizer.Result text : texts) {
+            if (text != null) {
+                length += text.codePoints.length;
+            }
+        }
+        long[] keys = new long[length];
+        int keyCount = 0;
+        for (StringNormalizer.Result text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (int codePoint : text.codePoints) {
+                keys[keyCount++] = charKey(Character.toLowerCase(codePoint));
+            }
+        }
+
+        Arrays.sort(keys, 0, keyCount);
+        int distinct = 0;
+        for (int i = 0; i < keyCount; i += 1) {
+            if (distinct == 0 || keys[distinct - 1] != keys[i]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    private static long pairKey(int a, int b) {
+        return ((long) a << 32) | (b & 0xffffffffL);
+    }
+
+    /**
+     * Key of a single character, code points being positive it never collides with a pair key
+     */
+    private static long charKey(int c) {
+        return pairKey(-1, c);
+    }
+
+    /**
+     * Slots of the items having a given pair, in increasing order
+     */
+    private static final class Postings {
+        int[] slots = new int[4];
+        int size = 0;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
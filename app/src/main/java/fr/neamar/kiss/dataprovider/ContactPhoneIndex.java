@@ -0,0 +1,128 @@
+package fr.neamar.kiss.dataprovider;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.neamar.kiss.normalizer.PhoneNormalizer;
+import fr.neamar.kiss.normalizer.StringNormalizer;
+import fr.neamar.kiss.pojo.ContactsPojo;
+
+/**
+ * Contacts by phone number, built once for a list of contacts and never modified.
+ * <p/>
+ * Numbers are compared on their significant digits: leading zeros (trunk prefix or "00"
+ * international prefix) and separators are ignored. Numbers match when they are the same, or when
+ * one ends with the other on at least {@link #PHONE_MATCH_DIGITS} digits, so that
+ * "+33 6 12 34 56 78", "0033612345678" and "06 12 34 56 78" are the same number.
+ * Shorter numbers (e.g. short codes) only match exactly.
+ */
+final class ContactPhoneIndex {
+    /**
+     * Numbers are compared on their last digits, so that international and national
+     * notations of a number match (Android compares numbers on as many digits)
+     */
+    static final int PHONE_MATCH_DIGITS = 7;
+
+    /**
+     * Contacts by the last {@link #PHONE_MATCH_DIGITS} significant digits of their number
+     */
+    private final Map<String, List<PhoneEntry>> pojosByPhoneKey;
+
+    ContactPhoneIndex(List<ContactsPojo> pojos) {
+        pojosByPhoneKey = new HashMap<>(pojos.size() * 2);
+        for (ContactsPojo pojo : pojos) {
+            if (pojo == null || pojo.normalizedPhone == null) {
+                continue;
+            }
+            String digits = getSignificantDigits(pojo.normalizedPhone);
+            if (digits.isEmpty()) {
+                continue;
+            }
+            String key = getPhoneKey(digits);
+            List<PhoneEntry> entries = pojosByPhoneKey.get(key);
+            if (entries == null) {
+                entries = new ArrayList<>(1);
+                pojosByPhoneKey.put(key, entries);
+            }
+            entries.add(new PhoneEntry(pojo, digits));
+        }
+    }
+
+    /**
+     * If many contacts match, an identical number is preferred, then the contact most often contacted.
+     *
+     * @param phoneNumber phone number to find (will be normalized)
+     * @return a contact, or null.
+     */
+    ContactsPojo find(String phoneNumber) {
+        StringNormalizer.Result simplifiedPhoneNumber = PhoneNormalizer.simplifyPhoneNumber(phoneNumber);
+        String digits = getSignificantDigits(simplifiedPhoneNumber);
+        if (digits.isEmpty()) {
+            return null;
+        }
+
+        List<PhoneEntry> entries = pojosByPhoneKey.get(getPhoneKey(digits));
+        if (entries == null) {
+            return null;
+        }
+
+        ContactsPojo best = null;
+        for (PhoneEntry entry : entries) {
+            if (!isSameNumber(digits, entry.digits)) {
+                continue;
+            }
+            if (entry.pojo.normalizedPhone.equals(simplifiedPhoneNumber)) {
+                return entry.pojo;
+            }
+            if (best == null || entry.pojo.timesContacted > best.timesContacted) {
+                best = entry.pojo;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param phone simplified phone number
+     * @return its digits, without leading zeros (trunk prefix or "00" international prefix)
+     */
+    private static String getSignificantDigits(StringNormalizer.Result phone) {
+        StringBuilder digits = new StringBuilder(phone.codePoints.length);
+        for (int codePoint : phone.codePoints) {
+            int digit = Character.digit(codePoint, 10);
+            if (digit == 0 && digits.length() == 0) {
+                continue;
+            }
+            if (digit >= 0) {
+                digits.append((char) ('0' + digit));
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * @param digits significant digits of a phone number
+     * @return key of the number in pojosByPhoneKey, the same for all numbers that may match it
+     */
+    private static String getPhoneKey(String digits) {
+        return digits.length() <= PHONE_MATCH_DIGITS ? digits : digits.substring(digits.length() - PHONE_MATCH_DIGITS);
+    }
+
+    private static boolean isSameNumber(String digits, String otherDigits) {
+        if (Math.min(digits.length(), otherDigits.length()) < PHONE_MATCH_DIGITS) {
+            return digits.equals(otherDigits);
+        }
+        return digits.length() > otherDigits.length() ? digits.endsWith(otherDigits) : otherDigits.endsWith(digits);
+    }
+
+    private static final class PhoneEntry {
+        final ContactsPojo pojo;
+        final String digits;
+
+        PhoneEntry(ContactsPojo pojo, String digits) {
+            this.pojo = pojo;
+            this.digits = digits;
+        }
+    }
+}
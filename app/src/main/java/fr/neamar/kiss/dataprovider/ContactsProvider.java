@@ -4,17 +4,23 @@ import android.database.ContentObserver;
 import android.provider.ContactsContract;
 import android.util.Log;
 
+import androidx.collection.LruCache;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import fr.neamar.kiss.BuildConfig;
 import fr.neamar.kiss.forwarder.Permission;
 import fr.neamar.kiss.loader.LoadContactsPojos;
-import fr.neamar.kiss.normalizer.PhoneNormalizer;
+import fr.neamar.kiss.normalizer.NormalizedQuery;
 import fr.neamar.kiss.normalizer.StringNormalizer;
 import fr.neamar.kiss.pojo.ContactsPojo;
 import fr.neamar.kiss.pojo.PhoneAddPojo;
 import fr.neamar.kiss.pojo.Pojo;
+import fr.neamar.kiss.pojo.ScoredPojo;
 import fr.neamar.kiss.searcher.Searcher;
 import fr.neamar.kiss.utils.FuzzyScore;
 
@@ -22,7 +28,25 @@ import static fr.neamar.kiss.dataprovider.simpleprovider.PhoneProvider.PHONE_SCH
 
 public class ContactsProvider extends Provider<ContactsPojo> {
     private static final String TAG = ContactsProvider.class.getSimpleName();
-    ArrayList<Pojo> records = new ArrayList<>();
+    /**
+     * Contacts updated after this time are not loaded yet, 0 until a first full load completed
+     */
+    private volatile long syncedUntil = 0;
+    /**
+     * Contacts by phone number, replaced rather than modified whenever pojos change
+     */
+    private volatile ContactPhoneIndex phoneIndex = new ContactPhoneIndex(Collections.<ContactsPojo>emptyList());
+    /**
+     * Contacts by normalized, lower-cased name
+     */
+    private volatile Map<String, List<ContactsPojo>> pojosByName = Collections.emptyMap();
+    private static final int RECENT_NAMES_SIZE = 32;
+    private static final ContactsPojo[] NO_CONTACT = new ContactsPojo[0];
+    /**
+     * Last names looked up with {@link #findByName(String)}, including the ones not matching any
+     * contact (e.g. group conversations notifying over and over)
+     */
+    private volatile LruCache<String, ContactsPojo[]> recentNames = new LruCache<>(RECENT_NAMES_SIZE);
     private final ContentObserver cObserver = new ContentObserver(null) {
 
         @Override
@@ -35,7 +59,21 @@ public class ContactsProvider extends Provider<ContactsPojo> {
     @Override
     public void reload() {
         super.reload();
-        this.initialize(new LoadContactsPojos(this));
+        if (isLoaded() && syncedUntil > 0) {
+            // Only read again the contacts that changed since the last load
+            this.initialize(new LoadContactsPojos(this, pojos, syncedUntil));
+        } else {
+            this.initialize(new LoadContactsPojos(this));
+        }
+    }
+
+    /**
+     * Remember when the contacts were last loaded, to be called by the loader before {@link #loadOver}
+     *
+     * @param syncedUntil time from which contact changes have to be read again
+     */
+    public void setSyncedUntil(long syncedUntil) {
+        this.syncedUntil = syncedUntil;
     }
 
     @Override
@@ -57,16 +95,14 @@ public class ContactsProvider extends Provider<ContactsPojo> {
 
     public ArrayList<Pojo> getAllContacts() {
         if (BuildConfig.DEBUG) Log.d(TAG,"getAllContacts");
-        records.clear();
+        List<ContactsPojo> contacts = pojos;
+        ArrayList<Pojo> records = new ArrayList<>(contacts.size() + 1);
         PhoneAddPojo pojoPhone = new PhoneAddPojo(PHONE_SCHEME + "", "");
         pojoPhone.relevance = 20;
         pojoPhone.normalizedName = StringNormalizer.normalizeWithResult("", false);
 
         records.add(pojoPhone);
-        for (ContactsPojo pojo : pojos) {
-            pojo.relevance = 0;
-            records.add(pojo);
-        }
+        records.addAll(contacts);
         return records;
     }
 
@@ -74,95 +110,163 @@ public class ContactsProvider extends Provider<ContactsPojo> {
     public void requestResults(String query, Searcher searcher) {
         if (BuildConfig.DEBUG) Log.d(TAG,"requestResults");
 
-        StringNormalizer.Result queryNormalized = StringNormalizer.normalizeWithResult(query, false);
+        NormalizedQuery normalizedQuery = searcher.getNormalizedQuery(query);
+        StringNormalizer.Result queryNormalized = normalizedQuery.normalized;
 
         if (queryNormalized.codePoints.length == 0) {
             return;
         }
 
-        FuzzyScore fuzzyScore = new FuzzyScore(queryNormalized.codePoints);
+        FuzzyScore fuzzyScore = new FuzzyScore(normalizedQuery);
         FuzzyScore.MatchInfo matchInfo;
         boolean match;
+        int relevance;
 
-        for (ContactsPojo pojo : pojos) {
-            matchInfo = fuzzyScore.match(pojo.normalizedName.codePoints);
+        List<ContactsPojo> source = pojos;
+        ArrayList<ContactsPojo> matches = new ArrayList<>();
+        ArrayList<ScoredPojo> results = new ArrayList<>();
+        for (ContactsPojo pojo : getCandidates(source, queryNormalized)) {
+            if (searcher.shouldStop()) {
+                // Matches found so far can't narrow down the next query, only display them
+                searcher.addScoredResults(results);
+                return;
+            }
+            matchInfo = fuzzyScore.match(pojo.normalizedName);
             match = matchInfo.match;
-            pojo.relevance = matchInfo.score;
+            relevance = matchInfo.score;
 
             if (pojo.normalizedNickname != null) {
-                matchInfo = fuzzyScore.match(pojo.normalizedNickname.codePoints);
-                if (matchInfo.match && (!match || matchInfo.score > pojo.relevance)) {
+                matchInfo = fuzzyScore.match(pojo.normalizedNickname);
+                if (matchInfo.match && (!match || matchInfo.score > relevance)) {
                     match = true;
-                    pojo.relevance = matchInfo.score;
+                    relevance = matchInfo.score;
                 }
             }
 
             if (!match && queryNormalized.length() > 2) {
                 // search for the phone number
-                matchInfo = fuzzyScore.match(pojo.normalizedPhone.codePoints);
+                matchInfo = fuzzyScore.match(pojo.normalizedPhone);
                 match = matchInfo.match;
-                pojo.relevance = matchInfo.score;
+                relevance = matchInfo.score;
             }
 
             if (!match && pojo.normalizedCompany!=null) {
                 // search for the company
-                matchInfo = fuzzyScore.match(pojo.normalizedCompany.codePoints);
+                matchInfo = fuzzyScore.match(pojo.normalizedCompany);
                 match = matchInfo.match;
-                pojo.relevance = matchInfo.score;
+                relevance = matchInfo.score;
             }
 
             if (!match && pojo.normalizedTitle!=null) {
                 // search for the title
-                matchInfo = fuzzyScore.match(pojo.normalizedTitle.codePoints);
+                matchInfo = fuzzyScore.match(pojo.normalizedTitle);
                 match = matchInfo.match;
-                pojo.relevance = matchInfo.score;
+                relevance = matchInfo.score;
             }
 
             if (match) {
-                pojo.relevance += Math.min(15, pojo.timesContacted);
+                relevance += Math.min(15, pojo.timesContacted);
                 if(pojo.starred) {
-                    pojo.relevance += 15;
+                    relevance += 15;
                 }
 
-                if (!searcher.addResult(pojo))
-                    return;
+                matches.add(pojo);
+                if (searcher.mayKeep(pojo, relevance)) {
+                    results.add(new ScoredPojo(pojo, relevance));
+                }
             }
         }
+        setCandidates(source, queryNormalized, matches);
+        searcher.addScoredResults(results);
+    }
+
+    @Override
+    StringNormalizer.Result[] getSearchableTexts(ContactsPojo pojo) {
+        return new StringNormalizer.Result[]{pojo.normalizedName, pojo.normalizedNickname};
+    }
+
+    @Override
+    StringNormalizer.Result[] getSecondaryTexts(ContactsPojo pojo) {
+        return new StringNormalizer.Result[]{pojo.normalizedPhone, pojo.normalizedCompany, pojo.normalizedTitle};
+    }
+
+    @Override
+    boolean canNarrow(int[] previousQuery, int[] query) {
+        // Phone numbers are only searched from the third character on,
+        // matches from shorter queries don't include contacts found by phone
+        return super.canNarrow(previousQuery, query) && (previousQuery.length > 2 || query.length <= 2);
+    }
+
+    @Override
+    void rebuildIndexes() {
+        super.rebuildIndexes();
+
+        phoneIndex = new ContactPhoneIndex(pojos);
+
+        HashMap<String, List<ContactsPojo>> byName = new HashMap<>(pojos.size() * 2);
+        for (ContactsPojo pojo : pojos) {
+            if (pojo == null || pojo.getName() == null) {
+                continue;
+            }
+            String key = getNameKey(pojo.getName());
+            List<ContactsPojo> contacts = byName.get(key);
+            if (contacts == null) {
+                contacts = new ArrayList<>(1);
+                byName.put(key, contacts);
+            }
+            contacts.add(pojo);
+        }
+        pojosByName = byName;
+        recentNames = new LruCache<>(RECENT_NAMES_SIZE);
     }
 
     /**
-     * Find a ContactsPojo from a phoneNumber
-     * If many contacts match, the one most often contacted will be returned
+     * Find a ContactsPojo from a phoneNumber, see {@link ContactPhoneIndex} for how numbers match.
+     * If many contacts match, an identical number is preferred, then the contact most often contacted.
      *
      * @param phoneNumber phone number to find (will be normalized)
      * @return a contactpojo, or null.
      */
     public ContactsPojo findByPhone(String phoneNumber) {
-        StringNormalizer.Result simplifiedPhoneNumber = PhoneNormalizer.simplifyPhoneNumber(phoneNumber);
-
-        for (ContactsPojo pojo : pojos) {
-            if (pojo.normalizedPhone.equals(simplifiedPhoneNumber)) {
-                return pojo;
-            }
-        }
-
-        return null;
+        return phoneIndex.find(phoneNumber);
     }
 
+    /**
+     * Find a contact from its name, e.g. the title of a messaging notification.
+     * Names are compared once normalized, a contact with the exact same name being preferred.
+     *
+     * @param name name to find
+     * @return a contact, or null.
+     */
     public ContactsPojo findByName(String name) {
-
-        for (ContactsPojo pojo : pojos) {
-            if (pojo.getName().equals(name)) {
-                return pojo;
+        if (name == null) {
+            return null;
+        }
+        LruCache<String, ContactsPojo[]> recentNames = this.recentNames;
+        ContactsPojo[] found = recentNames.get(name);
+        if (found == null) {
+            List<ContactsPojo> contacts = pojosByName.get(getNameKey(name));
+            found = NO_CONTACT;
+            if (contacts != null) {
+                found = new ContactsPojo[]{contacts.get(0)};
+                for (ContactsPojo pojo : contacts) {
+                    if (name.equals(pojo.getName())) {
+                        found[0] = pojo;
+                        break;
+                    }
+                }
             }
+            recentNames.put(name, found);
         }
+        return found.length == 0 ? null : found[0];
+    }
 
-        return null;
+    private static String getNameKey(String name) {
+        return StringNormalizer.normalizeWithResult(name, true).toString();
     }
     public List<Pojo> getContactsWithNotif() {
-        records.clear();
+        ArrayList<Pojo> records = new ArrayList<>();
         for (ContactsPojo pojo : pojos) {
-            pojo.relevance = 0;
             if (pojo.getHasNotification()) {
                 records.add(pojo);
             }
@@ -11,7 +11,8 @@ import fr.neamar.kiss.searcher.Searcher;
 public interface IProvider {
 
     /**
-     * Post search results for the given query string to the searcher
+     * Post search results for the given query string to the searcher, preferably all at once
+     * with {@link Searcher#addScoredResults(java.util.List)} once they have been found
      *
      * @param s        Some string query (usually provided by an user)
      * @param searcher The receiver of results
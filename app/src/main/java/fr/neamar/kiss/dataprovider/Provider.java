@@ -11,11 +11,15 @@ import org.greenrobot.eventbus.EventBus;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import fi.zmengames.zen.ZEvent;
 import fr.neamar.kiss.BuildConfig;
 import fr.neamar.kiss.loader.LoadPojos;
+import fr.neamar.kiss.normalizer.StringNormalizer;
 import fr.neamar.kiss.pojo.Pojo;
 
 public abstract class Provider<T extends Pojo> extends Service implements IProvider {
@@ -26,14 +30,36 @@ public abstract class Provider<T extends Pojo> extends Service implements IProvi
      */
     private final IBinder binder = new LocalBinder();
     /**
-     * Storage for search items used by this provider
+     * Storage for search items used by this provider.
+     * A published list is never modified: loaders and changes publish a new list (see
+     * publishPojos), so it can be read from any thread without locking. A new list is a new
+     * version, anything computed from pojos is current as long as it was computed from the same list
      */
-    public List<T> pojos = new ArrayList<>();
+    public volatile List<T> pojos = Collections.emptyList();
     private boolean loaded = false;
     /**
      * Scheme used to build ids for the pojos created by this provider
      */
     private String pojoScheme = "(none)://";
+    /**
+     * Pojos that matched the last completed query, so that a query extending it
+     * (the user typing one more character) only needs to rescore those
+     */
+    private volatile Candidates<T> lastCandidates = null;
+    /**
+     * Pojos by id, rebuilt whenever pojos change.
+     * The map is replaced rather than modified, so lookups from other threads never see a partial update
+     */
+    private volatile Map<String, T> pojosById = Collections.emptyMap();
+    /**
+     * Pojos that may match a query, for providers returning their searchable texts
+     */
+    private final CandidateIndex<T> candidateIndex = new CandidateIndex<>(this::getSearchableTexts, this::getSecondaryTexts);
+    /**
+     * Number of re-indexings of renamed or re-tagged pojos not done yet, the candidate index
+     * can't be trusted until they are
+     */
+    private final AtomicInteger pendingReindexes = new AtomicInteger();
 
     /**
      * (Re-)load the providers resources when the provider has been completely initialized
@@ -69,13 +95,24 @@ public abstract class Provider<T extends Pojo> extends Service implements IProvi
         Log.i(TAG, "Done loading provider: " + this.getClass().getSimpleName());
 
         // Store results
-        this.pojos = results;
+        publishPojos(results);
         this.loaded = true;
 
         // Broadcast this event
         EventBus.getDefault().postSticky(new ZEvent(ZEvent.State.LOAD_OVER));
     }
 
+    /**
+     * Replace pojos, the new list must not be modified afterwards
+     *
+     * @param newPojos pojos to publish
+     */
+    synchronized void publishPojos(List<T> newPojos) {
+        this.pojos = Collections.unmodifiableList(newPojos);
+        rebuildIndexes();
+        invalidateCandidates();
+    }
+
     /**
      * Tells whether or not this provider may be able to find the pojo with
      * specified id
@@ -95,15 +132,130 @@ public abstract class Provider<T extends Pojo> extends Service implements IProvi
      * @return null if not found
      */
     public Pojo findById(String id) {
-        for (Pojo pojo : pojos) {
-            if (pojo.id.equals(id)) {
-                return pojo;
+        return pojosById.get(id);
+    }
+
+    /**
+     * Rebuild lookup indexes from pojos, to be called whenever pojos is replaced or modified
+     */
+    void rebuildIndexes() {
+        HashMap<String, T> byId = new HashMap<>(pojos.size() * 2);
+        for (T pojo : pojos) {
+            // Keep the first pojo for an id, as the linear lookup used to
+            if (pojo != null && !byId.containsKey(pojo.id)) {
+                byId.put(pojo.id, pojo);
             }
         }
+        pojosById = byId;
+        candidateIndex.update(pojos);
+    }
+
+    /**
+     * Normalized texts queries are matched against, to be overridden by providers searching
+     * pojos with FuzzyScore so that only pojos that may match get scored
+     *
+     * @param pojo pojo from this provider
+     * @return texts to index (may contain null values), null to not index the pojo
+     */
+    StringNormalizer.Result[] getSearchableTexts(T pojo) {
+        return null;
+    }
 
+    /**
+     * Normalized texts queries are matched against after the searchable texts.
+     * They are indexed by character only, which keeps the index small for long texts but lets
+     * more pojos through.
+     *
+     * @param pojo pojo from this provider
+     * @return texts to index (may contain null values), null for none
+     */
+    StringNormalizer.Result[] getSecondaryTexts(T pojo) {
         return null;
     }
 
+    /**
+     * Pojos worth scoring for the given query.
+     * When the query extends the last completed query, only the pojos that matched it can match
+     * again (fuzzy matching is a subsequence test), so there is no need to scan everything.
+     * Otherwise longer queries get their candidates from the candidate index.
+     *
+     * @param source list of pojos the search is running on (usually `pojos`)
+     * @param query  normalized query
+     * @return a subset of source, or source itself
+     */
+    List<T> getCandidates(List<T> source, StringNormalizer.Result query) {
+        Candidates<T> candidates = this.lastCandidates;
+        if (candidates != null && candidates.source == source && canNarrow(candidates.query, query.codePoints)) {
+            return candidates.matches;
+        }
+        if (pendingReindexes.get() == 0 && candidateIndex.isIndexing(source)) {
+            List<T> indexed = candidateIndex.getCandidates(query.codePoints);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Remember which pojos matched a query.
+     * Only call this once every candidate has been scored: an interrupted search would otherwise
+     * hide pojos from the next queries.
+     *
+     * @param source  list of pojos the search ran on
+     * @param query   normalized query
+     * @param matches pojos from source that matched the query
+     */
+    void setCandidates(List<T> source, StringNormalizer.Result query, List<T> matches) {
+        this.lastCandidates = new Candidates<>(source, query.codePoints, matches);
+    }
+
+    /**
+     * Can the matches of the previous query be reused as candidates for this query?
+     *
+     * @param previousQuery normalized codepoints of the previous query
+     * @param query         normalized codepoints of the new query
+     * @return true if every pojo matching query also matched previousQuery
+     */
+    boolean canNarrow(int[] previousQuery, int[] query) {
+        if (previousQuery.length > query.length) {
+            return false;
+        }
+        for (int i = 0; i < previousQuery.length; i += 1) {
+            if (previousQuery[i] != query[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forget about the last query matches, to be called whenever a pojo is added, removed or
+     * gets a new name or new tags
+     */
+    public void invalidateCandidates() {
+        this.lastCandidates = null;
+    }
+
+    /**
+     * Forget about the last query matches and index pojo texts again, to be called when pojos
+     * got a new name or new tags without pojos being published again.
+     * Indexing runs in the background, searches scan every pojo until it is done.
+     */
+    public void reindexCandidates() {
+        pendingReindexes.incrementAndGet();
+        invalidateCandidates();
+        AsyncTask.THREAD_POOL_EXECUTOR.execute(() -> {
+            try {
+                synchronized (Provider.this) {
+                    candidateIndex.update(pojos);
+                }
+            } finally {
+                pendingReindexes.decrementAndGet();
+            }
+        });
+    }
+
     @Override
     public List<Pojo> getPojos() {
         return Collections.unmodifiableList(pojos);
@@ -121,6 +273,21 @@ public abstract class Provider<T extends Pojo> extends Service implements IProvi
         return this.binder;
     }
 
+    /**
+     * Matches of a query, valid as long as the pojo list they were computed from is current
+     */
+    private static final class Candidates<T> {
+        final List<T> source;
+        final int[] query;
+        final List<T> matches;
+
+        Candidates(List<T> source, int[] query, List<T> matches) {
+            this.source = source;
+            this.query = query;
+            this.matches = matches;
+        }
+    }
+
     /**
      * Class used for the client Binder.  Because we know this service always
      * runs in the same process as its clients, we don't need to deal with IPC.
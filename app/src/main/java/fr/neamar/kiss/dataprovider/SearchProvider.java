@@ -64,17 +64,19 @@ public class SearchProvider extends SimpleProvider {
 
     @Override
     public void requestResults(String s, Searcher searcher) {
-        searcher.addResult(getResults(s).toArray(new Pojo[0]));
+        searcher.addResults(getResults(s));
     }
 
     private ArrayList<Pojo> getResults(String query) {
         ArrayList<Pojo> records = new ArrayList<>();
 
         if (prefs.getBoolean("enable-search", true)) {
-            for (SearchPojo pojo : searchProviders) {
+            for (SearchPojo searchProvider : searchProviders) {
+                // Build a pojo for this search only, overlapping searches must not share ids or queries
                 // Set the id, otherwise the result will be boosted since KISS will assume we've selected this search provider multiple times before"
-                pojo.id = "search://" + query;
-                pojo.query = query;
+                SearchPojo pojo = new SearchPojo("search://" + query, query, searchProvider.url, SearchPojo.SEARCH_QUERY);
+                pojo.relevance = searchProvider.relevance;
+                pojo.setName(searchProvider.getName(), false);
                 records.add(pojo);
             }
         }
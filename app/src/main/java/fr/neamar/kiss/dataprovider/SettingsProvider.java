@@ -4,11 +4,13 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.preference.PreferenceManager;
 
+import java.util.ArrayList;
 import java.util.Locale;
 
 import fr.neamar.kiss.R;
 import fr.neamar.kiss.loader.LoadSettingsPojos;
-import fr.neamar.kiss.normalizer.StringNormalizer;
+import fr.neamar.kiss.normalizer.NormalizedQuery;
+import fr.neamar.kiss.pojo.ScoredPojo;
 import fr.neamar.kiss.pojo.SettingsPojo;
 import fr.neamar.kiss.searcher.Searcher;
 import fr.neamar.kiss.utils.FuzzyScore;
@@ -31,34 +33,44 @@ public class SettingsProvider extends Provider<SettingsPojo> {
             return;
         }
 
-        StringNormalizer.Result queryNormalized = StringNormalizer.normalizeWithResult(query, true);
+        NormalizedQuery normalizedQuery = searcher.getNormalizedQuery(query);
 
-        if (queryNormalized.codePoints.length == 0) {
+        if (normalizedQuery.length() == 0) {
             return;
         }
 
-        FuzzyScore fuzzyScore = new FuzzyScore(queryNormalized.codePoints);
+        FuzzyScore fuzzyScore = new FuzzyScore(normalizedQuery);
         FuzzyScore.MatchInfo matchInfo;
         boolean match;
+        int relevance;
+        boolean settingsQuery = normalizedQuery.lowercase.contains("set");
+        ArrayList<ScoredPojo> results = new ArrayList<>();
 
         for (SettingsPojo pojo : pojos) {
-            matchInfo = fuzzyScore.match(pojo.normalizedName.codePoints);
-            match = matchInfo.match;
-            if (query.toLowerCase().contains("set")){
+            if (searcher.shouldStop()) {
+                break;
+            }
+            if (settingsQuery) {
+                // All settings are kept and ranked by their score, even when they don't match
+                matchInfo = fuzzyScore.match(pojo.normalizedName.codePoints);
                 match = true;
+            } else {
+                matchInfo = fuzzyScore.match(pojo.normalizedName);
+                match = matchInfo.match;
             }
-            pojo.relevance = matchInfo.score;
+            relevance = matchInfo.score;
 
             if (!match) {
                 // Match localized setting name
                 matchInfo = fuzzyScore.match(settingName);
                 match = matchInfo.match;
-                pojo.relevance = matchInfo.score;
+                relevance = matchInfo.score;
             }
 
-            if (match && !searcher.addResult(pojo)) {
-                return;
+            if (match && searcher.mayKeep(pojo, relevance)) {
+                results.add(new ScoredPojo(pojo, relevance));
             }
         }
+        searcher.addScoredResults(results);
     }
 }
@@ -7,8 +7,10 @@ import java.util.List;
 
 import fr.neamar.kiss.R;
 import fr.neamar.kiss.loader.LoadShortcutsPojos;
+import fr.neamar.kiss.normalizer.NormalizedQuery;
 import fr.neamar.kiss.normalizer.StringNormalizer;
 import fr.neamar.kiss.pojo.Pojo;
+import fr.neamar.kiss.pojo.ScoredPojo;
 import fr.neamar.kiss.pojo.ShortcutPojo;
 import fr.neamar.kiss.searcher.Searcher;
 import fr.neamar.kiss.utils.FuzzyScore;
@@ -38,34 +40,55 @@ public class ShortcutsProvider extends Provider<ShortcutPojo> {
 
     @Override
     public void requestResults(String query, Searcher searcher) {
-        StringNormalizer.Result queryNormalized = StringNormalizer.normalizeWithResult(query, false);
+        NormalizedQuery normalizedQuery = searcher.getNormalizedQuery(query);
+        StringNormalizer.Result queryNormalized = normalizedQuery.normalized;
 
         if (queryNormalized.codePoints.length == 0) {
             return;
         }
 
-        FuzzyScore fuzzyScore = new FuzzyScore(queryNormalized.codePoints);
+        FuzzyScore fuzzyScore = new FuzzyScore(normalizedQuery);
         FuzzyScore.MatchInfo matchInfo;
         boolean match;
+        int relevance;
 
-        for (ShortcutPojo pojo : pojos) {
-            matchInfo = fuzzyScore.match(pojo.normalizedName.codePoints);
+        List<ShortcutPojo> source = pojos;
+        ArrayList<ShortcutPojo> matches = new ArrayList<>();
+        ArrayList<ScoredPojo> results = new ArrayList<>();
+        for (ShortcutPojo pojo : getCandidates(source, queryNormalized)) {
+            if (searcher.shouldStop()) {
+                // Matches found so far can't narrow down the next query, only display them
+                searcher.addScoredResults(results);
+                return;
+            }
+            matchInfo = fuzzyScore.match(pojo.normalizedName);
             match = matchInfo.match;
-            pojo.relevance = matchInfo.score;
+            relevance = matchInfo.score;
 
             // check relevance for tags
             if (pojo.getNormalizedTags() != null) {
-                matchInfo = fuzzyScore.match(pojo.getNormalizedTags().codePoints);
-                if (matchInfo.match && (!match || matchInfo.score > pojo.relevance)) {
+                matchInfo = fuzzyScore.match(pojo.getNormalizedTags());
+                if (matchInfo.match && (!match || matchInfo.score > relevance)) {
                     match = true;
-                    pojo.relevance = matchInfo.score;
+                    relevance = matchInfo.score;
                 }
             }
 
-            if (match && !searcher.addResult(pojo)) {
-                return;
+            if (!match) {
+                continue;
+            }
+            matches.add(pojo);
+            if (searcher.mayKeep(pojo, relevance)) {
+                results.add(new ScoredPojo(pojo, relevance));
             }
         }
+        setCandidates(source, queryNormalized, matches);
+        searcher.addScoredResults(results);
+    }
+
+    @Override
+    StringNormalizer.Result[] getSearchableTexts(ShortcutPojo pojo) {
+        return new StringNormalizer.Result[]{pojo.normalizedName, pojo.getNormalizedTags()};
     }
 
     public Pojo findByName(String name) {
@@ -11,7 +11,7 @@ import fr.neamar.kiss.BuildConfig;
 class DB extends SQLiteOpenHelper {
 
     private final static String DB_NAME = "kiss.s3db";
-    private final static int DB_VERSION = 8;
+    private final static int DB_VERSION = 9;
     private static final String TAG = DB.class.getSimpleName();
     DB(Context context) {
         super(context, DB_NAME, null, DB_VERSION);
@@ -26,6 +26,7 @@ class DB extends SQLiteOpenHelper {
         createBadges(database);
         addTimeStamps(database);
         addAppsTable(database);
+        addHistoryStats(database);
     }
 
     private void createTags(SQLiteDatabase database) {
@@ -45,6 +46,19 @@ class DB extends SQLiteOpenHelper {
         db.execSQL("CREATE INDEX index_component ON custom_apps(component_name);");
     }
 
+    private void addHistoryStats(SQLiteDatabase db) {
+        db.execSQL("CREATE INDEX idx_history_record ON history(record);");
+        db.execSQL("CREATE INDEX idx_history_query ON history(query);");
+        db.execSQL("CREATE INDEX idx_history_timeStamp ON history(timeStamp);");
+        // One row per record, maintained by DBHelper.insertHistory
+        db.execSQL("CREATE TABLE history_stats ( record TEXT PRIMARY KEY, launch_count INTEGER NOT NULL, last_launch INTEGER NOT NULL,"
+                + " last_id INTEGER NOT NULL, score REAL NOT NULL, frecency REAL NOT NULL)");
+        db.execSQL("CREATE INDEX idx_history_stats_last_id ON history_stats(last_id);");
+        db.execSQL("CREATE INDEX idx_history_stats_launch_count ON history_stats(launch_count);");
+        db.execSQL("CREATE INDEX idx_history_stats_frecency ON history_stats(frecency);");
+        DBHelper.rebuildHistoryStats(db);
+    }
+
     @Override
     public void onUpgrade(SQLiteDatabase database, int oldVersion, int newVersion) {
         if(BuildConfig.DEBUG) Log.w("onUpgrade", "Updating database from version " + oldVersion + " to version " + newVersion);
@@ -76,6 +90,9 @@ class DB extends SQLiteOpenHelper {
                 case 7:
                     addAppsTable(database);
                     // fall through
+                case 8:
+                    addHistoryStats(database);
+                    // fall through
                 default:
                     break;
             }
@@ -9,11 +9,7 @@ import android.util.Log;
 
 import androidx.annotation.Nullable;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -29,6 +25,11 @@ import fr.neamar.kiss.pojo.ShortcutPojo;
 
 public class DBHelper {
     private static final String TAG = DBHelper.class.getSimpleName();
+    /**
+     * Number of launches (of any record) after which a launch only counts half in frecency mode
+     */
+    private static final int FRECENCY_HALF_LIFE = 50;
+    private static final double FRECENCY_DECAY = Math.pow(0.5, 1.0 / FRECENCY_HALF_LIFE);
     private static SQLiteDatabase database = null;
 
     private DBHelper() {
@@ -72,25 +73,46 @@ public class DBHelper {
         }
         return database;
     }
-    public static void writeDatabase(byte[] db, Context cnt) throws IOException {
-        if(database == null) {
-            database = new DB(cnt).getReadableDatabase();
-        }
-        InputStream is = new ByteArrayInputStream(db) {
-        }; // data.db
-        OutputStream os = new FileOutputStream(database.getPath());
-
-        byte[] buffer = new byte[1024];
-        int length;
-        while ((length = is.read(buffer)) > 0) {
-            os.write(buffer, 0, length);
+
+    /**
+     * Replace the database file with the given content, e.g. when restoring a backup
+     *
+     * @param is  content of the database file, read to its end but not closed
+     * @param cnt context
+     */
+    public static void writeDatabase(InputStream is, Context cnt) throws IOException {
+        SQLiteDatabase db = getDatabase(cnt);
+        try (OutputStream os = new FileOutputStream(db.getPath())) {
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = is.read(buffer)) != -1) {
+                os.write(buffer, 0, length);
+            }
+            os.flush();
         }
+    }
 
-        // Close the streams.
-        os.flush();
-        os.close();
-        is.close();
+    /**
+     * Copy the database file, e.g. to back it up.
+     * Writes are held while copying so that the copy is consistent.
+     *
+     * @param context context
+     * @param os      stream receiving the database file, left open
+     */
+    public static void copyDatabaseTo(Context context, OutputStream os) throws IOException {
+        SQLiteDatabase db = getDatabase(context);
+        db.beginTransaction();
+        try (InputStream is = new FileInputStream(db.getPath())) {
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = is.read(buffer)) != -1) {
+                os.write(buffer, 0, length);
+            }
+        } finally {
+            db.endTransaction();
+        }
     }
+
     private static ArrayList<ValuedHistoryRecord> readCursor(Cursor cursor) {
         cursor.moveToFirst();
 
@@ -115,66 +137,155 @@ public class DBHelper {
      * @param context android context
      * @param query   query to insert
      * @param record  record to insert
+     * @return true if older items were removed from history at the same time
      */
-    public static void insertHistory(Context context, String query, String record) {
+    public static boolean insertHistory(Context context, String query, String record) {
         SQLiteDatabase db = getDatabase(context);
+        long timeStamp = System.currentTimeMillis();
         ContentValues values = new ContentValues();
         values.put("query", query);
         values.put("record", record);
-        values.put("timeStamp", System.currentTimeMillis());
-        db.insert("history", null, values);
+        values.put("timeStamp", timeStamp);
+
+        db.beginTransaction();
+        try {
+            long id = db.insert("history", null, values);
+            if (id != -1) {
+                updateHistoryStats(db, record, id, timeStamp);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
 
         if (Math.random() <= 0.005) {
             // Roughly every 200 inserts, clean up the history of items older than 3 months
             long twoMonthsAgo = 7776000000L; // 1000 * 60 * 60 * 24 * 30 * 3;
             db.delete("history", "timeStamp < ?", new String[]{Long.toString(System.currentTimeMillis() - twoMonthsAgo)});
+            rebuildHistoryStats(db);
             // And vacuum the DB for speed
             db.execSQL("VACUUM");
+            return true;
         }
+        return false;
+    }
+
+    /**
+     * Account for a new launch of record in history_stats
+     *
+     * @param db        The SQL db
+     * @param record    record launched
+     * @param id        history row of the launch
+     * @param timeStamp time of the launch
+     */
+    private static void updateHistoryStats(SQLiteDatabase db, String record, long id, long timeStamp) {
+        Cursor cursor = db.query("history_stats", new String[]{"launch_count", "last_id", "score"},
+                "record = ?", new String[]{record}, null, null, null);
+
+        ContentValues values = new ContentValues();
+        values.put("record", record);
+        if (cursor.moveToFirst()) {
+            values.put("launch_count", cursor.getInt(0) + 1);
+            values.put("score", decayFrecency(cursor.getDouble(2), id - cursor.getLong(1)) + 1);
+        } else {
+            values.put("launch_count", 1);
+            values.put("score", 1.0);
+        }
+        cursor.close();
+        values.put("last_launch", timeStamp);
+        values.put("last_id", id);
+        values.put("frecency", getFrecency(values.getAsDouble("score"), id));
+
+        db.insertWithOnConflict("history_stats", null, values, SQLiteDatabase.CONFLICT_REPLACE);
+    }
+
+    /**
+     * Recompute history_stats from the whole history, to be called when launches got removed from history
+     *
+     * @param db The SQL db
+     */
+    static void rebuildHistoryStats(SQLiteDatabase db) {
+        Map<String, ContentValues> stats = new HashMap<>();
+
+        Cursor cursor = db.query("history", new String[]{"_id", "record", "timeStamp"},
+                null, null, null, null, "_id ASC");
+        while (cursor.moveToNext()) {
+            long id = cursor.getLong(0);
+            String record = cursor.getString(1);
+
+            ContentValues values = stats.get(record);
+            if (values == null) {
+                values = new ContentValues();
+                values.put("record", record);
+                values.put("launch_count", 1);
+                values.put("score", 1.0);
+                stats.put(record, values);
+            } else {
+                values.put("launch_count", values.getAsInteger("launch_count") + 1);
+                values.put("score", decayFrecency(values.getAsDouble("score"), id - values.getAsLong("last_id")) + 1);
+            }
+            values.put("last_launch", cursor.getLong(2));
+            values.put("last_id", id);
+        }
+        cursor.close();
+
+        db.beginTransaction();
+        try {
+            db.delete("history_stats", null, null);
+            for (ContentValues values : stats.values()) {
+                values.put("frecency", getFrecency(values.getAsDouble("score"), values.getAsLong("last_id")));
+                db.insert("history_stats", null, values);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    private static double decayFrecency(double score, long launches) {
+        return score * Math.pow(FRECENCY_DECAY, launches);
+    }
+
+    /**
+     * Scores decay with every launch, so they can't be compared as stored. Their logarithm brought
+     * to launch 0 can: log2(score at launch L) = frecency - L / FRECENCY_HALF_LIFE for every record.
+     *
+     * @param score  score at the last launch of the record
+     * @param lastId history row of the last launch of the record
+     * @return value ordering records like their current score
+     */
+    private static double getFrecency(double score, long lastId) {
+        return Math.log(score) / Math.log(2) + (double) lastId / FRECENCY_HALF_LIFE;
     }
 
     public static void removeFromHistory(Context context, String record) {
         SQLiteDatabase db = getDatabase(context);
         db.delete("history", "record = ?", new String[]{record});
+        db.delete("history_stats", "record = ?", new String[]{record});
     }
 
     public static void clearHistory(Context context) {
         SQLiteDatabase db = getDatabase(context);
         db.delete("history", "", null);
+        db.delete("history_stats", "", null);
     }
 
     private static Cursor getHistoryByFrecency(SQLiteDatabase db, int limit) {
-        // Since smart history sql uses a group by we don't use the whole history but a limit of recent apps
-        int historyWindowSize = limit * 30;
-
-        // order history based on frequency * recency
-        // frequency = #launches_for_app / #all_launches
-        // recency = 1 / position_of_app_in_normal_history
-        String sql = "SELECT record, count(*) FROM " +
-                " (" +
-                "   SELECT * FROM history ORDER BY _id DESC " +
-                "   LIMIT " + historyWindowSize + "" +
-                " ) small_history " +
-                " GROUP BY record " +
-                " ORDER BY " +
-                "   count(*) * 1.0 / (select count(*) from history LIMIT " + historyWindowSize + ") / ((SELECT _id FROM history ORDER BY _id DESC LIMIT 1) - max(_id) + 0.001) " +
-                " DESC " +
-                " LIMIT " + limit;
-        return db.rawQuery(sql, null);
+        // order history based on a score adding up every launch of the record,
+        // each launch weighting half as much every FRECENCY_HALF_LIFE launches
+        return db.query("history_stats", new String[]{"record", "launch_count"}, null, null,
+                null, null, "frecency DESC", Integer.toString(limit));
     }
 
     private static Cursor getHistoryByFrequency(SQLiteDatabase db, int limit) {
         // order history based on frequency
-        String sql = "SELECT record, count(*) FROM history" +
-                " GROUP BY record " +
-                " ORDER BY count(*) DESC " +
-                " LIMIT " + limit;
-        return db.rawQuery(sql, null);
+        return db.query("history_stats", new String[]{"record", "launch_count"}, null, null,
+                null, null, "launch_count DESC", Integer.toString(limit));
     }
 
     private static Cursor getHistoryByRecency(SQLiteDatabase db, int limit) {
-        return db.query(true, "history", new String[]{"record", "1"}, null, null,
-                null, null, "_id DESC", Integer.toString(limit));
+        return db.query("history_stats", new String[]{"record", "1"}, null, null,
+                null, null, "last_id DESC", Integer.toString(limit));
     }
 
     /**
@@ -208,25 +319,21 @@ public class DBHelper {
 
         SQLiteDatabase db = getDatabase(context);
 
-        Cursor cursor;
         switch (historyMode) {
             case "frecency":
-                cursor = getHistoryByFrecency(db, limit);
+                records = readCursor(getHistoryByFrecency(db, limit));
                 break;
             case "frequency":
-                cursor = getHistoryByFrequency(db, limit);
+                records = readCursor(getHistoryByFrequency(db, limit));
                 break;
             case "adaptive":
-                cursor = getHistoryByAdaptive(db, 36, limit);
+                records = readCursor(getHistoryByAdaptive(db, 36, limit));
                 break;
             default:
-                cursor = getHistoryByRecency(db, limit);
+                records = readCursor(getHistoryByRecency(db, limit));
                 break;
         }
 
-        records = readCursor(cursor);
-        cursor.close();
-
         // sort history entries alphabetically
         if (historyMode.equals("alphabetically")) {
             DataHandler dataHandler = KissApplication.getApplication(context).getDataHandler();
@@ -264,25 +371,22 @@ public class DBHelper {
     }
 
     /**
-     * Retrieve previously selected items for the query
+     * Load every query typed before launching a record
      *
      * @param context android context
-     * @param query   query to run
-     * @return records with number of use
+     * @return queries with the records launched and their number of launches
      */
-    public static ArrayList<ValuedHistoryRecord> getPreviousResultsForQuery(Context context,
-                                                                            String query) {
-        ArrayList<ValuedHistoryRecord> records;
+    public static QueryHistoryTrie getQueryHistory(Context context) {
         SQLiteDatabase db = getDatabase(context);
+        QueryHistoryTrie queryHistory = new QueryHistoryTrie();
 
-        // Cursor query (String table, String[] columns, String selection,
-        // String[] selectionArgs, String groupBy, String having, String
-        // orderBy)
-        Cursor cursor = db.query("history", new String[]{"record", "COUNT(*) AS count"},
-                "query LIKE ?", new String[]{query + "%"}, "record", null, "COUNT(*) DESC", "10");
-        records = readCursor(cursor);
+        Cursor cursor = db.query("history", new String[]{"query", "record", "COUNT(*)"},
+                "query IS NOT NULL", null, "query, record", null, null);
+        while (cursor.moveToNext()) {
+            queryHistory.add(cursor.getString(0), cursor.getString(1), cursor.getInt(2));
+        }
         cursor.close();
-        return records;
+        return queryHistory;
     }
 
     public static boolean insertShortcut(Context context, ShortcutRecord shortcut) {
@@ -610,30 +714,6 @@ public class DBHelper {
         //database = db;
     }
 
-    public static ByteArrayOutputStream getDatabaseBytes() {
-
-        ByteArrayOutputStream os=new ByteArrayOutputStream();
-        File file = new File(database.getPath());
-
-        byte[] b = new byte[(int) file.length()];
-        try {
-            FileInputStream fileInputStream = new FileInputStream(file);
-            fileInputStream.read(b);
-            for (int i = 0; i < b.length; i++) {
-                os.write((char)b[i]);
-            }
-        } catch (FileNotFoundException e) {
-            System.out.println("File Not Found.");
-            e.printStackTrace();
-        }
-        catch (IOException e1) {
-            System.out.println("Error Reading The File.");
-            e1.printStackTrace();
-        }
-        return os;
-    }
-
-
     public static void clearCachedDb() {
         database = null;
     }
@@ -0,0 +1,126 @@
+package fr.neamar.kiss.db;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queries typed before launching records, to know which records were launched for queries starting
+ * with what is being typed.
+ * <p>
+ * Queries are stored in a prefix tree whose nodes count the launches of every record for all the
+ * queries below them, so looking up a prefix only walks down as many nodes as it has characters.
+ * Matching is case insensitive, like the SQL `LIKE` it replaces.
+ */
+public final class QueryHistoryTrie {
+    private final Node root = new Node();
+
+    /**
+     * Account for launches of a record after typing a query
+     *
+     * @param query  query typed, nothing is recorded when null
+     * @param record id of the record launched
+     * @param count  number of launches
+     */
+    public synchronized void add(String query, String record, int count) {
+        if (query == null || record == null || count <= 0) {
+            return;
+        }
+        Node node = root;
+        node.add(record, count);
+        for (int i = 0; i < query.length(); i += 1) {
+            char c = Character.toLowerCase(query.charAt(i));
+            Node child = node.children.get(c);
+            if (child == null) {
+                child = new Node();
+                node.children.put(c, child);
+            }
+            child.add(record, count);
+            node = child;
+        }
+    }
+
+    /**
+     * Forget every launch of a record
+     */
+    public synchronized void remove(String record) {
+        root.remove(record);
+    }
+
+    /**
+     * @param prefix beginning of the queries
+     * @param limit  maximum number of records to return
+     * @return records launched after typing a query starting with prefix, with their number of
+     * launches, most launched first
+     */
+    public synchronized ArrayList<ValuedHistoryRecord> getPreviousResults(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i += 1) {
+            node = node.children.get(Character.toLowerCase(prefix.charAt(i)));
+        }
+        if (node == null) {
+            return new ArrayList<>(0);
+        }
+
+        ArrayList<ValuedHistoryRecord> records = new ArrayList<>(node.counts.size());
+        for (Map.Entry<String, Integer> entry : node.counts.entrySet()) {
+            ValuedHistoryRecord record = new ValuedHistoryRecord();
+            record.record = entry.getKey();
+            record.value = entry.getValue();
+            records.add(record);
+        }
+        Collections.sort(records, (a, b) -> a.value != b.value ? b.value - a.value : a.record.compareTo(b.record));
+        if (records.size() > limit) {
+            return new ArrayList<>(records.subList(0, limit));
+        }
+        return records;
+    }
+
+    /**
+     * @return number of nodes, queries whose launches were all removed don't keep any
+     */
+    synchronized int getNodeCount() {
+        return root.getNodeCount();
+    }
+
+    private static final class Node {
+        /**
+         * Launches of each record for the queries going through this node
+         */
+        final HashMap<String, Integer> counts = new HashMap<>();
+        final HashMap<Character, Node> children = new HashMap<>();
+
+        void add(String record, int count) {
+            Integer previous = counts.get(record);
+            counts.put(record, previous == null ? count : previous + count);
+        }
+
+        int getNodeCount() {
+            int count = 1;
+            for (Node child : children.values()) {
+                count += child.getNodeCount();
+            }
+            return count;
+        }
+
+        /**
+         * @return true if no launch is left below this node
+         */
+        boolean remove(String record) {
+            if (counts.remove(record) == null) {
+                // Record was never launched from a query going through this node
+                return counts.isEmpty();
+            }
+            Iterator<Node> iterator = children.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().remove(record)) {
+                    iterator.remove();
+                }
+            }
+            return counts.isEmpty();
+        }
+    }
+}
@@ -1,20 +1,26 @@
 package fr.neamar.kiss.loader;
 
+import android.content.ContentResolver;
 import android.content.ContentUris;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.Build;
 import android.provider.ContactsContract;
+import android.text.TextUtils;
 import android.util.Log;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import fr.neamar.kiss.BuildConfig;
+import fr.neamar.kiss.dataprovider.ContactsProvider;
+import fr.neamar.kiss.dataprovider.Provider;
 import fr.neamar.kiss.forwarder.Permission;
 import fr.neamar.kiss.normalizer.PhoneNormalizer;
 import fr.neamar.kiss.normalizer.StringNormalizer;
@@ -30,12 +36,41 @@ import static fr.neamar.kiss.notification.NotificationListener.NOTIFICATION_PREF
 
 public class LoadContactsPojos extends LoadPojos<ContactsPojo> {
     private static final String TAG = LoadPojos.class.getSimpleName();
+    /**
+     * Contacts updated up to this long before a load started may not be visible to it yet,
+     * they are read again by the next sync
+     */
+    private static final long SYNC_MARGIN = 1000;
     private final SharedPreferences prefs;
+    private final List<ContactsPojo> previousContacts;
+    private final long previousSync;
+    private long syncStart = 0;
+
     public LoadContactsPojos(Context context) {
+        this(context, null, 0);
+    }
+
+    /**
+     * Only read again the contacts updated or deleted since the previous load
+     *
+     * @param context          android context
+     * @param previousContacts contacts from the previous load, kept when unchanged
+     * @param previousSync     sync time of the previous load, see {@link #getSyncStart()}
+     */
+    public LoadContactsPojos(Context context, List<ContactsPojo> previousContacts, long previousSync) {
         super(context, "contact://");
         prefs = context.getSharedPreferences(NOTIFICATION_PREFERENCES_NAME, Context.MODE_PRIVATE);
+        this.previousContacts = previousContacts;
+        this.previousSync = previousSync;
+    }
+
+    /**
+     * @return time from which contact changes have to be read again by the next load,
+     * 0 when this load did not complete
+     */
+    public long getSyncStart() {
+        return syncStart;
     }
-    // Get specific details from organization
 
     @Override
     protected ArrayList<ContactsPojo> doInBackground(Void... params) {
@@ -52,8 +87,100 @@ public class LoadContactsPojos extends LoadPojos<ContactsPojo> {
             return contacts;
         }
 
+        long syncStart = System.currentTimeMillis() - SYNC_MARGIN;
+
+        // Restrict the queries to the updated contacts if we can tell which ones they are
+        String contactSelection = null;
+        Set<Long> changedContactIds = previousContacts == null ? null : getChangedContactIds(c.getContentResolver());
+        if (changedContactIds != null) {
+            for (ContactsPojo contact : previousContacts) {
+                if (!changedContactIds.contains((long) contact.contactId)) {
+                    contacts.add(contact);
+                }
+            }
+            if (changedContactIds.isEmpty()) {
+                this.syncStart = syncStart;
+                return contacts;
+            }
+            contactSelection = ContactsContract.Data.CONTACT_ID + " IN (" + TextUtils.join(",", changedContactIds) + ")";
+        }
+
+        loadContacts(c, contactSelection, contacts);
+        this.syncStart = syncStart;
+
+        long end = System.nanoTime();
+        if (BuildConfig.DEBUG) Log.i("time", (end - start) / 1000000 + " milliseconds to list " + (contactSelection == null ? "all" : changedContactIds.size() + " changed") + " contacts");
+        return contacts;
+    }
+
+    @Override
+    protected void onPostExecute(ArrayList<ContactsPojo> result) {
+        Provider<ContactsPojo> provider = getProvider();
+        if (syncStart > 0 && provider instanceof ContactsProvider) {
+            ((ContactsProvider) provider).setSyncedUntil(syncStart);
+        }
+        super.onPostExecute(result);
+    }
+
+    /**
+     * Ids of the contacts updated or deleted since the previous load
+     *
+     * @return null if they can't be known and all contacts need to be loaded again
+     */
+    private Set<Long> getChangedContactIds(ContentResolver resolver) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR2 || previousSync <= 0) {
+            return null;
+        }
+        if (System.currentTimeMillis() - previousSync > ContactsContract.DeletedContacts.DAYS_KEPT_MILLISECONDS) {
+            // Deletions from that long ago are forgotten by the system
+            return null;
+        }
+
+        Set<Long> contactIds = new HashSet<>();
+        String since = Long.toString(previousSync);
+
+        Cursor updated = resolver.query(ContactsContract.Contacts.CONTENT_URI,
+                new String[]{ContactsContract.Contacts._ID},
+                ContactsContract.Contacts.CONTACT_LAST_UPDATED_TIMESTAMP + " > ?", new String[]{since}, null);
+        if (updated == null) {
+            return null;
+        }
+        while (updated.moveToNext()) {
+            contactIds.add(updated.getLong(0));
+        }
+        updated.close();
+
+        Cursor deleted = resolver.query(ContactsContract.DeletedContacts.CONTENT_URI,
+                new String[]{ContactsContract.DeletedContacts.CONTACT_ID},
+                ContactsContract.DeletedContacts.CONTACT_DELETED_TIMESTAMP + " > ?", new String[]{since}, null);
+        if (deleted == null) {
+            return null;
+        }
+        while (deleted.moveToNext()) {
+            contactIds.add(deleted.getLong(0));
+        }
+        deleted.close();
+
+        return contactIds;
+    }
+
+    private static String restrict(String selection, String contactSelection) {
+        if (contactSelection == null) {
+            return selection;
+        }
+        return "(" + selection + ") AND " + contactSelection;
+    }
+
+    /**
+     * Read contacts and add them to the list
+     *
+     * @param c                android context
+     * @param contactSelection selection of the contacts to read, null to read all of them
+     * @param contacts         list to fill
+     */
+    private void loadContacts(Context c, String contactSelection, List<ContactsPojo> contacts) {
         // Run query
-        Cursor cur = context.get().getContentResolver().query(
+        Cursor cur = c.getContentResolver().query(
                 ContactsContract.CommonDataKinds.Phone.CONTENT_URI,
                 new String[]{ContactsContract.Contacts.LOOKUP_KEY,
                         ContactsContract.Contacts._ID,
@@ -63,7 +190,7 @@ public class LoadContactsPojos extends LoadPojos<ContactsPojo> {
                         ContactsContract.CommonDataKinds.Phone.STARRED,
                         ContactsContract.CommonDataKinds.Phone.IS_PRIMARY,
                         ContactsContract.Contacts.PHOTO_ID,
-                        ContactsContract.CommonDataKinds.Phone.CONTACT_ID}, null, null, ContactsContract.CommonDataKinds.Phone.TIMES_CONTACTED + " DESC");
+                        ContactsContract.CommonDataKinds.Phone.CONTACT_ID}, contactSelection, null, ContactsContract.CommonDataKinds.Phone.TIMES_CONTACTED + " DESC");
 
         // Prevent duplicates by keeping in memory encountered contacts.
         Map<String, Set<ContactsPojo>> mapContacts = new HashMap<>();
@@ -78,6 +205,7 @@ public class LoadContactsPojos extends LoadPojos<ContactsPojo> {
                 int starredIndex = cur.getColumnIndex(ContactsContract.CommonDataKinds.Phone.STARRED);
                 int isPrimaryIndex = cur.getColumnIndex(ContactsContract.CommonDataKinds.Phone.IS_PRIMARY);
                 int photoIdIndex = cur.getColumnIndex(ContactsContract.Contacts.PHOTO_ID);
+                int contactIdIndex = cur.getColumnIndex(ContactsContract.CommonDataKinds.Phone.CONTACT_ID);
 
                 while (cur.moveToNext()) {
                     String lookupKey = cur.getString(lookupIndex);
@@ -104,6 +232,7 @@ public class LoadContactsPojos extends LoadPojos<ContactsPojo> {
                             starred, false);
 
                     contact.setName(name);
+                    contact.contactId = cur.getInt(contactIdIndex);
 
                     if (contact.getName() != null) {
                         //TBog: contact should have the normalized name already
@@ -123,12 +252,12 @@ public class LoadContactsPojos extends LoadPojos<ContactsPojo> {
         }
 
         // Retrieve contacts' nicknames
-        Cursor nickCursor = context.get().getContentResolver().query(
+        Cursor nickCursor = c.getContentResolver().query(
                 ContactsContract.Data.CONTENT_URI,
                 new String[]{
                         ContactsContract.CommonDataKinds.Nickname.NAME,
                         ContactsContract.Data.LOOKUP_KEY},
-                ContactsContract.Data.MIMETYPE + "= ?",
+                restrict(ContactsContract.Data.MIMETYPE + "= ?", contactSelection),
                 new String[]{ContactsContract.CommonDataKinds.Nickname.CONTENT_ITEM_TYPE},
                 null);
 
@@ -151,13 +280,13 @@ public class LoadContactsPojos extends LoadPojos<ContactsPojo> {
         }
 
         // Retrieve contacts' Organization
-        Cursor workCursor = context.get().getContentResolver().query(
+        Cursor workCursor = c.getContentResolver().query(
                 ContactsContract.Data.CONTENT_URI,
                 new String[]{
                         ContactsContract.CommonDataKinds.Organization.TITLE,
                         ContactsContract.CommonDataKinds.Organization.COMPANY,
                         ContactsContract.Data.LOOKUP_KEY},
-                ContactsContract.Data.MIMETYPE + "= ?",
+                restrict(ContactsContract.Data.MIMETYPE + "= ?", contactSelection),
                 new String[]{ContactsContract.CommonDataKinds.Organization.CONTENT_ITEM_TYPE},
                 null);
 
@@ -196,15 +325,15 @@ public class LoadContactsPojos extends LoadPojos<ContactsPojo> {
                 ContactsContract.Data.LOOKUP_KEY,
 
                 ContactsContract.Data.MIMETYPE};
-        Cursor cursor = context.get().getContentResolver().query(ContactsContract.Data.CONTENT_URI,
+        Cursor cursor = c.getContentResolver().query(ContactsContract.Data.CONTENT_URI,
                 projection,
-                ContactsContract.Data.MIMETYPE
+                restrict(ContactsContract.Data.MIMETYPE
                         + " = ? or " + ContactsContract.Data.MIMETYPE
                         + " = ? or " + ContactsContract.Data.MIMETYPE
                         + " = ? or " + ContactsContract.Data.MIMETYPE
                         + " = ? or " + ContactsContract.Data.MIMETYPE
                         + " = ? or " + ContactsContract.Data.MIMETYPE
-                        + " = ?",
+                        + " = ?", contactSelection),
                 new String[]{SIGNAL_CALL_MIMETYPE,
                         WHATSAPP_CALL_MIMETYPE,
                         WHATSAPP_CONTACT_MIMETYPE,
@@ -322,10 +451,6 @@ public class LoadContactsPojos extends LoadPojos<ContactsPojo> {
                 }
             }
         }
-
-        long end = System.nanoTime();
-        if (BuildConfig.DEBUG) Log.i("time", (end - start) / 1000000 + " milliseconds to list contacts");
-        return contacts;
     }
 
 }
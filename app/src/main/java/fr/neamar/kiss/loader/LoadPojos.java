@@ -25,6 +25,10 @@ public abstract class LoadPojos<T extends Pojo> extends AsyncTask<Void, Void, Ar
         this.provider = new WeakReference<>(provider);
     }
 
+    protected Provider<T> getProvider() {
+        return provider == null ? null : provider.get();
+    }
+
     public String getPojoScheme() {
         return pojoScheme;
     }
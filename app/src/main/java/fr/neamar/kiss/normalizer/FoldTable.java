@@ -0,0 +1,1835 @@
+package fr.neamar.kiss.normalizer;
+
+/**
+ * Folding of code points for {@link StringNormalizer}: NFKD decomposition without combining
+ * marks and dashes, as computed by java.text.Normalizer on Java 17.
+ * <p>
+ * Generated by FoldTableGenerator (./gradlew :benchmark:generateFoldTable), do not edit.
+ */
+final class FoldTable {
+    /**
+     * Returned by {@link #find(int)} for code points that fold to themselves
+     */
+    static final int UNCHANGED = 0;
+    private static final int BLOCK_SHIFT = 7;
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+    /**
+     * Block of each range of 128 code points, code points after the last range are unchanged
+     */
+    private static final char[] BLOCKS = decode(
+            "\001\002\003\004\005\006\007\010\011\012\000\013\014\015\016\017\020\021\022\023\024\025" +
+            "\026\027\030\031\032\033\034\035\036\037 !\000\000\000\000\042\000#\000\000\000\000\000$" +
+            "%&'(\000)*+,-./0123456789:;\000<=\000\000\000\000\000\000\000\000\000\000>?\000\000@ABCD" +
+            "EFGHIJKLMNO\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000PQRSTUVWXYZ[\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\134]^_`abcdefghi\000\000\000j\000kl" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000mn\000\000\000\000o\000\000pq\000rst" +
+            "uvwx\000yz\000{|}~\000\177\000\200\201\202\203\000\000\204\205\206\207\000\210\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\211\212\000\000\000\000" +
+            "\000\000\000\213\214\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\215\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\216\217\220\000\000\000\221\222\223\224\225\226\227\230\000\000\000\000\231\232\000" +
+            "\000\000\000\000\000\000\000\000\000\233\000\212\000\000\234\000\000\000\000\000\000\000" +
+            "\000\000\000\000\235\236\000\000\000\000\000\000\000\000\000\237\240\000\000\000\000\241" +
+            "\242\243\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\244\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\245\246\247" +
+            "\250\251\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\252\253");
+
+    /**
+     * Folding number of each code point, by block
+     */
+    private static final char[] FOLDINGS = decode(
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\002\000\000\000\000\000\000\000\002\000\003\000\000\000\000\002\000\000\004\005" +
+            "\002\006\000\000\002\007\010\000\011\012\013\000\014\014\014\014\014\014\000\015\016\016" +
+            "\016\016\017\017\017\017\000\020\021\021\021\021\021\000\000\022\022\022\022\023\000\000" +
+            "\003\003\003\003\003\003\000\024\025\025\025\025\026\026\026\026\000\027\010\010\010\010" +
+            "\010\000\000\030\030\030\030\031\000\031\014\003\014\003\014\003\015\024\015\024\015\024" +
+            "\015\024\032\033\000\000\016\025\016\025\016\025\016\025\016\025\034\035\034\035\034\035" +
+            "\034\035\036\037\000\000\017\026\017\026\017\026\017\026\017\000 !\042#$%\000&'&'&'()\000" +
+            "\000\020\027\020\027\020\027*\000\000\021\010\021\010\021\010\000\000+,+,+,-.-.-.-./0/0\000" +
+            "\000\022\030\022\030\022\030\022\030\022\030\022\03012\023\031\023343434.\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\021\010\000\000\000\000\000\000\000\000\000\000\000\000\000\022" +
+            "\030\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\00056789:;<" +
+            "=\014\003\017\026\021\010\022\030\022\030\022\030\022\030\022\030\000\014\003\014\003>?\000" +
+            "\000\034\035$%\021\010\021\010@A#567\034\035\000\000\020\027\014\003>?BC\014\003\014\003" +
+            "\016\025\016\025\017\026\017\026\021\010\021\010+,+,\022\030\022\030-./0\000\000\036\037" +
+            "\000\000\000\000\000\000\014\003\016\025\021\010\021\010\021\010\021\010\023\031\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\037D#,EFG2\031\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\002\002\002\002\002\002\000\000H'.IJ\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000" +
+            "K\000\000\000\000\000\002\000\000\000L\000\000\000\000\000\002\002MNOPQ\000R\000STU\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000QSVWXUY\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000UYZY[\000\134]SSS^_\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000`ab\000cW\000\000\000d\000\000\000\000\000" +
+            "\000ee\000f\000\000\000g\000\000\000\000hij\000\000\000\000\000\000\000\000\000\000i\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000k\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000ll\000m\000\000\000n\000\000\000\000okp\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000qr\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000st\000\000\000\000\000\000\000\000\000\000\000\000\000uvuv\000\000el\000\000" +
+            "wxstyz\000\000ikik{|\000\000}~\177\200jpjpjp\201\202\000\000\203\204\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\205\000\000\001\000\000\000\000\000\000\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000" +
+            "\001\001\000\001\001\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001" +
+            "\001\001\000\000\000\000\000\000\000\206\206\207\206\210\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001" +
+            "\000\000\000\000\211\212\213\214\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\215\000\216\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\217\000\000\001\001\001\001\001\001\001\000\000" +
+            "\001\001\001\001\001\001\000\000\001\001\000\001\001\001\001\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000" +
+            "\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\001\001\001\001\000\001\001\001\001\001\001\001\001\001\000\001\001\001\000" +
+            "\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\000\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\220\000\000\000\000\000\000\000" +
+            "\221\000\000\222\000\000\000\000\000\001\001\001\000\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\000\001\001\001\001\001\001\001\223\224\225\226\227" +
+            "\230\231\232\000\000\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\000\001\001\001\001\001\001\001\000\000\001\001\000\000" +
+            "\001\001\001\000\000\000\000\000\000\000\000\000\001\000\000\000\000\233\234\000\235\000" +
+            "\000\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\000\000\001\001\001\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\236\000\000\237\000\000" +
+            "\000\000\000\001\000\001\001\001\001\001\000\000\000\000\001\001\000\000\001\001\001\000" +
+            "\000\000\001\000\000\000\000\000\000\000\240\241\242\000\000\243\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\001\001\000\000\000\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001" +
+            "\000\001\001\001\001\001\001\001\001\000\001\001\001\000\001\001\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001" +
+            "\001\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000\001\001\001" +
+            "\001\001\001\001\000\000\001\001\000\000\001\001\001\000\000\000\000\000\000\000\001\001" +
+            "\001\000\000\000\000\244\245\000\000\000\000\001\001\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\246\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\000\000" +
+            "\000\001\001\001\000\001\001\001\001\000\000\000\000\000\000\000\000\000\001\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\000\001\001\001" +
+            "\000\001\001\001\001\000\000\000\000\000\000\000\001\001\000\000\000\000\000\000\000\000" +
+            "\000\000\000\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\001\000\001\001\001\001\001\001\001\000\001\001\001\000\001\001\001" +
+            "\001\000\000\000\000\000\000\000\001\001\000\000\000\000\000\000\000\000\000\000\000\001" +
+            "\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\001\001\000\001\001\001\001\001\001\001\000\001\001\001\000\001\001\001\001\000\000\000" +
+            "\000\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\001\001\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\001\000\000\000\000\001\001\001\001\001\001" +
+            "\000\001\000\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\001\000\247\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\001\000\250\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000" +
+            "\000\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\251" +
+            "\252\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\253\000\000\000\000\000\000\000\000\000\000\000\001\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\001\000\001\000\001\000\000\000\000\001\001\000\000\000\254\000\000\000\000\000\000\000" +
+            "\000\000\255\000\000\000\000\256\000\000\000\000\257\000\000\000\000\260\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\261\000\000\000\000\000\000\000\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\001\001\000\000\000\000\000" +
+            "\001\001\001\001\001\001\001\001\001\001\001\000\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\000\000\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\262" +
+            "\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\001\001\001\001\000\000\000\000\001\001\001\000\001\001\001\000\000\001\001" +
+            "\001\001\001\001\001\000\000\000\001\001\001\001\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\000\001\000\000\000\000\000" +
+            "\000\000\000\000\000\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\263\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\000\000\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\001\000\000\000\000\001\001\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\000\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\000\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\001\001\001\001\001\000\264\000\265\000\266\000\267\000\270\000\000" +
+            "\000\271\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\001\001\000\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\000\000\000\000\001\000\000\000\000\000\000\001" +
+            "\000\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\014>\272\000\032\016\273\034\036\017\042$&\274" +
+            "\020\000\021\275\276+/\0221\003\277\300\301\302\033\025\303\304\305\035\000%\306\307\010" +
+            "\310\311\312\3130\030\314\315\316\317\134\320\321^\322\026,\030\316\134\320a^\322\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\323\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\324\024\325\326\305\327\330\331\332\333\334\335\336\337\340\341\342\343\344\345" +
+            "\346\347\350\351\352\353\354\355\356\357\360\3614\362\363A]\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\000\001\001\001\001\001\014\003\272\302\272\302\272\302\015\024" +
+            "\032\033\032\033\032\033\032\033\032\033\016\025\016\025\016\025\016\025\016\025\364\327" +
+            "\034\035\036\037\036\037\036\037\036\037\036\037\017\026\017\026$%$%$%&'&'&'&'\274\306\274" +
+            "\306\274\306\020\027\020\027\020\027\020\027\021\010\021\010\021\010\021\010\276\313\276" +
+            "\313+,+,+,+,-.-.-.-.-./0/0/0/0\022\030\022\030\022\030\022\030\022\030\365\316\365\31612" +
+            "12121212\366I\366I\023\031343434\03702\031\367.\000\000\000\000\014\003\014\003\014\003\014" +
+            "\003\014\003\014\003\014\003\014\003\014\003\014\003\014\003\014\003\016\025\016\025\016" +
+            "\025\016\025\016\025\016\025\016\025\016\025\017\026\017\026\021\010\021\010\021\010\021" +
+            "\010\021\010\021\010\021\010\021\010\021\010\021\010\021\010\021\010\022\030\022\030\022" +
+            "\030\022\030\022\030\022\030\022\030\023\031\023\031\023\031\023\031\000\000\000\000\000" +
+            "\000VVVVVVVVMMMMMMMMWWWWWW\000\000OOOOOO\000\000XXXXXXXXPPPPPPPPUUUUUUUUQQQQQQQQZZZZZZ\000" +
+            "\000RRRRRR\000\000YYYYYYYY\000S\000S\000S\000S[[[[[[[[TTTTTTTTVVWWXXUUZZYY[[\000\000VVVV" +
+            "VVVVMMMMMMMMXXXXXXXXPPPPPPPP[[[[[[[[TTTTTTTTVVVVV\000VVMMMMM\002U\002\002\002XXX\000XXOO" +
+            "PPP\002\002\002UUUU\000\000UUQQQQ\000\002\002\002YYYYaaYYSSSS\370\002\002\371\000\000[[[" +
+            "\000[[RRTTT\002\002\000\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000\001" +
+            "\001\001\001\001\001\000\002\000\000\000\000\000\000\000\000\000\000\000\000\372\373\374" +
+            "\000\000\000\000\000\000\000\000\002\000\000\000\375\376\000\377\u0100\000\000\000\000\u0101" +
+            "\000\002\000\000\000\000\000\000\000\000\u0102\u0103\u0104\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\u0105\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\u0106\026\000\000\u0107\u0108\u0109\u010a\u010b\u010c\u010d" +
+            "\u010e\u010f\u0110\u0111\027\u0106\007\004\005\u0107\u0108\u0109\u010a\u010b\u010c\u010d" +
+            "\u010e\u010f\u0110\u0111\000\003\025\010I\303\037%'\306\027\313.0\000\000\000\000\000\000" +
+            "\000\000\000\000\000\u0112\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\001\000\000\000" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\u0113\u0114\015\u0115\000\u0116\u0117\u0118\000\u0119\035\036\036\036" +
+            "\037\u011a\017\017&'\000\020\u011b\000\000\276\u011c+++\000\000\u011d\u011e\u011f\0003\000" +
+            "T\0003\000$\014\272\015\000\025\016\364\000\274\010\u0120\u0121\u0122\u0123\026\000\u0124" +
+            "_\320\u0125\u0126\u0127\000\000\000\000\032\033\025\026#\000\000\000\000\000\000\u0128\u0129" +
+            "\u012a\u012b\u012c\u012d\u012e\u012f\u0130\u0131\u0132\u0133\u0134\u0135\u0136\u0137\017" +
+            "\u0138\u0139\u013a\365\u013b\u013c\u013d\u013e\366\u013f\u0140&\015\032\274\026\u0141\u0142" +
+            "\u0143\316\u0144\u0145\u0146\u0147I\u0148\u0149'\024\033\306\000\000\000\000\000\000\000" +
+            "\000\000\u014a\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u014b\u014c" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u014d\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\u014e\u014f\u0150\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0151\000\000\000\000" +
+            "\u0152\000\000\u0153\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\u0154\000\u0155\000\000\000\000\000\u0156\u0157\000\u0158\u0159" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u015a\000\000\u015b\000" +
+            "\000\u015c\000\u015d\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\u010f\000\u015e\000\000\000\000\000\000\000\000\000\000\u015f\u0160" +
+            "\u0161\u0162\u0163\000\000\u0164\u0165\000\000\u0166\u0167\000\000\000\000\000\000\u0168" +
+            "\u0169\000\000\u016a\u016b\000\000\u016c\u016d\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\u016e\u016f\u0170\u0171\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\u0172\u0173\u0174\u0175\000\000\000\000\000" +
+            "\000\u0176\u0177\u0178\u0179\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\u017a\u017b\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\007\004\005\u0107\u0108\u0109\u010a\u010b\u010c\u017c\u017d" +
+            "\u017e\u017f\u0180\u0181\u0182\u0183\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u018b\u018c" +
+            "\u018d\u018e\u018f\u0190\u0191\u0192\u0193\u0194\u0195\u0196\u0197\u0198\u0199\u019a\u019b" +
+            "\u019c\u019d\u019e\u019f\u01a0\u01a1\u01a2\u01a3\u01a4\u01a5\u01a6\u01a7\u01a8\u01a9\u01aa" +
+            "\u01ab\u01ac\u01ad\u01ae\u01af\u01b0\u01b1\u01b2\u01b3\u01b4\u01b5\u01b6\u01b7\u01b8\u01b9" +
+            "\u01ba\u01bb\u01bc\u01bd\u01be\u01bf\u01c0\u01c1\u01c2\u01c3\u01c4\u01c5\u01c6\u01c7\u01c8" +
+            "\014\272\015\032\016\364\034\036\017\042$&\274\020\021\276\u011c+-/\022\3651\366\0233\003" +
+            "\302\024\033\025\327\035\037\026#%'\306\027\010\313\u01c9,.0\030\3162I\0314\u0106\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\u01ca\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\u01cb\u01cc\u01cd\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u01ce\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000",
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000#\365\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u01cf\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\001\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\000" +
+            "\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\u01d0\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\u01d1\000\000\000\000\000\000\000\000\000\000\000\000\u01d2\u01d3" +
+            "\u01d4\u01d5\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1\u01e2" +
+            "\u01e3\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u01ee\u01ef\u01f0\u01f1" +
+            "\u01f2\u01f3\u01f4\u01f5\u01f6\u01f7\u01f8\u01f9\u01fa\u01fb\u01fc\u01fd\u01fe\u01ff\u0200" +
+            "\u0201\u0202\u0203\u0204\u0205\u0206\u0207\u0208\u0209\u020a\u020b\u020c\u020d\u020e\u020f" +
+            "\u0210\u0211\u0212\u0213\u0214\u0215\u0216\u0217\u0218\u0219\u021a\u021b\u021c\u021d\u021e" +
+            "\u021f\u0220\u0221\u0222\u0223\u0224\u0225\u0226\u0227\u0228\u0229\u022a\u022b\u022c\u022d" +
+            "\u022e\u022f\u0230\u0231\u0232\u0233\u0234\u0235\u0236\u0237\u0238\u0239\u023a\u023b\u023c" +
+            "\u023d\u023e\u023f\u0240\u0241\u0242\u0243\u0244\u0245\u0246\u0247\u0248\u0249\u024a\u024b" +
+            "\u024c\u024d\u024e\u024f\u0250\u0251\u0252\u0253\u0254\u0255\u0256\u0257\u0258\u0259\u025a" +
+            "\u025b\u025c\u025d\u025e\u025f\u0260\u0261\u0262\u0263\u0264\u0265\u0266\u0267\u0268\u0269" +
+            "\u026a\u026b\u026c\u026d\u026e\u026f\u0270\u0271\u0272\u0273\u0274\u0275\u0276\u0277\u0278" +
+            "\u0279\u027a\u027b\u027c\u027d\u027e\u027f\u0280\u0281\u0282\u0283\u0284\u0285\u0286\u0287" +
+            "\u0288\u0289\u028a\u028b\u028c\u028d\u028e\u028f\u0290\u0291\u0292\u0293\u0294\u0295\u0296" +
+            "\u0297\u0298\u0299\u029a\u029b\u029c\u029d\u029e\u029f\u02a0\u02a1\u02a2\u02a3\u02a4\u02a5" +
+            "\u02a6\u02a7\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\001" +
+            "\001\001\001\001\001\001\000\000\000\000\000\u02a8\000\u01e9\u02a9\u02aa\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\u02ab\000\u02ac\000\u02ad\000\u02ae" +
+            "\000\u02af\000\u02b0\000\u02b1\000\u02b2\000\u02b3\000\u02b4\000\u02b5\000\u02b6\000\000" +
+            "\u02b7\000\u02b8\000\u02b9\000\000\000\000\000\000\u02ba\u02ba\000\u02bb\u02bb\000\u02bc" +
+            "\u02bc\000\u02bd\u02bd\000\u02be\u02be\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\u02bf\000\000\000\000\001\001\002\002\000\u02c0\u02c1" +
+            "\001\000\000\000\000\000\000\000\000\000\000\000\u02c2\000\u02c3\000\u02c4\000\u02c5\000" +
+            "\u02c6\000\u02c7\000\u02c8\000\u02c9\000\u02ca\000\u02cb\000\u02cc\000\u02cd\000\000\u02ce" +
+            "\000\u02cf\000\u02d0\000\000\000\000\000\000\u02d1\u02d1\000\u02d2\u02d2\000\u02d3\u02d3" +
+            "\000\u02d4\u02d4\000\u02d5\u02d5\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\u02d6\000\000\u02d7\u02d8\u02d9\u02da\000\000\000\u02db" +
+            "\u02dc\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\u02dd\u02de\u02df\u02e0\u02e1\u02e2\u02e3\u02e4\u02e5\u02e6\u02e7" +
+            "\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed\u02ee\u02ef\u02f0\u02f1\u02f2\u02f3\u02f4\u02f5\u02f6" +
+            "\u02f7\u02f8\u02f9\u02fa\u02fb\u02fc\u02fd\u02fe\u02ff\u0300\u0301\u0302\u0303\u0304\u0305" +
+            "\u0306\u0307\u0308\u0309\u030a\u030b\u030c\u030d\u030e\u030f\u0310\u0311\u0312\u0313\u0314" +
+            "\u0315\u0316\u0317\u0318\u0319\u031a\u031b\u031c\u031d\u031e\u031f\u0320\u0321\u0322\u0323" +
+            "\u0324\u0325\u0326\u0327\u0328\u0329\u032a\u032b\u032c\u032d\u032e\u032f\u0330\u0331\u0332" +
+            "\u0333\u0334\u0335\u0336\u0337\u0338\u0339\u033a\000\000\000\u01d2\u01d8\u033b\u033c\u033d" +
+            "\u033e\u033f\u0340\u01d6\u0341\u0342\u0343\u0344\u01da\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0345" +
+            "\u0346\u0347\u0348\u0349\u034a\u034b\u034c\u034d\u034e\u034f\u0350\u0351\u0352\u0353\u0354" +
+            "\u0355\u0356\u0357\u0358\u0359\u035a\u035b\u035c\u035d\u035e\u035f\u0360\u0361\u0362\u0363" +
+            "\000\u0364\u0365\u0366\u0367\u0368\u0369\u036a\u036b\u036c\u036d\u036e\u036f\u0370\u0371" +
+            "\u0372\u0373\u0374\u0375\u0376\u0377\u0378\u0379\u037a\u037b\u037c\u037d\u037e\u037f\u0380" +
+            "\u0381\u0382\u0383\u0384\u0385\u0386\u0387\u0388\u0389\u0214\u038a\000\000\000\000\000\000" +
+            "\000\000\u038b\u038c\u038d\u038e\u038f\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u0398" +
+            "\u0399\u039a\u02dd\u02e0\u02e3\u02e5\u02ed\u02ee\u02f1\u02f3\u02f4\u02f6\u02f7\u02f8\u02f9" +
+            "\u02fa\u039b\u039c\u039d\u039e\u039f\u03a0\u03a1\u03a2\u03a3\u03a4\u03a5\u03a6\u03a7\u03a8" +
+            "\u03a9\u03aa\u03ab\000\u01d2\u01d8\u033b\u033c\u03ac\u03ad\u03ae\u01dd\u03af\u01e9\u021b" +
+            "\u0227\u0226\u021c\u0278\u01f1\u0219\u03b0\u03b1\u03b2\u03b3\u03b4\u03b5\u03b6\u03b7\u03b8" +
+            "\u03b9\u01f7\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u03c1\u033d\u033e\u033f\u03c2\u03c3" +
+            "\u03c4\u03c5\u03c6\u03c7\u03c8\u03c9\u03ca\u03cb\u03cc\u03cd\u03ce\u03cf\u03d0\u03d1\u03d2" +
+            "\u03d3\u03d4\u03d5\u03d6\u03d7\u03d8\u03d9\u03da\u03db\u03dc\u03dd\u03de\u03df\u03e0\u03e1" +
+            "\u03e2\u03e3\u03e4\u03e5\u03e6\u03e7\u03e8\u03e9\u03ea\u03eb\u03ec\u02d6\u03ed\u03ee\u02c2" +
+            "\u02c3\u02c4\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb\u02cc\u02cd\u02ce\u02cf\u02d0\u03ef" +
+            "\u03f0\u03f1\u03f2\u03f3\u02d1\u02d2\u02d3\u02d4\u02d5\u03f4\u03f5\u03f6\u03f7\u03f8\u03f9" +
+            "\u03fa\u03fb\u03fc\u03fd\u03fe\u03ff\u0400\u02d7\u02d8\u02d9\u02da\u0401\u0402\u0403\u0404" +
+            "\u0405\u0406\u0407\u0408\u0409\u040a\u040b\u040c\u040d\u040e\u040f\u0410\u0411\u0412\u0413" +
+            "\u0414\u0415\u0416\u0417\u0418\u0419\u041a\u041b\u041c\u041d\u041e\u041f\u0420\u0421\u0422" +
+            "\u0423\u0424\u0425\u0426\u0427\u0428\u0429\u042a\u042b\u042c\u042d\u042e\u042f\u0430\u0431" +
+            "\u0432\u0433\u0434\u0435\u0436\u0437\u0438\u0439\u043a\u043b\u043c\u043d\u043e\u043f\u0440" +
+            "\u0441\u0442\u0443\u0444\u0445\u0446\u0447\u0448\u0449\u044a\u044b\u044c\u044d\u044e\u044f" +
+            "\u0450\u0451\u0452\u0453\u0454\u0455\u0456\u0457\u0458\u0459\u045a\u045b\u045c\u045d\u045e" +
+            "\u045f\u0460\u0461\u0462\u0463\u0464\u0465\u0466\u0467\u0468\u0469\u046a\u046b\u046c\u046d" +
+            "\u046e\u046f\u0470\u0471\u0472\u0473\u0474\u0475\u0476\u0477\u0478\u0479\u047a\u047b\u047c" +
+            "\u047d\u047e\u047f\u0480\u0481\u0482\u0483\u0484\u0485\u0486\u0487\u0488\u0489\u048a\u048b" +
+            "\u048c\u048d\u048e\u048f\u0490\u0491\u0492\u0493\u0494\u0495\u0496\u0497\u0498\u0499\u049a" +
+            "\u049b\u049c\u049d\u049e\u049f\u04a0\u04a1\u04a2\u04a3\u04a4\u04a5\u04a6\u04a7\u04a8\u04a9" +
+            "\u04aa\u04ab\u04ac\u04ad\u04ae\u04af\u04b0\u04b1\u04b2\u04b3\u04b4\u04b5\u04b6\u04b7\u04b8" +
+            "\u04b9\u04ba\u04bb\u04bc\u04bd\u04be\u04bf\u04c0\u04c1\u04c2\u04c3\u04c4\u04c5\u04c6\u04c7" +
+            "\u04c8\u04c9\u04ca\u04cb\u04cc\u04cd\u04ce\u04cf\u04d0\u04d1\u04d2\u04d3\u04d4\u04d5\u04d6" +
+            "\u04d7\u04d8\u04d9\u04da\u04db\u04dc\u04dd\u04de\u04df\u04e0\u04e1\u04e2\u04e3\u04e4\u04e5" +
+            "\u04e6\u04e7\u04e8\u04e9\u04ea\u04eb\u04ec\u04ed\u04ee\u04ef\u04f0\u04f1\u04f2\u04f3\u04f4" +
+            "\u04f5\u04f6\u04f7\u04f8\u04f9\u04fa\u04fb\u04fc\u04fd\u04fe\u04ff\u0500\u0501\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000" +
+            "\000\000\000\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0502" +
+            "\u0503\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\u0504\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0505\u0506\000\000" +
+            "\000\000\000\000\000\000\001\000\000\000\001\000\000\000\000\001\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001" +
+            "\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\000\001\001" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\001\000\001\001\001\000\000\001\001\000\000\000" +
+            "\000\000\001\001\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\001\001\001\001\001\000\000\000\000\000\001\001\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\u0507\u0508\u0509\u050a\000\000\000\000\000\000\000\000\000\u050b" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\000\001\001" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u050c\u050d\u0270" +
+            "\u050e\u050f\u0510\u0511\u02a6\u02a6\u0512\u0278\u0513\u0514\u0515\u0516\u0517\u0518\u0519" +
+            "\u051a\u051b\u051c\u051d\u051e\u051f\u0520\u0521\u0522\u0523\u0524\u0525\u0526\u0527\u0528" +
+            "\u0529\u052a\u052b\u052c\u052d\u052e\u052f\u0530\u0531\u0532\u0533\u0534\u0535\u0536\u0537" +
+            "\u0538\u0539\u053a\u053b\u024e\u053c\u053d\u053e\u053f\u0540\u0541\u0542\u0543\u0544\u0545" +
+            "\u0546\u0297\u0547\u0548\u0549\u054a\u054b\u054c\u054d\u054e\u054f\u0550\u0551\u0552\u0553" +
+            "\u0554\u0555\u0556\u0557\u0558\u0559\u055a\u055b\u055c\u055d\u055e\u055f\u0560\u0561\u051c" +
+            "\u0562\u0563\u0564\u0565\u0566\u0567\u0568\u0569\u056a\u056b\u056c\u056d\u056e\u056f\u0570" +
+            "\u0571\u0572\u0573\u0574\u0575\u0272\u0576\u0577\u0578\u0579\u057a\u057b\u057c\u057d\u057e" +
+            "\u057f\u0580\u0581\u0582\u0583\u0584\u01f7\u0585\u0586\u0587\u0588\u0589\u058a\u058b\u058c" +
+            "\u01e4\u058d\u058e\u058f\u0590\u0591\u0592\u0593\u0594\u0595\u0596\u0597\u0598\u0599\u059a" +
+            "\u059b\u059c\u059d\u059e\u059f\u05a0\u05a1\u05a2\u0574\u05a3\u05a4\u05a5\u05a6\u05a7\u05a8" +
+            "\u05a9\u05aa\u0564\u05ab\u05ac\u05ad\u05ae\u05af\u05b0\u05b1\u05b2\u05b3\u05b4\u05b5\u05b6" +
+            "\u05b7\u05b8\u05b9\u05ba\u05bb\u05bc\u05bd\u05be\u051c\u05bf\u05c0\u05c1\u05c2\u02a5\u05c3" +
+            "\u05c4\u05c5\u05c6\u05c7\u05c8\u05c9\u05ca\u05cb\u05cc\u05cd\u05ce\u03ad\u05cf\u05d0\u05d1" +
+            "\u05d2\u05d3\u05d4\u05d5\u05d6\u05d7\u0566\u05d8\u05d9\u05da\u05db\u05dc\u05dd\u05de\u05df" +
+            "\u05e0\u05e1\u05e2\u05e3\u05e4\u0277\u05e5\u05e6\u05e7\u05e8\u05e9\u05ea\u05eb\u05ec\u05ed" +
+            "\u05ee\u05ef\u05f0\u05f1\u0246\u05f2\u05f3\u05f4\u05f5\u05f6\u05f7\u05f8\u05f9\u05fa\u05fb" +
+            "\u05fc\u05fd\u05fe\u05ff\u0600\u0601\u0261\u0602\u0264\u0603\u0604\u0605\000\000\u0606\000" +
+            "\u0607\000\000\u0608\u0609\u060a\u060b\u060c\u060d\u060e\u060f\u0610\u024d\000\u0611\000" +
+            "\u0612\000\000\u0613\u0614\000\000\000\u0615\u0616\u0617\u0618\u0619\u061a\u061b\u061c\u061d" +
+            "\u061e\u061f\u0620\u0621\u0622\u0623\u0624\u0625\u0626\u01fe\u0627\u0628\u0629\u062a\u062b" +
+            "\u062c\u062d\u062e\u062f\u0630\u0631\u0632\u0633\u0634\u0635\u03b2\u0636\u0637\u0638\u0639" +
+            "\u03b6\u063a\u063b\u063c\u063d\u063e\u0598\u063f\u0640\u0641\u0642\u0643\u0644\u0644\u0645" +
+            "\u0646\u0647\u0648\u0649\u064a\u064b\u064c\u0613\u064d\u064e\u064f\u0650\u0651\u0652\000" +
+            "\000\u0653\u0654\u0655\u0656\u0657\u0658\u0659\u065a\u0621\u065b\u065c\u065d\u0606\u065e" +
+            "\u065f\u0660\u0661\u0662\u0663\u0664\u0665\u0666\u0667\u0668\u0669\u0629\u066a\u062a\u066b" +
+            "\u066c\u066d\u066e\u066f\u0607\u0531\u0670\u0671\u021f\u0575\u05c8\u0672\u0673\u0631\u0674" +
+            "\u0632\u0675\u0676\u0677\u0609\u0678\u0679\u067a\u067b\u067c\u060a\u067d\u067e\u067f\u0680" +
+            "\u0681\u0682\u063e\u0683\u0684\u0598\u0685\u0642\u0686\u0687\u0688\u0689\u068a\u0647\u068b" +
+            "\u0612\u068c\u0648\u0562\u068d\u0649\u068e\u064b\u068f\u0690\u0691\u0692\u0693\u064d\u060f" +
+            "\u0694\u064e\u0695\u064f\u0696\u02a6\u0697\u0698\u0699\u069a\u069b\u069c\u069d\u069e\u069f" +
+            "\u06a0\u06a1\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u06a2\u06a3" +
+            "\u06a4\u06a5\u06a6\u06a7\u06a7\000\000\000\000\000\000\000\000\000\000\000\000\u06a8\u06a9" +
+            "\u06aa\u06ab\u06ac\000\000\000\000\000\u06ad\001\u06ae\u06af\u0120\u0123\u06b0\u06b1\u06b2" +
+            "\u06b3\u06b4\u06b5\u010d\u06b6\u06b6\u06b6\u06b6\u0120\u0120\u0120\u0121\u0122\u0123\u06b0" +
+            "\u06b7\u06b8\000\u06b9\u06ad\u06ba\u06b1\u06b2\000\u06bb\000\u06bc\u06bd\000\u06be\u06bf" +
+            "\000\u06c0\u06c1\u06b4\u06b6\u06b5\u06b7\u0121\u06b1\u06bf\u06c2\u06c3\u06c3\u06c4\u06c4" +
+            "\u06c4\u06c4\u06c5\u06c5\u06c5\u06c5\u06c6\u06c6\u06c6\u06c6\u06c7\u06c7\u06c7\u06c7\u06c8" +
+            "\u06c8\u06c8\u06c8\u06c9\u06c9\u06c9\u06c9\u06ca\u06ca\u06ca\u06ca\u06cb\u06cb\u06cb\u06cb" +
+            "\u06cc\u06cc\u06cc\u06cc\u06cd\u06cd\u06cd\u06cd\u06ce\u06ce\u06ce\u06ce\u06cf\u06cf\u06cf" +
+            "\u06cf\u06d0\u06d0\u06d1\u06d1\u06d2\u06d2\u06d3\u06d3\u06d4\u06d4\u06d5\u06d5\u06d6\u06d6" +
+            "\u06d6\u06d6\u06d7\u06d7\u06d7\u06d7\u06d8\u06d8\u06d8\u06d8\u06d9\u06d9\u06d9\u06d9\u06da" +
+            "\u06da\u06db\u06db\u06db\u06db\215\215\216\216\216\216\u06dc\u06dc\u06dc\u06dc\217\217\217" +
+            "\217\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\u06dd\u06dd\u06dd\u06dd\u06de\u06de\u06df" +
+            "\u06df\u06e0\u06e0\213\u06e1\u06e1\u06e2\u06e2\u06e3\u06e3\u06e4\u06e4\u06e4\u06e4\u06e5" +
+            "\u06e5\u06e6\u06e6\u06e7\u06e7\u06e8\u06e8\u06e9\u06e9\u06ea\u06ea\u06eb\u06eb\u06ec\u06ec" +
+            "\u06ec\u06ed\u06ed\u06ed\u06ee\u06ee\u06ee\u06ee\u06ef\u06f0\u06f1\u06ed\u06f2\u06f3\u06f4" +
+            "\u06f5\u06f6\u06f7\u06f8\u06f9\u06fa\u06fb\u06fc\u06fd\u06fe\u06ff\u0700\u0701\u0702\u0703" +
+            "\u0704\u0705\u0706\u0707\u0708\u0709\u070a\u070b\u070c\u070d\u070e\u070f\u0710\u0711\u0712" +
+            "\u0713\u0714\u0715\u0716\u0717\u0718\u0719\u071a\u071b\u071c\u071d\u071e\u071f\u0720\u0721" +
+            "\u0722\u0723\u0724\u0725\u0726\u0727\u0728\u0729\u072a\u072b\u072c\u072d\u072e\u072f\u0730" +
+            "\u0731\u0732\u0733\u0734\u0735\u0736\u0737\u0738\u0739\u073a\u073b\u073c\u073d\u073e\u073f" +
+            "\u0740\u0741\u0742\u06ef\u06f0\u0743\u06f1\u06ed\u06f2\u0744\u0745\u06e5\002\002\002\002" +
+            "\002\002\u0746\u0747\u06f1\u0748\u06ed\u06f2\u0749\u074a\u06f6\u074b\u06f7\u06f8\u074c\u074d" +
+            "\u06fc\u074e\u06fd\u06fe\u074f\u0750\u0700\u0751\u0701\u0702\u071f\u0720\u0723\u0724\u0725" +
+            "\u0729\u072a\u072b\u072c\u0730\u0731\u0732\u0752\u0736\u0753\u0754\u073c\u0755\u073d\u073e" +
+            "\u06e5\u0746\u0747\u06f1\u0748\u06ed\u06f2\u06ef\u06f0\u0743\u06f1\u0756\u06f3\u06f4\u06f5" +
+            "\u06f6\u0757\u06f9\u06fa\u06fb\u06fc\u0758\u0700\u0703\u0704\u0705\u0706\u0707\u0709\u070a" +
+            "\u070b\u070c\u070d\u070e\u0759\u070f\u0710\u0711\u0712\u0713\u0714\u0716\u0717\u0718\u0719" +
+            "\u071a\u071b\u071c\u071d\u071e\u0721\u0722\u0726\u0727\u0728\u0729\u072a\u072d\u072e\u072f" +
+            "\u0730\u075a\u0733\u0734\u0735\u0736\u0739\u073a\u073b\u073c\u075b\u073f\u0740\u075c\u06ef" +
+            "\u06f0\u0743\u06f1\u0756\u06f1\u0756\u06f6\u0757\u06fc\u0758\u0700\u075d\u070d\u075e\u075f" +
+            "\u0760\u0729\u072a\u0730\u073c\u075b\u06f1\u0756\u0761\u0761\u0761\u0762\u0763\u0764\u0765" +
+            "\u0766\u0767\u0768\u0769\u076a\u076b\u076c\u076d\u076e\u076f\u0770\u0771\u0772\u0773\u0774" +
+            "\u0775\u0776\u0777\u0778\u075f\u0779\u077a\u077b\u077c\u0762\u0763\u0764\u0765\u0766\u0767" +
+            "\u0768\u0769\u076a\u076b\u076c\u076d\u076e\u076f\u0770\u0771\u0772\u0773\u0774\u0775\u0776" +
+            "\u0777\u0778\u075f\u0779\u077a\u077b\u077c\u0776\u0777\u0778\u075f\u075e\u0760\u0715\u070a" +
+            "\u070b\u070c\u0776\u0777\u0778\u0715\u0716\206\206\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\u077d\u077e\u077e\u077f\u0780\u0781\u0782\u0783\u0784\u0784" +
+            "\u0785\u0786\u0787\u0788\u0789\u078a\u078a\u078b\u078c\u078c\u078d\u078d\u078e\u078f\u078f" +
+            "\u0790\u0791\u0791\u0792\u0792\u0793\u0794\u0794\u0795\u0795\u0796\u0797\u0798\u0799\u0799" +
+            "\u079a\u079b\u079c\u079d\u079e\u079e\u079f\u07a0\u07a1\u07a2\u07a3\u07a4\u07a4\u07a5\u07a5" +
+            "\u07a6\u07a6\u07a7\u07a8\u07a9\u07aa\u07ab\u07ac\u07ad\000\000\u07ae\u07af\u07b0\u07b1\u07b2" +
+            "\u07b3\u07b3\u07b4\u07b5\u07b6\u07b7\u07b7\u07b8\u07b9\u07ba\u07bb\u07bc\u07bd\u07be\u07bf" +
+            "\u07c0\u07c1\u07c2\u07c3\u07c4\u07c5\u07c6\u07c7\u07c8\u07c9\u07ca\u07cb\u07cc\u07cd\u079f" +
+            "\u07a1\u07ce\u07cf\u07d0\u07d1\u07d2\u07d3\u07d2\u07d0\u07d4\u07d5\u07d6\u07d7\u07d8\u07d3" +
+            "\u0798\u078e\u07d9\u07da\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\u07db\u07dc\u07dd\u07de\u07df\u07e0\u07e1\u07e2\u07e3\u07e4\u07e5\u07e6\u07e7\000" +
+            "\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\u07e8\u07e9\u07ea" +
+            "\u07ebL\u07ec\u07ed\u07ee\u07ef\374\000\000\000\000\000\000\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\373\001\001\u07f0\u07f0\u0110\u0111\u07f1\u07f2\u07f3\u07f4" +
+            "\u07f5\u07f6\u07f7\u07f8\u017a\u017b\u07f9\u07fa\u07fb\u07fc\000\000\u07fd\u07fe\002\002" +
+            "\002\002\u07f0\u07f0\u07f0\u07e8\u07e9\372\000L\u07eb\u07ed\u07ec\001\u0110\u0111\u07f1\u07f2" +
+            "\u07f3\u07f4\u07ff\u0800\u0801\u010d\001\u0160\u0161\u010f\000\u0802\u0803\u0804\u0805\000" +
+            "\000\000\000\002\u0761\002\000\002\000\002\u0761\002\u0761\002\u0761\002\u0761\002\u0761" +
+            "\u0806\206\206\206\206\207\207\206\206\210\210\210\210\206\206\u0807\u0807\u0807\u0807\u0808" +
+            "\u0808\u0809\u0809\u0809\u0809\u080a\u080a\u080a\u080a\u080b\u080b\u080b\u080b\u080c\u080c" +
+            "\u080c\u080c\u080d\u080d\u080d\u080d\u080e\u080e\u0744\u0744\u0745\u0745\u080f\u080f\u0810" +
+            "\u0810\u0810\u0810\u0811\u0811\u0811\u0811\u0812\u0812\u0812\u0812\u0813\u0813\u0813\u0813" +
+            "\u0814\u0814\u0814\u0814\u0815\u0815\u0815\u0815\u0816\u0816\u0816\u0816\u0817\u0817\u0817" +
+            "\u0817\u0818\u0818\u0818\u0818\u0819\u0819\u0819\u0819\u081a\u081a\u081a\u081a\u081b\u081b" +
+            "\u081b\u081b\u081c\u081c\u081c\u081c\u081d\u081d\u081d\u081d\u075c\u075c\u075c\u075c\207" +
+            "\207\u06e5\u06e5\210\210\210\210\u081e\u081e\u081e\u081e\u081e\u081e\u081e\u081e\000\000" +
+            "\000\000\u07ec\u081f\u07ff\u0803\u0804\u0800\u0820\u0110\u0111\u0801\u010d\u07e8\001\372" +
+            "\u0821\u0106\007\004\005\u0107\u0108\u0109\u010a\u010b\u010c\u07ebL\u0160\u010f\u0161\u07ed" +
+            "\u0805\014\272\015\032\016\364\034\036\017\042$&\274\020\021\276\u011c+-/\022\3651\366\023" +
+            "3\u07fd\u0802\u07fe\u0822\u07f0\371\003\302\024\033\025\327\035\037\026#%'\306\027\010\313" +
+            "\u01c9,.0\030\3162I\0314\u07f1\u0823\u07f2\u0824\u0825\u0826\u07ea\u07f9\u07fa\u07e9\u0827" +
+            "\u02da\u0828\u0829\u082a\u082b\u082c\u082d\u082e\u082f\u0830\u0831\u03eb\u03ec\u02d6\u03ed" +
+            "\u03ee\u02c2\u02c3\u02c4\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb\u02cc\u02cd\u02ce\u02cf" +
+            "\u02d0\u03ef\u03f0\u03f1\u03f2\u03f3\u02d1\u02d2\u02d3\u02d4\u02d5\u03f4\u03f5\u03f6\u03f7" +
+            "\u03f8\u03f9\u03fa\u03fb\u03fc\u03fd\u03fe\u03ff\u0400\u02d7\u0832\001\001\u0310\u02dd\u02de" +
+            "\u02df\u02e0\u02e1\u02e2\u02e3\u02e4\u02e5\u02e6\u02e7\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed" +
+            "\u02ee\u02ef\u02f0\u02f1\u02f2\u02f3\u02f4\u02f5\u02f6\u02f7\u02f8\u02f9\u02fa\000\000\000" +
+            "\u02fb\u02fc\u02fd\u02fe\u02ff\u0300\000\000\u0301\u0302\u0303\u0304\u0305\u0306\000\000" +
+            "\u0307\u0308\u0309\u030a\u030b\u030c\000\000\u030d\u030e\u030f\000\000\000\u0833\u0834\u0835" +
+            "\002\u0836\u0837\u0838\000\u0839\u014b\u083a\u014c\u083b\u083c\u083d\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\000\000\000\000\000" +
+            "\000\001\001\001\000\001\001\000\000\000\000\000\001\001\001\001\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\000\000\000\000\001\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\001\001\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\001\001\001\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001" +
+            "\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\u083e\000\u083f\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0840\000" +
+            "\000\000\000\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\001\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\001\001" +
+            "\001\001\000\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\000" +
+            "\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\000\001\001\001" +
+            "\001\001\001\001\000\000\001\001\000\000\001\001\001\000\000\000\000\000\000\000\000\000" +
+            "\001\000\000\000\000\000\000\000\000\000\000\001\001\000\000\001\001\001\001\001\001\001" +
+            "\000\000\000\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\000" +
+            "\000\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000",
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\001\001\001\001\001\001\000\001\001\000\000\001\001\001\001\000\001\000" +
+            "\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\000\000\001\001" +
+            "\001\001\001\001\001\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001" +
+            "\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001" +
+            "\001\001\001\001\001\001\000\001\001\001\001\000\000\000\000\000\000\000\000\001\000\000" +
+            "\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\000\001\001\001\001" +
+            "\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\001\001\001\001\001\001\000\000\000\001\000\001\001\000\001\001\001\001\001" +
+            "\001\001\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\001\001\001\001\001\000\001\001\000\001\001\001\001\001\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\000\000\000\000\000\000\000\001\001\001\001\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\001\001" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001" +
+            "\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0841\u0842\u0842\u0842" +
+            "\u0842\u0842\u0842\001\001\001\001\001\000\000\000\001\001\001\001\001\001\000\000\000\000" +
+            "\000\000\000\000\001\001\001\001\001\001\001\001\000\000\001\001\001\001\001\001\001\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\u0843\u0844\u0843\u0844\u0843\u0844\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\001\001\001\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\014\272\015\032\016\364\034\036\017\042$&\274\020\021\276\u011c+-/\022\365" +
+            "1\366\0233\003\302\024\033\025\327\035\037\026#%'\306\027\010\313\u01c9,.0\030\3162I\031" +
+            "4\014\272\015\032\016\364\034\036\017\042$&\274\020\021\276\u011c+-/\022\3651\366\0233\003" +
+            "\302\024\033\025\327\035\000\026#%'\306\027\010\313\u01c9,.0\030\3162I\0314\014\272\015\032" +
+            "\016\364\034\036\017\042$&\274\020\021\276\u011c+-/\022\3651\366\0233\003\302\024\033\025" +
+            "\327\035\037\026#%'\306\027\010\313\u01c9,.0\030\3162I\0314\014\000\015\032\000\000\034\000" +
+            "\000\042$\000\000\020\021\276\u011c\000-/\022\3651\366\0233\003\302\024\033\000\327\000\037" +
+            "\026#%'\306\027\000\313\u01c9,.0\030\3162I\0314\014\272\015\032\016\364\034\036\017\042$" +
+            "&\274\020\021\276\u011c+-/\022\3651\366\0233\003\302\024\033\025\327\035\037\026#%'\306\027" +
+            "\010\313\u01c9,.0\030\3162I\0314\014\272\000\032\016\364\034\000\000\042$&\274\020\021\276" +
+            "\u011c\000-/\022\3651\366\023\000\003\302\024\033\025\327\035\037\026#%'\306\027\010\313" +
+            "\u01c9,.0\030\3162I\0314\014\272\000\032\016\364\034\000\017\042$&\274\000\021\000\000\000" +
+            "-/\022\3651\366\023\000\003\302\024\033\025\327\035\037\026#%'\306\027\010\313\u01c9,.0\030" +
+            "\3162I\0314\014\272\015\032\016\364\034\036\017\042$&\274\020\021\276\u011c+-/\022\3651\366" +
+            "\0233\003\302\024\033\025\327\035\037\026#%'\306\027\010\313\u01c9,.0\030\3162I\0314\014" +
+            "\272\015\032\016\364\034\036\017\042$&\274\020\021\276\u011c+-/\022\3651\366\0233\003\302" +
+            "\024\033\025\327\035\037\026#%'\306\027\010\313\u01c9,.0\030\3162I\0314\014\272\015\032\016" +
+            "\364\034\036\017\042$&\274\020\021\276\u011c+-/\022\3651\366\0233\003\302\024\033\025\327" +
+            "\035\037\026#%'\306\027\010\313\u01c9,.0\030\3162I\0314\014\272\015\032\016\364\034\036\017" +
+            "\042$&\274\020\021\276\u011c+-/\022\3651\366\0233\003\302\024\033\025\327\035\037\026#%'" +
+            "\306\027\010\313\u01c9,.0\030\3162I\0314\014\272\015\032\016\364\034\036\017\042$&\274\020" +
+            "\021\276\u011c+-/\022\3651\366\0233\003\302\024\033\025\327\035\037\026#%'\306\027\010\313" +
+            "\u01c9,.0\030\3162I\0314\014\272\015\032\016\364\034\036\017\042$&\274\020\021\276\u011c" +
+            "+-/\022\3651\366\0233\003\302\024\033\025\327\035\037\026#%'\306\027\010\313\u01c9,.0\030" +
+            "\3162I\0314\u0845\u0846\000\000M\u0847\u0125\u0848O\u0849PcQ\u084a\u084b\u084c\u084d\u084e" +
+            "R\u0126\370cd\u084fS\u0850\u0851\u0852T\u0853V\134\320\321W\u0854X]U`\u0855\006\u0856\u0857" +
+            "Z_ab\u0858\u0859Y^\322\u085a[\u085bW]`^a_M\u0847\u0125\u0848O\u0849PcQ\u084a\u084b\u084c" +
+            "\u084d\u084eR\u0126\370cd\u084fS\u0850\u0851\u0852T\u0853V\134\320\321W\u0854X]U`\u0855\006" +
+            "\u0856\u0857Z_ab\u0858\u0859Y^\322\u085a[\u085bW]`^a_M\u0847\u0125\u0848O\u0849PcQ\u084a" +
+            "\u084b\u084c\u084d\u084eR\u0126\370cd\u084fS\u0850\u0851\u0852T\u0853V\134\320\321W\u0854" +
+            "X]U`\u0855\006\u0856\u0857Z_ab\u0858\u0859Y^\322\u085a[\u085bW]`^a_M\u0847\u0125\u0848O\u0849" +
+            "PcQ\u084a\u084b\u084c\u084d\u084eR\u0126\370cd\u084fS\u0850\u0851\u0852T\u0853V\134\320\321" +
+            "W\u0854X]U`\u0855\006\u0856\u0857Z_ab\u0858\u0859Y^\322\u085a[\u085bW]`^a_M\u0847\u0125\u0848" +
+            "O\u0849PcQ\u084a\u084b\u084c\u084d\u084eR\u0126\370cd\u084fS\u0850\u0851\u0852T\u0853V\134" +
+            "\320\321W\u0854X]U`\u0855\006\u0856\u0857Z_ab\u0858\u0859Y^\322\u085a[\u085bW]`^a_\u085c" +
+            "\u085d\000\000\u0106\007\004\005\u0107\u0108\u0109\u010a\u010b\u010c\u0106\007\004\005\u0107" +
+            "\u0108\u0109\u010a\u010b\u010c\u0106\007\004\005\u0107\u0108\u0109\u010a\u010b\u010c\u0106" +
+            "\007\004\005\u0107\u0108\u0109\u010a\u010b\u010c\u0106\007\004\005\u0107\u0108\u0109\u010a" +
+            "\u010b\u010c\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\000\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\001\001\001\001\001\000\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001" +
+            "\001\001\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000" +
+            "\001\001\001\001\001\001\001\000\001\001\000\001\001\001\001\001\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\206\u0807\u080b\u080e\000\207\u080f\u080c\u0814\210\u081a\u081b\u081c\u081d\u0810\u0816" +
+            "\u0818\u0812\u0819\u0745\u0811\u0809\u080a\u080d\u0744\u0813\u0815\u0817\u085e\u06da\u085f" +
+            "\u0860\000\u0807\u080b\000\u075c\000\000\u080c\000\210\u081a\u081b\u081c\u081d\u0810\u0816" +
+            "\u0818\u0812\u0819\000\u0811\u0809\u080a\u080d\000\u0813\000\u0817\000\000\000\000\000\000" +
+            "\u080b\000\000\000\000\u080c\000\210\000\u081b\000\u081d\u0810\u0816\000\u0812\u0819\000" +
+            "\u0811\000\000\u080d\000\u0813\000\u0817\000\u06da\000\u0860\000\u0807\u080b\000\u075c\000" +
+            "\000\u080c\u0814\210\u081a\000\u081c\u081d\u0810\u0816\u0818\u0812\u0819\000\u0811\u0809" +
+            "\u080a\u080d\000\u0813\u0815\u0817\u085e\000\u085f\000\206\u0807\u080b\u080e\u075c\207\u080f" +
+            "\u080c\u0814\210\000\u081b\u081c\u081d\u0810\u0816\u0818\u0812\u0819\u0745\u0811\u0809\u080a" +
+            "\u080d\u0744\u0813\u0815\u0817\000\000\000\000\000\u0807\u080b\u080e\000\207\u080f\u080c" +
+            "\u0814\210\000\u081b\u081c\u081d\u0810\u0816\u0818\u0812\u0819\u0745\u0811\u0809\u080a\u080d" +
+            "\u0744\u0813\u0815\u0817\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\u0861\u0862\u0863\u0864\u0865\u0866\u0867\u0868\u0869\u086a" +
+            "\u086b\000\000\000\000\000\u086c\u086d\u086e\u086f\u0870\u0871\u0872\u0873\u0874\u0875\u0876" +
+            "\u0877\u0878\u0879\u087a\u087b\u087c\u087d\u087e\u087f\u0880\u0881\u0882\u0883\u0884\u0885" +
+            "\u0886\015+\u0887\u0888\000\014\272\015\032\016\364\034\036\017\042$&\274\020\021\276\u011c" +
+            "+-/\022\3651\366\0233\u0889\u04bb\u088a\u088b\u088c\u088d\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u088e\u088f\u0890" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\u0891\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0892\u0893\u02c7\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\u0211\u0894\u0895\u02cf\u01d8\u0896\u0897\u0343" +
+            "\u0898\u0899\u089a\u05be\u089b\u089c\u089d\u089e\u089f\u08a0\u0235\u08a1\u08a2\u08a3\u08a4" +
+            "\u08a5\u08a6\u01d2\u033b\u08a7\u03c2\u033e\u03c3\u08a8\u026d\u08a9\u08aa\u08ab\u08ac\u08ad" +
+            "\u03b1\u021b\u08ae\u08af\u08b0\u08b1\000\000\000\000\u08b2\u08b3\u08b4\u08b5\u08b6\u08b7" +
+            "\u08b8\u08b9\u08ba\000\000\000\000\000\000\000\u08bb\u08bc\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0106\007\004\005" +
+            "\u0107\u0108\u0109\u010a\u010b\u010c\000\000\000\000\000\000\u08bd\u08be\u08bf\u08c0\u08c1" +
+            "\u061b\u08c2\u08c3\u08c4\u08c5\u061c\u08c6\u08c7\u08c8\u061d\u08c9\u08ca\u08cb\u08cc\u08cd" +
+            "\u08ce\u089d\u08cf\u08d0\u08d1\u08d2\u08d3\u0654\u08d4\u01e2\u08d5\u08d6\u08d7\u08d8\u08af" +
+            "\u08d9\u08da\u0659\u061e\u061f\u065a\u08db\u08dc\u0568\u08dd\u0620\u08de\u08df\u08e0\u08e1" +
+            "\u08e1\u08e1\u08e2\u08e3\u08e4\u08e5\u08e6\u08e7\u08e8\u08e9\u08ea\u08eb\u08ec\u08ed\u08ee" +
+            "\u08ef\u08f0\u08f1\u08f2\u08f3\u08f3\u065c\u08f4\u08f5\u08f6\u08f7\u0622\u08f8\u08f9\u08fa" +
+            "\u05fa\u08fb\u08fc\u08fd\u08fe\u08ff\u0900\u0901\u0902\u0903\u0904\u0905\u0906\u0896\u0907" +
+            "\u0908\u0909\u090a\u090b\u090c\u090d\u090e\u090f\u0910\u0911\u0912\u0913\u0913\u0914\u0915" +
+            "\u0916\u0564\u0917\u0918\u0919\u091a\u091b\u01fc\u091c\u091d\u01fe\u091e\u091f\u0920\u0921" +
+            "\u0922\u0923\u0924\u0925\u0926\u0927\u0928\u0929\u092a\u092b\u092c\u092d\u092e\u092f\u0930" +
+            "\u0931\u0932\u0530\u0933\u0208\u0934\u0934\u0935\u0936\u0936\u0937\u0938\u0939\u093a\u093b" +
+            "\u093c\u093d\u093e\u093f\u0940\u0941\u0942\u0943\u0627\u0944\u0945\u0946\u0947\u0668\u0947" +
+            "\u0948\u0629\u0949\u094a\u094b\u094c\u062a\u0515\u094d\u094e\u094f\u0950\u0951\u0952\u0953" +
+            "\u0954\u0955\u0956\u0957\u0958\u0959\u095a\u095b\u095c\u095d\u095e\u095f\u0960\u0961\u0962" +
+            "\u062b\u0963\u0964\u0965\u0966\u0967\u0968\u062d\u0969\u096a\u096b\u096c\u096d\u096e\u096f" +
+            "\u0970\u0531\u0670\u0971\u0972\u0973\u0974\u0975\u0976\u0977\u0978\u062e\u0979\u097a\u097b" +
+            "\u097c\u069a\u097d\u097e\u097f\u0980\u0981\u0982\u0983\u0984\u0985\u0986\u0987\u0988\u0989" +
+            "\u0575\u098a\u098b\u098c\u098d\u098e\u098f\u0990\u0991\u0992\u0993\u0994\u062f\u05c8\u0995" +
+            "\u0996\u0997\u0998\u0999\u099a\u099b\u099c\u0673\u099d\u099e\u099f\u09a0\u09a1\u09a2\u09a3" +
+            "\u09a4\u0674\u09a5\u09a6\u09a7\u09a8\u09a9\u09aa\u09ab\u09ac\u09ad\u09ae\u09af\u09b0\u0676" +
+            "\u09b1\u09b2\u09b3\u09b4\u09b5\u09b6\u09b7\u09b8\u09b9\u09ba\u09bb\u09bb\u09bc\u09bd\u0678" +
+            "\u09be\u09bf\u09c0\u09c1\u09c2\u09c3\u09c4\u0567\u09c5\u09c6\u09c7\u09c8\u09c9\u09ca\u09cb" +
+            "\u067e\u09cc\u09cd\u09ce\u09cf\u09d0\u09d1\u09d1\u067f\u069c\u09d2\u09d3\u09d4\u09d5\u09d6" +
+            "\u0542\u0681\u09d7\u09d8\u0639\u09d9\u09da\u060e\u09db\u09dc\u063c\u09dd\u09de\u09df\u09e0" +
+            "\u09e0\u09e1\u09e2\u09e3\u09e4\u09e5\u09e6\u09e7\u09e8\u09e9\u09ea\u09eb\u09ec\u09ed\u09ee" +
+            "\u09ef\u09f0\u09f1\u09f2\u09f3\u09f4\u09f5\u09f6\u09f7\u09f8\u09f9\u09fa\u09fb\u0642\u09fc" +
+            "\u09fd\u09fe\u09ff\u0a00\u0a01\u0a02\u0a03\u0a04\u0a05\u0a06\u0a07\u0a08\u0a09\u0a0a\u0a0b" +
+            "\u0935\u0a0c\u0a0d\u0a0e\u0a0f\u0a10\u0a11\u0a12\u0a13\u0a14\u0a15\u0a16\u0a17\u0578\u0a18" +
+            "\u0a19\u0a1a\u0a1b\u0a1c\u0a1d\u0645\u0a1e\u0a1f\u0a20\u0a21\u0a22\u0a23\u0a24\u0a25\u0a26" +
+            "\u0a27\u0a28\u0a29\u0a2a\u0a2b\u0a2c\u0a2d\u0a2e\u0a2f\u0a30\u0a31\u053d\u0a32\u0a33\u0a34" +
+            "\u0a35\u0a36\u0a37\u0688\u0a38\u0a39\u0a3a\u0a3b\u0a3c\u0a3d\u0a3e\u0a3f\u0262\u0a40\u0a41" +
+            "\u0a42\u0a43\u0a44\u0a45\u0a46\u0a47\u0a48\u0a49\u0a4a\u068d\u068e\u0269\u0a4b\u0a4c\u0a4d" +
+            "\u0a4e\u0a4f\u0a50\u0a51\u0a52\u0a53\u0a54\u0a55\u0a56\u068f\u0a57\u0a58\u0a59\u0a5a\u0a5b" +
+            "\u0a5c\u0a5d\u0a5e\u0a5f\u0a60\u0a61\u0a62\u0a63\u0a64\u0a65\u0a66\u0a67\u0a68\u0a69\u0a6a" +
+            "\u0a6b\u0a6c\u0a6d\u0a6e\u0a6f\u0a70\u0a71\u0a72\u0a73\u0a74\u0695\u0695\u0a75\u0a76\u0a77" +
+            "\u0a78\u0a79\u0a7a\u0a7b\u0a7c\u0a7d\u0a7e\u0696\u0a7f\u0a80\u0a81\u0a82\u0a83\u0a84\u0a85" +
+            "\u0a86\u0a87\u0a88\u0299\u0a89\u029d\u0a8a\u0a8b\u0a8c\u0a8d\u02a2\u0a8e\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+            "\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000");
+
+    /**
+     * End of each folding in FOLDED
+     */
+    private static final char[] FOLDED_ENDS = decode(
+            "\000\001\002\003\004\005\006\007\012\015\020\021\022\023\024\025\026\027\030\031\032\033" +
+            "\034\035\036\037 !\042#$&()*+,-.02456789:;<=>@BDFHJLNPQRSTUVWXYZ[\134]^_`abcdefghijklmno" +
+            "pqrstuvwxyz{|}~\177\200\201\202\203\204\205\206\207\210\211\212\213\214\215\216\217\220\221" +
+            "\222\223\224\225\226\227\231\232\233\234\236\240\242\244\245\246\247\250\251\252\253\254" +
+            "\255\256\257\260\261\262\263\264\265\266\267\270\271\272\273\274\275\276\277\300\302\304" +
+            "\305\306\307\310\311\312\313\314\315\316\317\320\321\322\323\324\325\326\327\330\331\332" +
+            "\333\334\335\336\337\340\341\342\343\344\345\346\347\350\351\352\353\354\355\356\357\360" +
+            "\361\362\363\364\365\366\367\370\371\372\373\374\375\376\377\u0100\u0101\u0102\u0103\u0104" +
+            "\u0105\u0106\u0107\u0108\u0109\u010a\u010b\u010c\u010d\u010e\u010f\u0110\u0112\u0113\u0114" +
+            "\u0115\u0117\u011a\u011c\u011f\u0121\u0124\u0126\u0128\u012a\u012c\u0130\u0131\u0132\u0133" +
+            "\u0134\u0135\u0136\u0137\u0138\u0139\u013a\u013b\u013c\u013e\u0141\u0144\u0146\u0149\u014c" +
+            "\u014d\u014f\u0150\u0152\u0153\u0155\u0158\u015a\u015b\u015c\u015d\u015e\u0161\u0162\u0163" +
+            "\u0164\u0167\u016a\u016e\u0171\u0174\u0177\u017a\u017d\u0180\u0183\u0186\u0189\u018c\u018f" +
+            "\u0192\u0194\u0196\u0199\u019b\u019d\u01a0\u01a4\u01a6\u01a8\u01ab\u01ad\u01b0\u01b2\u01b4" +
+            "\u01b7\u01bb\u01bd\u01bf\u01c2\u01c5\u01c6\u01c7\u01c8\u01c9\u01ca\u01cb\u01cc\u01cd\u01ce" +
+            "\u01cf\u01d0\u01d2\u01d5\u01d7\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1\u01e2\u01e3" +
+            "\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u01ee\u01ef\u01f0\u01f1\u01f2" +
+            "\u01f3\u01f4\u01f5\u01f6\u01f7\u01f8\u01f9\u01fa\u01fb\u01fc\u01fe\u0200\u0202\u0204\u0206" +
+            "\u0208\u020a\u020c\u020e\u0210\u0212\u0215\u0218\u021b\u021e\u0221\u0224\u0227\u022a\u022d" +
+            "\u0231\u0235\u0239\u023d\u0241\u0245\u0249\u024d\u0251\u0255\u0259\u025b\u025d\u025f\u0261" +
+            "\u0263\u0265\u0267\u0269\u026b\u026e\u0271\u0274\u0277\u027a\u027d\u0280\u0283\u0286\u0289" +
+            "\u028c\u028f\u0292\u0295\u0298\u029b\u029e\u02a1\u02a4\u02a7\u02aa\u02ad\u02b0\u02b3\u02b6" +
+            "\u02b9\u02bc\u02bf\u02c2\u02c5\u02c8\u02cb\u02ce\u02d1\u02d4\u02d7\u02da\u02db\u02df\u02e2" +
+            "\u02e4\u02e7\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed\u02ee\u02ef\u02f0\u02f1\u02f2\u02f3\u02f4" +
+            "\u02f5\u02f6\u02f7\u02f8\u02f9\u02fa\u02fb\u02fc\u02fd\u02fe\u02ff\u0300\u0301\u0302\u0303" +
+            "\u0304\u0305\u0306\u0307\u0308\u0309\u030a\u030b\u030c\u030d\u030e\u030f\u0310\u0311\u0312" +
+            "\u0313\u0314\u0315\u0316\u0317\u0318\u0319\u031a\u031b\u031c\u031d\u031e\u031f\u0320\u0321" +
+            "\u0322\u0323\u0324\u0325\u0326\u0327\u0328\u0329\u032a\u032b\u032c\u032d\u032e\u032f\u0330" +
+            "\u0331\u0332\u0333\u0334\u0335\u0336\u0337\u0338\u0339\u033a\u033b\u033c\u033d\u033e\u033f" +
+            "\u0340\u0341\u0342\u0343\u0344\u0345\u0346\u0347\u0348\u0349\u034a\u034b\u034c\u034d\u034e" +
+            "\u034f\u0350\u0351\u0352\u0353\u0354\u0355\u0356\u0357\u0358\u0359\u035a\u035b\u035c\u035d" +
+            "\u035e\u035f\u0360\u0361\u0362\u0363\u0364\u0365\u0366\u0367\u0368\u0369\u036a\u036b\u036c" +
+            "\u036d\u036e\u036f\u0370\u0371\u0372\u0373\u0374\u0375\u0376\u0377\u0378\u0379\u037a\u037b" +
+            "\u037c\u037d\u037e\u037f\u0380\u0381\u0382\u0383\u0384\u0385\u0386\u0387\u0388\u0389\u038a" +
+            "\u038b\u038c\u038d\u038e\u038f\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u0398\u0399" +
+            "\u039a\u039b\u039c\u039d\u039e\u039f\u03a0\u03a1\u03a2\u03a3\u03a4\u03a5\u03a6\u03a7\u03a8" +
+            "\u03a9\u03aa\u03ab\u03ac\u03ad\u03ae\u03af\u03b0\u03b1\u03b2\u03b3\u03b4\u03b5\u03b6\u03b7" +
+            "\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u03c1\u03c2\u03c3\u03c4\u03c5\u03c6" +
+            "\u03c7\u03c8\u03c9\u03ca\u03cb\u03cc\u03cd\u03ce\u03cf\u03d0\u03d1\u03d2\u03d3\u03d4\u03d5" +
+            "\u03d6\u03d7\u03d8\u03d9\u03da\u03dc\u03dd\u03de\u03df\u03e0\u03e1\u03e2\u03e3\u03e4\u03e5" +
+            "\u03e6\u03e7\u03e8\u03e9\u03ea\u03eb\u03ec\u03ed\u03ee\u03ef\u03f0\u03f1\u03f2\u03f3\u03f4" +
+            "\u03f5\u03f6\u03f8\u03f9\u03fa\u03fb\u03fc\u03fd\u03fe\u03ff\u0400\u0401\u0402\u0403\u0404" +
+            "\u0405\u0406\u0407\u0408\u0409\u040a\u040b\u040c\u040d\u040e\u040f\u0410\u0411\u0412\u0413" +
+            "\u0414\u0415\u0416\u0417\u0418\u0419\u041a\u041b\u041c\u041d\u041e\u041f\u0420\u0421\u0422" +
+            "\u0423\u0424\u0425\u0426\u0427\u0428\u0429\u042a\u042b\u042c\u042d\u042e\u042f\u0430\u0431" +
+            "\u0432\u0433\u0434\u0435\u0436\u0437\u0438\u0439\u043a\u043b\u043c\u043d\u043e\u043f\u0440" +
+            "\u0441\u0442\u0443\u0444\u0445\u0446\u0447\u0448\u0449\u044a\u044b\u044c\u044d\u044e\u044f" +
+            "\u0450\u0451\u0452\u0453\u0454\u0455\u0456\u0457\u0458\u0459\u045a\u045b\u045c\u045d\u045e" +
+            "\u045f\u0460\u0463\u0466\u0469\u046c\u046f\u0472\u0475\u0478\u047b\u047e\u0481\u0484\u0487" +
+            "\u048a\u048e\u0492\u0496\u049a\u049e\u04a2\u04a6\u04aa\u04ae\u04b2\u04b6\u04ba\u04be\u04c2" +
+            "\u04c6\u04cd\u04d3\u04d6\u04d9\u04dc\u04df\u04e2\u04e5\u04e8\u04eb\u04ee\u04f1\u04f4\u04f7" +
+            "\u04fa\u04fd\u0500\u0503\u0506\u0509\u050c\u050f\u0512\u0515\u0518\u051b\u051e\u0521\u0524" +
+            "\u0527\u052a\u052d\u0530\u0533\u0536\u0539\u053c\u053f\u0540\u0541\u0542\u0545\u0547\u0549" +
+            "\u054b\u054d\u054f\u0551\u0553\u0555\u0557\u0559\u055b\u055d\u055f\u0561\u0563\u0565\u0567" +
+            "\u0569\u056b\u056d\u056f\u0571\u0573\u0575\u0577\u0579\u057b\u057d\u057f\u0584\u0588\u058a" +
+            "\u058b\u058c\u058d\u058e\u058f\u0590\u0591\u0592\u0593\u0594\u0595\u0596\u0597\u0598\u0599" +
+            "\u059a\u059b\u059c\u059d\u059e\u059f\u05a0\u05a1\u05a2\u05a3\u05a4\u05a5\u05a6\u05a7\u05a8" +
+            "\u05a9\u05aa\u05ac\u05ae\u05b0\u05b2\u05b4\u05b6\u05b8\u05ba\u05bc\u05be\u05c0\u05c2\u05c4" +
+            "\u05c6\u05c8\u05ca\u05cc\u05ce\u05d0\u05d2\u05d4\u05d6\u05d8\u05da\u05dd\u05e0\u05e3\u05e5" +
+            "\u05e8\u05ea\u05ed\u05ee\u05ef\u05f0\u05f1\u05f2\u05f3\u05f4\u05f5\u05f6\u05f7\u05f8\u05f9" +
+            "\u05fa\u05fb\u05fc\u05fd\u05fe\u05ff\u0600\u0601\u0602\u0603\u0605\u0609\u060d\u0611\u0614" +
+            "\u0618\u061b\u061e\u0623\u0627\u062a\u062d\u0630\u0634\u0638\u063b\u063e\u0640\u0643\u0647" +
+            "\u064b\u064d\u0652\u0658\u065d\u0660\u0665\u066a\u066e\u0671\u0674\u0677\u067b\u0680\u0684" +
+            "\u0687\u068a\u068d\u068f\u0691\u0693\u0695\u0698\u069b\u06a0\u06a3\u06a7\u06ac\u06af\u06b1" +
+            "\u06b3\u06b8\u06bc\u06c1\u06c4\u06c9\u06cb\u06ce\u06d1\u06d4\u06d7\u06da\u06de\u06e1\u06e3" +
+            "\u06e6\u06e9\u06ec\u06f0\u06f3\u06f6\u06f9\u06fe\u0702\u0704\u0709\u070b\u070f\u0713\u0716" +
+            "\u0719\u071c\u0720\u0722\u0725\u0729\u072b\u0730\u0733\u0735\u0737\u0739\u073b\u073d\u073f" +
+            "\u0741\u0743\u0745\u0747\u074a\u074d\u0750\u0753\u0756\u0759\u075c\u075f\u0762\u0765\u0768" +
+            "\u076b\u076e\u0771\u0774\u0777\u0779\u077b\u077e\u0780\u0782\u0784\u0787\u078a\u078c\u078e" +
+            "\u0790\u0792\u0794\u0798\u079a\u079c\u079e\u07a0\u07a2\u07a4\u07a6\u07a8\u07ab\u07af\u07b1" +
+            "\u07b3\u07b5\u07b7\u07b9\u07bb\u07bd\u07c0\u07c3\u07c6\u07c9\u07cb\u07cd\u07cf\u07d1\u07d3" +
+            "\u07d5\u07d7\u07d9\u07db\u07dd\u07e0\u07e3\u07e5\u07e8\u07eb\u07ee\u07f0\u07f3\u07f6\u07fa" +
+            "\u07fc\u07ff\u0802\u0805\u0808\u080d\u0813\u0815\u0817\u0819\u081b\u081d\u081f\u0821\u0823" +
+            "\u0825\u0827\u0829\u082b\u082d\u082f\u0831\u0833\u0835\u0837\u083b\u083d\u083f\u0841\u0845" +
+            "\u0848\u084a\u084c\u084e\u0850\u0852\u0854\u0856\u0858\u085a\u085c\u085f\u0861\u0863\u0866" +
+            "\u0869\u086b\u086f\u0872\u0874\u0876\u0878\u087a\u087d\u0880\u0882\u0884\u0886\u0888\u088a" +
+            "\u088c\u088e\u0890\u0892\u0895\u0898\u089b\u089e\u08a1\u08a4\u08a7\u08aa\u08ad\u08b0\u08b3" +
+            "\u08b6\u08b9\u08bc\u08bf\u08c2\u08c5\u08c8\u08cb\u08ce\u08d1\u08d4\u08d7\u08d8\u08d9\u08da" +
+            "\u08db\u08dc\u08dd\u08de\u08df\u08e0\u08e1\u08e2\u08e3\u08e4\u08e5\u08e6\u08e7\u08e8\u08e9" +
+            "\u08ea\u08eb\u08ec\u08ed\u08ee\u08ef\u08f0\u08f1\u08f2\u08f3\u08f4\u08f5\u08f6\u08f7\u08f8" +
+            "\u08f9\u08fa\u08fb\u08fc\u08fd\u08fe\u08ff\u0900\u0901\u0902\u0903\u0904\u0905\u0906\u0907" +
+            "\u0908\u0909\u090a\u090b\u090c\u090d\u090e\u090f\u0910\u0911\u0912\u0913\u0914\u0915\u0916" +
+            "\u0917\u0918\u0919\u091a\u091b\u091c\u091d\u091e\u091f\u0920\u0921\u0922\u0923\u0924\u0925" +
+            "\u0926\u0927\u0928\u0929\u092a\u092b\u092c\u092d\u092e\u092f\u0930\u0931\u0932\u0933\u0934" +
+            "\u0935\u0936\u0937\u0938\u0939\u093a\u093b\u093c\u093d\u093e\u093f\u0940\u0941\u0942\u0943" +
+            "\u0944\u0945\u0946\u0947\u0948\u0949\u094a\u094b\u094c\u094d\u094e\u094f\u0950\u0951\u0952" +
+            "\u0953\u0954\u0955\u0956\u0957\u0958\u0959\u095a\u095b\u095c\u095d\u095e\u095f\u0960\u0961" +
+            "\u0962\u0963\u0964\u0965\u0966\u0967\u0968\u0969\u096a\u096b\u096c\u096d\u096e\u096f\u0970" +
+            "\u0971\u0972\u0973\u0974\u0975\u0976\u0977\u0978\u0979\u097a\u097b\u097c\u097d\u097e\u097f" +
+            "\u0980\u0981\u0982\u0983\u0984\u0985\u0986\u0987\u0988\u0989\u098a\u098b\u098c\u098d\u098e" +
+            "\u098f\u0990\u0991\u0992\u0993\u0994\u0995\u0996\u0997\u0998\u0999\u099a\u099b\u099c\u099d" +
+            "\u099e\u099f\u09a0\u09a1\u09a2\u09a3\u09a4\u09a5\u09a6\u09a7\u09a8\u09a9\u09aa\u09ab\u09ac" +
+            "\u09ad\u09ae\u09af\u09b0\u09b1\u09b2\u09b3\u09b4\u09b5\u09b6\u09b7\u09b8\u09b9\u09ba\u09bb" +
+            "\u09bc\u09bd\u09be\u09bf\u09c0\u09c1\u09c2\u09c3\u09c4\u09c5\u09c6\u09c7\u09c8\u09c9\u09ca" +
+            "\u09cb\u09cc\u09cd\u09ce\u09cf\u09d0\u09d1\u09d2\u09d3\u09d4\u09d5\u09d6\u09d7\u09d8\u09d9" +
+            "\u09da\u09db\u09dc\u09dd\u09de\u09df\u09e0\u09e1\u09e2\u09e3\u09e4\u09e5\u09e6\u09e7\u09e8" +
+            "\u09e9\u09ea\u09eb\u09ec\u09ed\u09ee\u09ef\u09f0\u09f1\u09f2\u09f3\u09f4\u09f5\u09f6\u09f7" +
+            "\u09f8\u09f9\u09fa\u09fb\u09fc\u09fd\u09fe\u09ff\u0a00\u0a01\u0a02\u0a03\u0a04\u0a05\u0a06" +
+            "\u0a07\u0a08\u0a09\u0a0a\u0a0b\u0a0c\u0a0d\u0a0e\u0a0f\u0a10\u0a11\u0a12\u0a13\u0a14\u0a15" +
+            "\u0a16\u0a17\u0a18\u0a19\u0a1a\u0a1b\u0a1c\u0a1d\u0a1e\u0a1f\u0a20\u0a21\u0a22\u0a23\u0a24" +
+            "\u0a25\u0a26\u0a28\u0a29\u0a2a\u0a2b\u0a2c\u0a2d\u0a2e\u0a2f\u0a30\u0a31\u0a32\u0a33\u0a34" +
+            "\u0a35\u0a36\u0a37\u0a38\u0a39\u0a3a\u0a3b\u0a3c\u0a3d\u0a3e\u0a3f\u0a40\u0a41\u0a42\u0a43" +
+            "\u0a44\u0a45\u0a46\u0a47\u0a48\u0a49\u0a4a\u0a4b\u0a4c\u0a4d\u0a4e\u0a4f\u0a50\u0a51\u0a52" +
+            "\u0a53\u0a54\u0a55\u0a56\u0a57\u0a58\u0a59\u0a5a\u0a5b\u0a5c\u0a5d\u0a5e\u0a5f\u0a60\u0a61" +
+            "\u0a62\u0a63\u0a64\u0a65\u0a66\u0a67\u0a68\u0a69\u0a6a\u0a6b\u0a6c\u0a6d\u0a6f\u0a71\u0a73" +
+            "\u0a74\u0a75\u0a76\u0a78\u0a7a\u0a7c\u0a7d\u0a7e\u0a80\u0a82\u0a84\u0a87\u0a8a\u0a8c\u0a8e" +
+            "\u0a90\u0a92\u0a94\u0a96\u0a97\u0a98\u0a99\u0a9a\u0a9b\u0a9c\u0a9d\u0a9e\u0a9f\u0aa0\u0aa1" +
+            "\u0aa2\u0aa3\u0aa4\u0aa5\u0aa6\u0aa7\u0aa8\u0aa9\u0aaa\u0aab\u0aad\u0aae\u0aaf\u0ab0\u0ab1" +
+            "\u0ab2\u0ab3\u0ab4\u0ab5\u0ab6\u0ab7\u0ab8\u0ab9\u0aba\u0abb\u0abc\u0abd\u0abe\u0abf\u0ac0" +
+            "\u0ac1\u0ac2\u0ac3\u0ac4\u0ac5\u0ac6\u0ac7\u0ac8\u0ac9\u0aca\u0acb\u0acc\u0acd\u0ace\u0acf" +
+            "\u0ad0\u0ad2\u0ad4\u0ad6\u0ad8\u0ada\u0adc\u0ade\u0ae0\u0ae1\u0ae3\u0ae5\u0ae7\u0ae9\u0aeb" +
+            "\u0aed\u0aef\u0af1\u0af3\u0af5\u0af7\u0af9\u0afb\u0afd\u0aff\u0b01\u0b03\u0b05\u0b07\u0b09" +
+            "\u0b0b\u0b0d\u0b0f\u0b11\u0b13\u0b15\u0b17\u0b19\u0b1b\u0b1d\u0b1f\u0b21\u0b23\u0b25\u0b27" +
+            "\u0b29\u0b2b\u0b2d\u0b2f\u0b31\u0b33\u0b35\u0b37\u0b39\u0b3b\u0b3d\u0b3f\u0b41\u0b43\u0b45" +
+            "\u0b47\u0b49\u0b4b\u0b4d\u0b4f\u0b51\u0b53\u0b55\u0b57\u0b59\u0b5b\u0b5d\u0b5f\u0b61\u0b63" +
+            "\u0b65\u0b67\u0b69\u0b6b\u0b6d\u0b6f\u0b71\u0b73\u0b75\u0b77\u0b79\u0b7b\u0b7d\u0b7f\u0b81" +
+            "\u0b83\u0b85\u0b87\u0b89\u0b8b\u0b8c\u0b8d\u0b8f\u0b91\u0b93\u0b95\u0b97\u0b99\u0b9b\u0b9d" +
+            "\u0b9f\u0ba1\u0ba3\u0ba5\u0ba7\u0ba9\u0bab\u0bad\u0baf\u0bb1\u0bb3\u0bb5\u0bb7\u0bb9\u0bba" +
+            "\u0bbc\u0bbe\u0bc0\u0bc2\u0bc3\u0bc5\u0bc7\u0bc9\u0bcb\u0bcd\u0bcf\u0bd1\u0bd3\u0bd5\u0bd7" +
+            "\u0bd9\u0bdb\u0bdd\u0bdf\u0be1\u0be3\u0be5\u0be7\u0be9\u0beb\u0bed\u0bef\u0bf1\u0bf3\u0bf5" +
+            "\u0bf7\u0bf9\u0bfc\u0bff\u0c02\u0c05\u0c08\u0c0b\u0c0e\u0c11\u0c14\u0c17\u0c1a\u0c1d\u0c20" +
+            "\u0c23\u0c26\u0c29\u0c2c\u0c2f\u0c32\u0c35\u0c38\u0c3b\u0c3e\u0c41\u0c44\u0c47\u0c4a\u0c4d" +
+            "\u0c50\u0c53\u0c56\u0c59\u0c5c\u0c5f\u0c62\u0c65\u0c68\u0c6b\u0c6e\u0c71\u0c74\u0c77\u0c7a" +
+            "\u0c7d\u0c80\u0c83\u0c86\u0c89\u0c8c\u0c8f\u0c92\u0c95\u0c98\u0c9b\u0c9e\u0ca1\u0ca4\u0ca7" +
+            "\u0caa\u0cad\u0cb0\u0cb3\u0cb6\u0cb9\u0cbc\u0cbf\u0cc2\u0cc5\u0cc8\u0ccb\u0cce\u0cd1\u0cd4" +
+            "\u0cd7\u0cda\u0cdd\u0ce0\u0ce3\u0ce6\u0ce9\u0cec\u0cef\u0cf2\u0cf5\u0cf8\u0cfb\u0cfe\u0d01" +
+            "\u0d04\u0d07\u0d0a\u0d0d\u0d10\u0d13\u0d16\u0d19\u0d1d\u0d21\u0d25\u0d29\u0d2d\u0d31\u0d35" +
+            "\u0d38\u0d4a\u0d52\u0d56\u0d57\u0d58\u0d59\u0d5a\u0d5b\u0d5c\u0d5d\u0d5e\u0d5f\u0d60\u0d61" +
+            "\u0d62\u0d63\u0d64\u0d65\u0d66\u0d67\u0d68\u0d69\u0d6a\u0d6b\u0d6c\u0d6d\u0d6e\u0d6f\u0d70" +
+            "\u0d71\u0d72\u0d73\u0d74\u0d75\u0d76\u0d77\u0d78\u0d79\u0d7a\u0d7b\u0d7c\u0d7d\u0d7e\u0d7f" +
+            "\u0d80\u0d81\u0d82\u0d83\u0d84\u0d85\u0d86\u0d87\u0d88\u0d89\u0d8a\u0d8b\u0d8c\u0d8e\u0d8f" +
+            "\u0d90\u0d91\u0d92\u0d93\u0d94\u0d95\u0d96\u0d97\u0d98\u0d99\u0d9a\u0d9b\u0d9c\u0d9d\u0d9e" +
+            "\u0d9f\u0da0\u0da1\u0da2\u0da3\u0da4\u0da5\u0da6\u0da7\u0da8\u0da9\u0daa\u0dab\u0dac\u0dad" +
+            "\u0daf\u0db1\u0db3\u0db5\u0db7\u0db9\u0dbb\u0dbc\u0dbd\u0dbe\u0dbf\u0dc0\u0dc1\u0dc2\u0dc3" +
+            "\u0dc4\u0dc5\u0dc6\u0dc7\u0dc8\u0dc9\u0dca\u0dcb\u0dcc\u0dcd\u0dce\u0dcf\u0dd0\u0dd1\u0dd2" +
+            "\u0dd3\u0dd4\u0dd5\u0dd6\u0dd7\u0dd9\u0ddb\u0ddd\u0ddf\u0de1\u0de3\u0de5\u0de7\u0de9\u0deb" +
+            "\u0ded\u0df0\u0df3\u0df6\u0df9\u0dfc\u0dff\u0e02\u0e05\u0e08\u0e0b\u0e0e\u0e11\u0e14\u0e17" +
+            "\u0e1a\u0e1d\u0e20\u0e23\u0e26\u0e29\u0e2c\u0e2f\u0e32\u0e35\u0e38\u0e3b\u0e3e\u0e40\u0e42" +
+            "\u0e44\u0e46\u0e48\u0e4b\u0e4d\u0e4f\u0e51\u0e53\u0e55\u0e57\u0e59\u0e5a\u0e5b\u0e5c\u0e5d" +
+            "\u0e5e\u0e5f\u0e60\u0e61\u0e62\u0e63\u0e64\u0e65\u0e66\u0e67\u0e68\u0e69\u0e6a\u0e6b\u0e6c" +
+            "\u0e6d\u0e6e\u0e6f\u0e70\u0e71\u0e72\u0e73\u0e74\u0e75\u0e76\u0e77\u0e7a\u0e7d\u0e80\u0e83" +
+            "\u0e86\u0e89\u0e8c\u0e8f\u0e92\u0e93\u0e94\u0e95\u0e96\u0e97\u0e99\u0e9a\u0e9b\u0e9c\u0e9d" +
+            "\u0e9e\u0e9f\u0ea0\u0ea2\u0ea3\u0ea4\u0ea5\u0ea7\u0ea8\u0ea9\u0eab\u0eac\u0ead\u0eae\u0eaf" +
+            "\u0eb1\u0eb2\u0eb3\u0eb4\u0eb5\u0eb6\u0eb7\u0eb8\u0eb9\u0eba\u0ebb\u0ebc\u0ebd\u0ebe\u0ec0" +
+            "\u0ec1\u0ec2\u0ec3\u0ec5\u0ec6\u0ec7\u0ec8\u0ec9\u0eca\u0ecb\u0ecc\u0ecd\u0ece\u0ecf\u0ed0" +
+            "\u0ed1\u0ed2\u0ed3\u0ed4\u0ed5\u0ed6\u0ed7\u0ed8\u0ed9\u0eda\u0edb\u0edc\u0edd\u0ede\u0edf" +
+            "\u0ee0\u0ee1\u0ee3\u0ee4\u0ee5\u0ee6\u0ee7\u0ee8\u0eea\u0eec\u0eed\u0eee\u0eef\u0ef0\u0ef1" +
+            "\u0ef2\u0ef3\u0ef4\u0ef5\u0ef7\u0ef8\u0ef9\u0efa\u0efc\u0efd\u0efe\u0eff\u0f00\u0f01\u0f02" +
+            "\u0f03\u0f05\u0f06\u0f08\u0f09\u0f0a\u0f0b\u0f0c\u0f0d\u0f0e\u0f0f\u0f10\u0f11\u0f12\u0f13" +
+            "\u0f15\u0f16\u0f17\u0f18\u0f19\u0f1b\u0f1d\u0f1e\u0f1f\u0f20\u0f22\u0f24\u0f25\u0f26\u0f27" +
+            "\u0f28\u0f29\u0f2a\u0f2b\u0f2c\u0f2d\u0f2e\u0f30\u0f31\u0f32\u0f33\u0f34\u0f35\u0f36\u0f37" +
+            "\u0f38\u0f39\u0f3a\u0f3b\u0f3c\u0f3d\u0f3e\u0f40\u0f41\u0f42\u0f43\u0f44\u0f45\u0f47\u0f48" +
+            "\u0f49\u0f4a\u0f4b\u0f4c\u0f4d\u0f4e\u0f4f\u0f50\u0f51\u0f53\u0f54\u0f55\u0f56\u0f57\u0f58" +
+            "\u0f59\u0f5a\u0f5b\u0f5c\u0f5d\u0f5e\u0f5f\u0f60\u0f61\u0f62\u0f64\u0f65\u0f66\u0f67\u0f68" +
+            "\u0f6a\u0f6b\u0f6c\u0f6d\u0f6e\u0f6f\u0f70\u0f71\u0f73\u0f74\u0f75\u0f76\u0f78\u0f79\u0f7a" +
+            "\u0f7b\u0f7c\u0f7d\u0f7f\u0f81\u0f83\u0f84\u0f86\u0f87\u0f88\u0f89\u0f8a\u0f8b\u0f8c\u0f8d" +
+            "\u0f8e\u0f90\u0f91\u0f92\u0f93\u0f94\u0f95\u0f97\u0f98\u0f99\u0f9b\u0f9d\u0f9e\u0f9f\u0fa0" +
+            "\u0fa1\u0fa2\u0fa3\u0fa4\u0fa5\u0fa7\u0fa8\u0faa\u0fab\u0fad\u0fae\u0faf\u0fb1\u0fb2\u0fb3" +
+            "\u0fb5\u0fb7\u0fb8\u0fb9\u0fba\u0fbb\u0fbc\u0fbd\u0fbe\u0fbf\u0fc0\u0fc1\u0fc2\u0fc4\u0fc5" +
+            "\u0fc7\u0fc9\u0fca\u0fcc\u0fce\u0fd0\u0fd1\u0fd2\u0fd4\u0fd6\u0fd8\u0fda\u0fdb\u0fdc\u0fdd" +
+            "\u0fde\u0fdf\u0fe1\u0fe2\u0fe3\u0fe5\u0fe7\u0fe9\u0fea\u0feb\u0fec\u0fed\u0fef\u0ff1\u0ff2" +
+            "\u0ff3\u0ff5\u0ff6\u0ff7\u0ff8\u0ffa\u0ffb\u0ffc\u0ffd\u0ffe\u0fff\u1001\u1002\u1003\u1004" +
+            "\u1005\u1006\u1007\u1009\u100b\u100c\u100e\u100f\u1011\u1012\u1013\u1015\u1017\u1018\u101a" +
+            "\u101b\u101d\u101e\u101f\u1020\u1021\u1022\u1023\u1025\u1027\u1029\u102b\u102c\u102d\u102e" +
+            "\u102f\u1030\u1031\u1032\u1033\u1034\u1035\u1036\u1038\u1039\u103a\u103b\u103c\u103d\u103e" +
+            "\u103f\u1040\u1041\u1042\u1044\u1046\u1048\u1049\u104a\u104b\u104c\u104e\u104f\u1051\u1052" +
+            "\u1053\u1055\u1057\u1058\u1059\u105a\u105b\u105c\u105d\u105e\u105f\u1060\u1061\u1062\u1063" +
+            "\u1064\u1065\u1066\u1067\u1069\u106a\u106b\u106c\u106d\u106e\u1070\u1072\u1073\u1074\u1075" +
+            "\u1077\u1078\u1079\u107a\u107b\u107d\u107f\u1080\u1081\u1082\u1084\u1085\u1087\u1089\u108a" +
+            "\u108b\u108c\u108e\u108f\u1090\u1091\u1092\u1093\u1094\u1095\u1097\u1098\u1099\u109a\u109c" +
+            "\u109d\u109e\u109f\u10a0\u10a2\u10a4\u10a5\u10a6\u10a7\u10a9\u10aa\u10ac\u10ad\u10af\u10b0" +
+            "\u10b1\u10b2\u10b3\u10b4\u10b5\u10b6\u10b8\u10b9\u10ba\u10bb\u10bc\u10bd\u10bf\u10c0\u10c2" +
+            "\u10c4\u10c6\u10c7\u10c8\u10c9\u10ca\u10cb\u10cd");
+
+    /**
+     * Folded code points, UTF-16 encoded
+     */
+    static final char[] FOLDED = decode(
+            " a23\u03bc1o1\u204441\u204423\u20444ACEINOUYceinuyDdGgHhIJijJjKkLlL\267l\267\u02bcnRrSsT" +
+            "tWwZzDZDzdzLJLjljNJNjnj\306\346\u01b7\u0292\330\370\u0266\u0279\u027b\u0281\u0263x\u0295" +
+            "\u02b9;\u0391\267\u0395\u0397\u0399\u039f\u03a5\u03a9\u03b9\u03b1\u03b5\u03b7\u03c5\u03bf" +
+            "\u03c9\u03b2\u03b8\u03c6\u03c0\u03ba\u03c1\u03c2\u0398\u03a3\u0415\u0413\u0406\u041a\u0418" +
+            "\u0423\u0438\u0435\u0433\u0456\u043a\u0443\u0474\u0475\u0416\u0436\u0410\u0430\u04d8\u04d9" +
+            "\u0417\u0437\u041e\u043e\u04e8\u04e9\u042d\u044d\u0427\u0447\u042b\u044b\u0565\u0582\u0627" +
+            "\u0648\u064a\u0627\u0674\u0648\u0674\u06c7\u0674\u064a\u0674\u06d5\u06c1\u06d2\u0928\u0930" +
+            "\u0933\u0915\u0916\u0917\u091c\u0921\u0922\u092b\u092f\u09a1\u09a2\u09af\u0a32\u0a38\u0a16" +
+            "\u0a17\u0a1c\u0a2b\u0b21\u0b22\u0b92\u0e32\u0eb2\u0eab\u0e99\u0eab\u0ea1\u0f0b\u0f42\u0f4c" +
+            "\u0f51\u0f56\u0f5b\u0f40\u1025\u10dc\u1b05\u1b07\u1b09\u1b0b\u1b0d\u1b11B\u018eM\u0222P\u0250" +
+            "\u0251\u1d02b\u0259\u025b\u025cm\u014b\u0254\u1d16\u1d17p\u1d1d\u026fv\u1d25\u03b3\u03b4" +
+            "\u03c7\u043d\u0252\u0255\360f\u025f\u0261\u0265\u0268\u0269\u026a\u1d7b\u029d\u026d\u1d85" +
+            "\u029f\u0271\u0270\u0272\u0273\u0274\u0275\u0278\u0282\u0283\u01ab\u0289\u028a\u1d1c\u028b" +
+            "\u028c\u0290\u0291FVXa\u02be\u03a1`......\u2032\u2032\u2032\u2032\u2032\u2035\u2035\u2035" +
+            "\u2035\u2035!!???!!?\u2032\u2032\u2032\u20320456789+\u2212=()Rsa/ca/s\260Cc/oc/u\u0190\260" +
+            "F\u0127NoQSMTELTM\u05d0\u05d1\u05d2\u05d3FAX\u0393\u03a0\u22111\u204471\u204491\u2044101" +
+            "\u204432\u204431\u204452\u204453\u204454\u204451\u204465\u204461\u204483\u204485\u204487" +
+            "\u204481\u2044IIIIIIVVIVIIVIIIIXXIXIIiiiiiivviviiviiiixxixii0\u20443\u2190\u2192\u2194\u21d0" +
+            "\u21d4\u21d2\u2203\u2208\u220b\u2223\u2225\u222b\u222b\u222b\u222b\u222b\u222e\u222e\u222e" +
+            "\u222e\u222e\u223c\u2243\u2245\u2248\u2261\u224d<>\u2264\u2265\u2272\u2273\u2276\u2277\u227a" +
+            "\u227b\u2282\u2283\u2286\u2287\u22a2\u22a8\u22a9\u22ab\u227c\u227d\u2291\u2292\u22b2\u22b3" +
+            "\u22b4\u22b5\u3008\u30091011121314151617181920(1)(2)(3)(4)(5)(6)(7)(8)(9)(10)(11)(12)(13" +
+            ")(14)(15)(16)(17)(18)(19)(20)1.2.3.4.5.6.7.8.9.10.11.12.13.14.15.16.17.18.19.20.(a)(b)(c" +
+            ")(d)(e)(f)(g)(h)(i)(j)(k)(l)(m)(n)(o)(p)(q)(r)(s)(t)(u)(v)(w)(x)(y)(z)q\u222b\u222b\u222b" +
+            "\u222b::======\u2add\u2d61\u6bcd\u9f9f\u4e00\u4e28\u4e36\u4e3f\u4e59\u4e85\u4e8c\u4ea0\u4eba" +
+            "\u513f\u5165\u516b\u5182\u5196\u51ab\u51e0\u51f5\u5200\u529b\u52f9\u5315\u531a\u5338\u5341" +
+            "\u535c\u5369\u5382\u53b6\u53c8\u53e3\u56d7\u571f\u58eb\u5902\u590a\u5915\u5927\u5973\u5b50" +
+            "\u5b80\u5bf8\u5c0f\u5c22\u5c38\u5c6e\u5c71\u5ddb\u5de5\u5df1\u5dfe\u5e72\u5e7a\u5e7f\u5ef4" +
+            "\u5efe\u5f0b\u5f13\u5f50\u5f61\u5f73\u5fc3\u6208\u6236\u624b\u652f\u6534\u6587\u6597\u65a4" +
+            "\u65b9\u65e0\u65e5\u66f0\u6708\u6728\u6b20\u6b62\u6b79\u6bb3\u6bcb\u6bd4\u6bdb\u6c0f\u6c14" +
+            "\u6c34\u706b\u722a\u7236\u723b\u723f\u7247\u7259\u725b\u72ac\u7384\u7389\u74dc\u74e6\u7518" +
+            "\u751f\u7528\u7530\u758b\u7592\u7676\u767d\u76ae\u76bf\u76ee\u77db\u77e2\u77f3\u793a\u79b8" +
+            "\u79be\u7a74\u7acb\u7af9\u7c73\u7cf8\u7f36\u7f51\u7f8a\u7fbd\u8001\u800c\u8012\u8033\u807f" +
+            "\u8089\u81e3\u81ea\u81f3\u81fc\u820c\u821b\u821f\u826e\u8272\u8278\u864d\u866b\u8840\u884c" +
+            "\u8863\u897e\u898b\u89d2\u8a00\u8c37\u8c46\u8c55\u8c78\u8c9d\u8d64\u8d70\u8db3\u8eab\u8eca" +
+            "\u8f9b\u8fb0\u8fb5\u9091\u9149\u91c6\u91cc\u91d1\u9577\u9580\u961c\u96b6\u96b9\u96e8\u9751" +
+            "\u975e\u9762\u9769\u97cb\u97ed\u97f3\u9801\u98a8\u98db\u98df\u9996\u9999\u99ac\u9aa8\u9ad8" +
+            "\u9adf\u9b25\u9b2f\u9b32\u9b3c\u9b5a\u9ce5\u9e75\u9e7f\u9ea5\u9ebb\u9ec3\u9ecd\u9ed1\u9ef9" +
+            "\u9efd\u9f0e\u9f13\u9f20\u9f3b\u9f4a\u9f52\u9f8d\u9f9c\u9fa0\u3012\u5344\u5345\u304b\u304d" +
+            "\u304f\u3051\u3053\u3055\u3057\u3059\u305b\u305d\u305f\u3061\u3064\u3066\u3068\u306f\u3072" +
+            "\u3075\u3078\u307b\u3046\u309d\u3088\u308a\u30ab\u30ad\u30af\u30b1\u30b3\u30b5\u30b7\u30b9" +
+            "\u30bb\u30bd\u30bf\u30c1\u30c4\u30c6\u30c8\u30cf\u30d2\u30d5\u30d8\u30db\u30a6\u30ef\u30f0" +
+            "\u30f1\u30f2\u30fd\u30b3\u30c8\u1100\u1101\u11aa\u1102\u11ac\u11ad\u1103\u1104\u1105\u11b0" +
+            "\u11b1\u11b2\u11b3\u11b4\u11b5\u111a\u1106\u1107\u1108\u1121\u1109\u110a\u110b\u110c\u110d" +
+            "\u110e\u110f\u1110\u1111\u1112\u1161\u1162\u1163\u1164\u1165\u1166\u1167\u1168\u1169\u116a" +
+            "\u116b\u116c\u116d\u116e\u116f\u1170\u1171\u1172\u1173\u1174\u1175\u1160\u1114\u1115\u11c7" +
+            "\u11c8\u11cc\u11ce\u11d3\u11d7\u11d9\u111c\u11dd\u11df\u111d\u111e\u1120\u1122\u1123\u1127" +
+            "\u1129\u112b\u112c\u112d\u112e\u112f\u1132\u1136\u1140\u1147\u114c\u11f1\u11f2\u1157\u1158" +
+            "\u1159\u1184\u1185\u1188\u1191\u1192\u1194\u119e\u11a1\u4e09\u56db\u4e0a\u4e2d\u4e0b\u7532" +
+            "\u4e19\u4e01\u5929\u5730(\u1100)(\u1102)(\u1103)(\u1105)(\u1106)(\u1107)(\u1109)(\u110b)" +
+            "(\u110c)(\u110e)(\u110f)(\u1110)(\u1111)(\u1112)(\u1100\u1161)(\u1102\u1161)(\u1103\u1161" +
+            ")(\u1105\u1161)(\u1106\u1161)(\u1107\u1161)(\u1109\u1161)(\u110b\u1161)(\u110c\u1161)(\u110e" +
+            "\u1161)(\u110f\u1161)(\u1110\u1161)(\u1111\u1161)(\u1112\u1161)(\u110c\u116e)(\u110b\u1169" +
+            "\u110c\u1165\u11ab)(\u110b\u1169\u1112\u116e)(\u4e00)(\u4e8c)(\u4e09)(\u56db)(\u4e94)(\u516d" +
+            ")(\u4e03)(\u516b)(\u4e5d)(\u5341)(\u6708)(\u706b)(\u6c34)(\u6728)(\u91d1)(\u571f)(\u65e5" +
+            ")(\u682a)(\u6709)(\u793e)(\u540d)(\u7279)(\u8ca1)(\u795d)(\u52b4)(\u4ee3)(\u547c)(\u5b66" +
+            ")(\u76e3)(\u4f01)(\u8cc7)(\u5354)(\u796d)(\u4f11)(\u81ea)(\u81f3)\u554f\u5e7c\u7b8fPTE21" +
+            "2223242526272829303132333435\u1100\u1161\u1102\u1161\u1103\u1161\u1105\u1161\u1106\u1161" +
+            "\u1107\u1161\u1109\u1161\u110b\u1161\u110c\u1161\u110e\u1161\u110f\u1161\u1110\u1161\u1111" +
+            "\u1161\u1112\u1161\u110e\u1161\u11b7\u1100\u1169\u110c\u116e\u110b\u1174\u110b\u116e\u4e94" +
+            "\u516d\u4e03\u4e5d\u682a\u6709\u793e\u540d\u7279\u8ca1\u795d\u52b4\u79d8\u7537\u9069\u512a" +
+            "\u5370\u6ce8\u9805\u4f11\u5199\u6b63\u5de6\u53f3\u533b\u5b97\u5b66\u76e3\u4f01\u8cc7\u5354" +
+            "\u591c3637383940414243444546474849501\u67082\u67083\u67084\u67085\u67086\u67087\u67088\u6708" +
+            "9\u670810\u670811\u670812\u6708HgergeVLTD\u30a2\u30a4\u30a8\u30aa\u30ca\u30cb\u30cc\u30cd" +
+            "\u30ce\u30de\u30df\u30e0\u30e1\u30e2\u30e4\u30e6\u30e8\u30e9\u30ea\u30eb\u30ec\u30ed\u4ee4" +
+            "\u548c\u30a2\u30cf\u30fc\u30c8\u30a2\u30eb\u30d5\u30a1\u30a2\u30f3\u30d8\u30a2\u30a2\u30fc" +
+            "\u30eb\u30a4\u30cb\u30f3\u30af\u30a4\u30f3\u30c1\u30a6\u30a9\u30f3\u30a8\u30b9\u30af\u30fc" +
+            "\u30c8\u30a8\u30fc\u30ab\u30fc\u30aa\u30f3\u30b9\u30aa\u30fc\u30e0\u30ab\u30a4\u30ea\u30ab" +
+            "\u30e9\u30c3\u30c8\u30ab\u30ed\u30ea\u30fc\u30ab\u30ed\u30f3\u30ab\u30f3\u30de\u30ad\u30ab" +
+            "\u30ad\u30cb\u30fc\u30ad\u30e5\u30ea\u30fc\u30ad\u30eb\u30bf\u30fc\u30ad\u30ed\u30ad\u30ed" +
+            "\u30af\u30e9\u30e0\u30ad\u30ed\u30e1\u30fc\u30c8\u30eb\u30ad\u30ed\u30ef\u30c3\u30c8\u30af" +
+            "\u30e9\u30e0\u30af\u30e9\u30e0\u30c8\u30f3\u30af\u30eb\u30bb\u30a4\u30ed\u30af\u30ed\u30fc" +
+            "\u30cd\u30b1\u30fc\u30b9\u30b3\u30eb\u30ca\u30b3\u30fc\u30db\u30b5\u30a4\u30af\u30eb\u30b5" +
+            "\u30f3\u30c1\u30fc\u30e0\u30b7\u30ea\u30f3\u30af\u30bb\u30f3\u30c1\u30bb\u30f3\u30c8\u30bf" +
+            "\u30fc\u30b9\u30c6\u30b7\u30c8\u30eb\u30c8\u30f3\u30ca\u30ce\u30ce\u30c3\u30c8\u30cf\u30a4" +
+            "\u30c4\u30cf\u30fc\u30bb\u30f3\u30c8\u30cf\u30fc\u30c4\u30cf\u30fc\u30ec\u30eb\u30d2\u30a2" +
+            "\u30b9\u30c8\u30eb\u30d2\u30af\u30eb\u30d2\u30b3\u30d2\u30eb\u30d5\u30a1\u30e9\u30c3\u30c8" +
+            "\u30d5\u30a3\u30fc\u30c8\u30d5\u30c3\u30b7\u30a7\u30eb\u30d5\u30e9\u30f3\u30d8\u30af\u30bf" +
+            "\u30fc\u30eb\u30d8\u30bd\u30d8\u30cb\u30d2\u30d8\u30eb\u30c4\u30d8\u30f3\u30b9\u30d8\u30fc" +
+            "\u30b7\u30d8\u30fc\u30bf\u30db\u30a4\u30f3\u30c8\u30db\u30eb\u30c8\u30db\u30f3\u30db\u30f3" +
+            "\u30c8\u30db\u30fc\u30eb\u30db\u30fc\u30f3\u30de\u30a4\u30af\u30ed\u30de\u30a4\u30eb\u30de" +
+            "\u30c3\u30cf\u30de\u30eb\u30af\u30de\u30f3\u30b7\u30e7\u30f3\u30df\u30af\u30ed\u30f3\u30df" +
+            "\u30ea\u30df\u30ea\u30cf\u30fc\u30eb\u30e1\u30ab\u30e1\u30ab\u30c8\u30f3\u30e1\u30fc\u30c8" +
+            "\u30eb\u30e4\u30fc\u30c8\u30e4\u30fc\u30eb\u30e6\u30a2\u30f3\u30ea\u30c3\u30c8\u30eb\u30ea" +
+            "\u30e9\u30eb\u30d2\u30fc\u30eb\u30fc\u30d5\u30eb\u30ec\u30e0\u30ec\u30f3\u30c8\u30b1\u30f3" +
+            "\u30ef\u30c3\u30c80\u70b91\u70b92\u70b93\u70b94\u70b95\u70b96\u70b97\u70b98\u70b99\u70b9" +
+            "10\u70b911\u70b912\u70b913\u70b914\u70b915\u70b916\u70b917\u70b918\u70b919\u70b920\u70b9" +
+            "21\u70b922\u70b923\u70b924\u70b9hPadaAUbaroVpcdmdm2dm3IU\u5e73\u6210\u662d\u548c\u5927\u6b63" +
+            "\u660e\u6cbb\u682a\u5f0f\u4f1a\u793epAnA\u03bcAmAkAKBMBGBcalkcalpFnF\u03bcF\u03bcgmgkgHz" +
+            "kHzMHzGHzTHz\u03bclmldlklfmnm\u03bcmmmcmkmmm2cm2m2km2mm3cm3m3km3m\u2215sm\u2215s2PakPaMP" +
+            "aGParadrad\u2215srad\u2215s2psns\u03bcsmspVnV\u03bcVmVkVMVpWnW\u03bcWmWkWMWk\u03a9M\u03a9" +
+            "a.m.BqcccdC\u2215kgCo.dBGyhaHPinKKKMktlmlnloglxmbmilmolPHp.m.PPMPRsrSvWbV\u2215mA\u2215m" +
+            "1\u65e52\u65e53\u65e54\u65e55\u65e56\u65e57\u65e58\u65e59\u65e510\u65e511\u65e512\u65e51" +
+            "3\u65e514\u65e515\u65e516\u65e517\u65e518\u65e519\u65e520\u65e521\u65e522\u65e523\u65e52" +
+            "4\u65e525\u65e526\u65e527\u65e528\u65e529\u65e530\u65e531\u65e5gal\u044a\u044c\ua76f\u0126" +
+            "\u0153\ua727\uab37\u026b\uab52\u028d\u8c48\u66f4\u8cc8\u6ed1\u4e32\u53e5\u5951\u5587\u5948" +
+            "\u61f6\u7669\u7f85\u863f\u87ba\u88f8\u908f\u6a02\u6d1b\u70d9\u73de\u843d\u916a\u99f1\u4e82" +
+            "\u5375\u6b04\u721b\u862d\u9e1e\u5d50\u6feb\u85cd\u8964\u62c9\u81d8\u881f\u5eca\u6717\u6d6a" +
+            "\u72fc\u90ce\u4f86\u51b7\u52de\u64c4\u6ad3\u7210\u76e7\u8606\u865c\u8def\u9732\u9b6f\u9dfa" +
+            "\u788c\u797f\u7da0\u83c9\u9304\u8ad6\u58df\u5f04\u7c60\u807e\u7262\u78ca\u8cc2\u96f7\u58d8" +
+            "\u5c62\u6a13\u6dda\u6f0f\u7d2f\u7e37\u964b\u52d2\u808b\u51dc\u51cc\u7a1c\u7dbe\u83f1\u9675" +
+            "\u8b80\u62cf\u8afe\u4e39\u5be7\u6012\u7387\u7570\u5317\u78fb\u4fbf\u5fa9\u4e0d\u6ccc\u6578" +
+            "\u7d22\u53c3\u585e\u7701\u8449\u8aaa\u6bba\u6c88\u62fe\u82e5\u63a0\u7565\u4eae\u5169\u51c9" +
+            "\u6881\u7ce7\u826f\u8ad2\u91cf\u52f5\u5442\u5eec\u65c5\u6ffe\u792a\u95ad\u9a6a\u9e97\u9ece" +
+            "\u66c6\u6b77\u8f62\u5e74\u6190\u6200\u649a\u6f23\u7149\u7489\u79ca\u7df4\u806f\u8f26\u84ee" +
+            "\u9023\u934a\u5217\u52a3\u54bd\u70c8\u88c2\u5ec9\u5ff5\u637b\u6bae\u7c3e\u7375\u4ee4\u56f9" +
+            "\u5dba\u601c\u73b2\u7469\u7f9a\u8046\u9234\u96f6\u9748\u9818\u4f8b\u79ae\u91b4\u96b8\u60e1" +
+            "\u4e86\u50da\u5bee\u5c3f\u6599\u71ce\u7642\u84fc\u907c\u6688\u962e\u5289\u677b\u67f3\u6d41" +
+            "\u6e9c\u7409\u7559\u786b\u7d10\u985e\u622e\u9678\u502b\u5d19\u6dea\u8f2a\u5f8b\u6144\u6817" +
+            "\u9686\u5229\u540f\u5c65\u6613\u674e\u68a8\u6ce5\u7406\u75e2\u7f79\u88cf\u88e1\u96e2\u533f" +
+            "\u6eba\u541d\u71d0\u7498\u85fa\u96a3\u9c57\u9e9f\u6797\u6dcb\u81e8\u7b20\u7c92\u72c0\u7099" +
+            "\u8b58\u4ec0\u8336\u523a\u5207\u5ea6\u62d3\u7cd6\u5b85\u6d1e\u66b4\u8f3b\u964d\u5ed3\u5140" +
+            "\u55c0\u585a\u6674\u51de\u732a\u76ca\u793c\u795e\u7965\u798f\u9756\u7cbe\u8612\u8af8\u9038" +
+            "\u90fd\u98ef\u98fc\u9928\u9db4\u90de\u96b7\u4fae\u50e7\u514d\u52c9\u52e4\u5351\u559d\u5606" +
+            "\u5668\u5840\u58a8\u5c64\u6094\u6168\u618e\u61f2\u654f\u65e2\u6691\u6885\u6d77\u6e1a\u6f22" +
+            "\u716e\u722b\u7422\u7891\u7949\u7948\u7950\u7956\u798d\u798e\u7a40\u7a81\u7bc0\u7e09\u7e41" +
+            "\u7f72\u8005\u81ed\u8279\u8457\u8910\u8996\u8b01\u8b39\u8cd3\u8d08\u8fb6\u96e3\u97ff\u983b" +
+            "\u6075\ud850\udeee\u8218\u4e26\u51b5\u5168\u4f80\u5145\u5180\u52c7\u52fa\u5555\u5599\u55e2" +
+            "\u58b3\u5944\u5954\u5a62\u5b28\u5ed2\u5ed9\u5f69\u5fad\u60d8\u614e\u6108\u6160\u6234\u63c4" +
+            "\u641c\u6452\u6556\u671b\u6756\u6edb\u6ecb\u701e\u77a7\u7235\u72af\u7471\u7506\u753b\u761d" +
+            "\u761f\u76db\u76f4\u774a\u7740\u78cc\u7ab1\u7c7b\u7d5b\u7f3e\u8352\u83ef\u8779\u8941\u8986" +
+            "\u8abf\u8acb\u8aed\u8b8a\u8f38\u9072\u9199\u9276\u967c\u97db\u980b\u9b12\ud84a\udc4a\ud84a" +
+            "\udc44\ud84c\udfd5\u3b9d\u4018\u4039\ud854\ude49\ud857\udcd0\ud85f\uded3\u9f43\u9f8efffi" +
+            "flffifflst\u0574\u0576\u0574\u0565\u0574\u056b\u057e\u0576\u0574\u056d\u05d9\u05f2\u05e2" +
+            "\u05d4\u05db\u05dc\u05dd\u05e8\u05ea\u05e9\u05d5\u05d6\u05d8\u05da\u05de\u05e0\u05e1\u05e3" +
+            "\u05e4\u05e6\u05e7\u05d0\u05dc\u0671\u067b\u067e\u0680\u067a\u067f\u0679\u06a4\u06a6\u0684" +
+            "\u0683\u0686\u0687\u068d\u068c\u068e\u0688\u0698\u0691\u06a9\u06af\u06b3\u06b1\u06ba\u06bb" +
+            "\u06be\u06ad\u06c7\u06c6\u06c8\u06cb\u06c5\u06c9\u06d0\u0649\u064a\u0627\u064a\u06d5\u064a" +
+            "\u0648\u064a\u06c7\u064a\u06c6\u064a\u06c8\u064a\u06d0\u064a\u0649\u06cc\u064a\u062c\u064a" +
+            "\u062d\u064a\u0645\u064a\u064a\u0628\u062c\u0628\u062d\u0628\u062e\u0628\u0645\u0628\u0649" +
+            "\u0628\u064a\u062a\u062c\u062a\u062d\u062a\u062e\u062a\u0645\u062a\u0649\u062a\u064a\u062b" +
+            "\u062c\u062b\u0645\u062b\u0649\u062b\u064a\u062c\u062d\u062c\u0645\u062d\u062c\u062d\u0645" +
+            "\u062e\u062c\u062e\u062d\u062e\u0645\u0633\u062c\u0633\u062d\u0633\u062e\u0633\u0645\u0635" +
+            "\u062d\u0635\u0645\u0636\u062c\u0636\u062d\u0636\u062e\u0636\u0645\u0637\u062d\u0637\u0645" +
+            "\u0638\u0645\u0639\u062c\u0639\u0645\u063a\u062c\u063a\u0645\u0641\u062c\u0641\u062d\u0641" +
+            "\u062e\u0641\u0645\u0641\u0649\u0641\u064a\u0642\u062d\u0642\u0645\u0642\u0649\u0642\u064a" +
+            "\u0643\u0627\u0643\u062c\u0643\u062d\u0643\u062e\u0643\u0644\u0643\u0645\u0643\u0649\u0643" +
+            "\u064a\u0644\u062c\u0644\u062d\u0644\u062e\u0644\u0645\u0644\u0649\u0644\u064a\u0645\u062c" +
+            "\u0645\u062d\u0645\u062e\u0645\u0645\u0645\u0649\u0645\u064a\u0646\u062c\u0646\u062d\u0646" +
+            "\u062e\u0646\u0645\u0646\u0649\u0646\u064a\u0647\u062c\u0647\u0645\u0647\u0649\u0647\u064a" +
+            "\u064a\u062e\u0630\u0631\u064a\u0631\u064a\u0632\u064a\u0646\u0628\u0631\u0628\u0632\u0628" +
+            "\u0646\u062a\u0631\u062a\u0632\u062a\u0646\u062b\u0631\u062b\u0632\u062b\u0646\u0645\u0627" +
+            "\u0646\u0631\u0646\u0632\u0646\u0646\u064a\u0647\u0628\u0647\u062a\u0647\u0635\u062e\u0644" +
+            "\u0647\u0646\u0647\u0647\u062b\u0647\u0633\u0647\u0634\u0645\u0634\u0647\u0640\u0637\u0649" +
+            "\u0637\u064a\u0639\u0649\u0639\u064a\u063a\u0649\u063a\u064a\u0633\u0649\u0633\u064a\u0634" +
+            "\u0649\u0634\u064a\u062d\u0649\u062d\u064a\u062c\u0649\u062c\u064a\u062e\u0649\u062e\u064a" +
+            "\u0635\u0649\u0635\u064a\u0636\u0649\u0636\u064a\u0634\u062c\u0634\u062d\u0634\u062e\u0634" +
+            "\u0631\u0633\u0631\u0635\u0631\u0636\u0631\u062a\u062c\u0645\u062a\u062d\u062c\u062a\u062d" +
+            "\u0645\u062a\u062e\u0645\u062a\u0645\u062c\u062a\u0645\u062d\u062a\u0645\u062e\u062c\u0645" +
+            "\u062d\u062d\u0645\u064a\u062d\u0645\u0649\u0633\u062d\u062c\u0633\u062c\u062d\u0633\u062c" +
+            "\u0649\u0633\u0645\u062d\u0633\u0645\u062c\u0633\u0645\u0645\u0635\u062d\u062d\u0635\u0645" +
+            "\u0645\u0634\u062d\u0645\u0634\u062c\u064a\u0634\u0645\u062e\u0634\u0645\u0645\u0636\u062d" +
+            "\u0649\u0636\u062e\u0645\u0637\u0645\u062d\u0637\u0645\u0645\u0637\u0645\u064a\u0639\u062c" +
+            "\u0645\u0639\u0645\u0645\u0639\u0645\u0649\u063a\u0645\u0645\u063a\u0645\u064a\u063a\u0645" +
+            "\u0649\u0641\u062e\u0645\u0642\u0645\u062d\u0642\u0645\u0645\u0644\u062d\u0645\u0644\u062d" +
+            "\u064a\u0644\u062d\u0649\u0644\u062c\u062c\u0644\u062e\u0645\u0644\u0645\u062d\u0645\u062d" +
+            "\u062c\u0645\u062d\u0645\u0645\u062d\u064a\u0645\u062c\u062d\u0645\u062c\u0645\u0645\u062e" +
+            "\u062c\u0645\u062e\u0645\u0645\u062c\u062e\u0647\u0645\u062c\u0647\u0645\u0645\u0646\u062d" +
+            "\u0645\u0646\u062d\u0649\u0646\u062c\u0645\u0646\u062c\u0649\u0646\u0645\u064a\u0646\u0645" +
+            "\u0649\u064a\u0645\u0645\u0628\u062e\u064a\u062a\u062c\u064a\u062a\u062c\u0649\u062a\u062e" +
+            "\u064a\u062a\u062e\u0649\u062a\u0645\u064a\u062a\u0645\u0649\u062c\u0645\u064a\u062c\u062d" +
+            "\u0649\u062c\u0645\u0649\u0633\u062e\u0649\u0635\u062d\u064a\u0634\u062d\u064a\u0636\u062d" +
+            "\u064a\u0644\u062c\u064a\u0644\u0645\u064a\u064a\u062d\u064a\u064a\u062c\u064a\u064a\u0645" +
+            "\u064a\u0645\u0645\u064a\u0642\u0645\u064a\u0646\u062d\u064a\u0639\u0645\u064a\u0643\u0645" +
+            "\u064a\u0646\u062c\u062d\u0645\u062e\u064a\u0644\u062c\u0645\u0643\u0645\u0645\u062c\u062d" +
+            "\u064a\u062d\u062c\u064a\u0645\u062c\u064a\u0641\u0645\u064a\u0628\u062d\u064a\u0633\u062e" +
+            "\u064a\u0646\u062c\u064a\u0635\u0644\u06d2\u0642\u0644\u06d2\u0627\u0644\u0644\u0647\u0627" +
+            "\u0643\u0628\u0631\u0645\u062d\u0645\u062f\u0635\u0644\u0639\u0645\u0631\u0633\u0648\u0644" +
+            "\u0639\u0644\u064a\u0647\u0648\u0633\u0644\u0645\u0635\u0644\u0649\u0635\u0644\u0649 \u0627" +
+            "\u0644\u0644\u0647 \u0639\u0644\u064a\u0647 \u0648\u0633\u0644\u0645\u062c\u0644 \u062c\u0644" +
+            "\u0627\u0644\u0647\u0631\u06cc\u0627\u0644,\u3001\u3002:!?\u3016\u3017_{}\u3014\u3015\u3010" +
+            "\u3011\u300a\u300b\u300c\u300d\u300e\u300f[]#&*\134$%@\u0621\u0628\u0629\u062a\u062b\u062c" +
+            "\u062d\u062e\u062f\u0632\u0633\u0634\u0635\u0636\u0637\u0638\u0639\u063a\u0641\u0642\u0643" +
+            "\u0644\u0645\u0646\u0644\u0627\042'/^|~\u2985\u2986\u30fb\u30a1\u30a3\u30a5\u30a7\u30a9\u30e3" +
+            "\u30e5\u30e7\u30c3\u30fc\u30f3\242\243\254\246\245\u20a9\u2502\u2191\u2193\u25a0\u25cb\ud804" +
+            "\udc99\ud804\udc9b\ud804\udca5\ud834\udd57\ud834\udd58\ud834\uddb9\ud834\uddba\u0131\u0237" +
+            "\u0392\u0394\u0396\u039a\u039b\u039c\u039d\u039e\u03a4\u03a6\u03a7\u03a8\u2207\u03b6\u03bb" +
+            "\u03bd\u03be\u03c3\u03c4\u03c8\u2202\u03dc\u03dd\u066e\u06a1\u066f0.0,1,2,3,4,5,6,7,8,9," +
+            "(A)(B)(C)(D)(E)(F)(G)(H)(I)(J)(K)(L)(M)(N)(O)(P)(Q)(R)(S)(T)(U)(V)(W)(X)(Y)(Z)\u3014S\u3015" +
+            "CDWZHVSDSSPPVWCMCMDMRDJ\u307b\u304b\u30b3\u30b3\u5b57\u53cc\u591a\u89e3\u4ea4\u6620\u7121" +
+            "\u524d\u5f8c\u518d\u65b0\u521d\u7d42\u8ca9\u58f0\u5439\u6f14\u6295\u6355\u904a\u6307\u6253" +
+            "\u7981\u7a7a\u5408\u6e80\u7533\u5272\u55b6\u914d\u3014\u672c\u3015\u3014\u4e09\u3015\u3014" +
+            "\u4e8c\u3015\u3014\u5b89\u3015\u3014\u70b9\u3015\u3014\u6253\u3015\u3014\u76d7\u3015\u3014" +
+            "\u52dd\u3015\u3014\u6557\u3015\u5f97\u53ef\u4e3d\u4e38\u4e41\ud840\udd22\u4f60\u4fbb\u5002" +
+            "\u507a\u5099\u50cf\u349e\ud841\ude3a\u5154\u5164\u5177\ud841\udd1c\u34b9\u5167\ud841\udd4b" +
+            "\u5197\u51a4\u4ecc\u51ac\ud864\udddf\u5203\u34df\u523b\u5246\u5277\u3515\u5305\u5306\u5349" +
+            "\u535a\u5373\u537d\u537f\ud842\ude2c\u7070\u53ca\u53df\ud842\udf63\u53eb\u53f1\u5406\u549e" +
+            "\u5438\u5448\u5468\u54a2\u54f6\u5510\u5553\u5563\u5584\u55ab\u55b3\u55c2\u5716\u5717\u5651" +
+            "\u5674\u58ee\u57ce\u57f4\u580d\u578b\u5832\u5831\u58ac\ud845\udce4\u58f2\u58f7\u5906\u5922" +
+            "\u5962\ud845\udea8\ud845\udeea\u59ec\u5a1b\u5a27\u59d8\u5a66\u36ee\u36fc\u5b08\u5b3e\ud846" +
+            "\uddc8\u5bc3\u5bd8\u5bf3\ud846\udf18\u5bff\u5c06\u5f53\u3781\u5c60\u5cc0\u5c8d\ud847\udde4" +
+            "\u5d43\ud847\udde6\u5d6e\u5d6b\u5d7c\u5de1\u5de2\u382f\u5dfd\u5e28\u5e3d\u5e69\u3862\ud848" +
+            "\udd83\u387c\u5eb0\u5eb3\u5eb6\ud868\udf92\ud848\udf31\u8201\u5f22\u38c7\ud84c\udeb8\ud858" +
+            "\uddda\u5f62\u5f6b\u38e3\u5f9a\u5fcd\u5fd7\u5ff9\u6081\u393a\u391c\ud849\uded4\u60c7\u6148" +
+            "\u614c\u617a\u61b2\u61a4\u61af\u61de\u6210\u621b\u625d\u62b1\u62d4\u6350\ud84a\udf0c\u633d" +
+            "\u62fc\u6368\u6383\u63e4\ud84a\udff1\u6422\u63c5\u63a9\u3a2e\u6469\u647e\u649d\u6477\u3a6c" +
+            "\u656c\ud84c\udc0a\u65e3\u66f8\u6649\u3b19\u3b08\u3ae4\u5192\u5195\u6700\u669c\u80ad\u43d9" +
+            "\u6721\u675e\u6753\ud84c\udfc3\u3b49\u67fa\u6785\u6852\ud84d\udc6d\u688e\u681f\u6914\u6942" +
+            "\u69a3\u69ea\u6aa8\ud84d\udea3\u6adb\u3c18\u6b21\ud84e\udca7\u6b54\u3c4e\u6b72\u6b9f\u6bbb" +
+            "\ud84e\ude8d\ud847\udd0b\ud84e\udefa\u6c4e\ud84f\udcbc\u6cbf\u6ccd\u6c67\u6d16\u6d3e\u6d69" +
+            "\u6d78\u6d85\ud84f\udd1e\u6d34\u6e2f\u6e6e\u3d33\u6ec7\ud84f\uded1\u6df9\u6f6e\ud84f\udf5e" +
+            "\ud84f\udf8e\u6fc6\u7039\u701b\u3d96\u704a\u707d\u7077\u70ad\ud841\udd25\u7145\ud850\ude63" +
+            "\u719c\ud850\udfab\u7228\u7250\ud851\ude08\u7280\u7295\ud851\udf35\ud852\udc14\u737a\u738b" +
+            "\u3eac\u73a5\u3eb8\u7447\u745c\u7485\u74ca\u3f1b\u7524\ud853\udc36\u753e\ud853\udc92\ud848" +
+            "\udd9f\u7610\ud853\udfa1\ud853\udfb8\ud854\udc44\u3ffc\u4008\ud854\udcf3\ud854\udcf2\ud854" +
+            "\udd19\ud854\udd33\u771e\u771f\u778b\u4046\u4096\ud855\udc1d\u784e\u40e3\ud855\ude26\ud855" +
+            "\ude9a\ud855\udec5\u79eb\u412f\u7a4a\u7a4f\ud856\udd7c\ud856\udea7\u7aee\u4202\ud856\udfab" +
+            "\u7bc6\u7bc9\u4227\ud857\udc80\u7cd2\u42a0\u7ce8\u7ce3\u7d00\ud857\udf86\u7d63\u4301\u7dc7" +
+            "\u7e02\u7e45\u4334\ud858\ude28\ud858\ude47\u4359\ud858\uded9\u7f7a\ud858\udf3e\u7f95\u7ffa" +
+            "\ud859\udcda\ud859\udd23\u8060\ud859\udda8\u8070\ud84c\udf5f\u43d5\u80b2\u8103\u440b\u813e" +
+            "\u5ab5\ud859\udfa7\ud859\udfb5\ud84c\udf93\ud84c\udf9c\u8204\u8f9e\u446b\u8291\u828b\u829d" +
+            "\u52b3\u82b1\u82b3\u82bd\u82e6\ud85a\udf3c\u831d\u8363\u83ad\u8323\u83bd\u83e7\u8353\u83ca" +
+            "\u83cc\u83dc\ud85b\udc36\ud85b\udd6b\ud85b\udcd5\u452b\u84f1\u84f3\u8516\ud85c\udfca\u8564" +
+            "\ud85b\udf2c\u455d\u4561\ud85b\udfb1\ud85c\udcd2\u456b\u8650\u8667\u8669\u86a9\u8688\u870e" +
+            "\u86e2\u8728\u876b\u8786\u45d7\u87e1\u8801\u45f9\u8860\ud85d\ude67\u88d7\u88de\u4635\u88fa" +
+            "\u34bb\ud85e\udcae\ud85e\udd66\u46be\u46c7\u8aa0\ud85f\udca8\u8cab\u8cc1\u8d1b\u8d77\ud85f" +
+            "\udf2f\ud842\udc04\u8dcb\u8dbc\u8df0\ud842\udcde\u8ed4\ud861\uddd2\ud861\udded\u9094\u90f1" +
+            "\u9111\ud861\udf2e\u911b\u9238\u92d7\u92d8\u927c\u93f9\u9415\ud862\udffa\u958b\u4995\u95b7" +
+            "\ud863\udd77\u49e6\u96c3\u5db2\u9723\ud864\udd45\ud864\ude1a\u4a6e\u4a76\u97e0\ud865\udc0a" +
+            "\u4ab2\ud865\udc96\u9829\ud865\uddb6\u98e2\u4b33\u9929\u99a7\u99c2\u99fe\u4bce\ud866\udf30" +
+            "\u9c40\u9cfd\u4cce\u4ced\u9d67\ud868\udcce\u4cf8\ud868\udd05\ud868\ude0e\ud868\ude91\u4d56" +
+            "\u9efe\u9f05\u9f0f\u9f16\ud869\ude00");
+
+    private FoldTable() {
+    }
+
+    /**
+     * @return number of the folding of codePoint, or UNCHANGED
+     */
+    static int find(int codePoint) {
+        int block = codePoint >> BLOCK_SHIFT;
+        if (block >= BLOCKS.length) {
+            return UNCHANGED;
+        }
+        return FOLDINGS[(BLOCKS[block] << BLOCK_SHIFT) | (codePoint & BLOCK_MASK)];
+    }
+
+    /**
+     * @return position in FOLDED of the first char of a folding
+     */
+    static int start(int folding) {
+        return folding == 1 ? 0 : FOLDED_ENDS[folding - 2];
+    }
+
+    /**
+     * @return position in FOLDED after the last char of a folding
+     */
+    static int end(int folding) {
+        return FOLDED_ENDS[folding - 1];
+    }
+
+    private static char[] decode(String... chunks) {
+        StringBuilder chars = new StringBuilder();
+        for (String chunk : chunks) {
+            chars.append(chunk);
+        }
+        return chars.toString().toCharArray();
+    }
+}
@@ -0,0 +1,47 @@
+package fr.neamar.kiss.normalizer;
+
+/**
+ * A query normalized once for a whole search, shared by all the providers and result rows
+ * instead of each of them normalizing it again.
+ */
+public final class NormalizedQuery {
+    /**
+     * Query as given by the searcher
+     */
+    public final String query;
+    /**
+     * Normalized query, with its case kept
+     */
+    public final StringNormalizer.Result normalized;
+    /**
+     * Lowercase code points of the normalized query, must not be modified
+     */
+    public final int[] lowercaseCodePoints;
+    /**
+     * Lowercase normalized query
+     */
+    public final String lowercase;
+
+    public NormalizedQuery(String query) {
+        this.query = query;
+        this.normalized = StringNormalizer.normalizeWithResult(query, false);
+        this.lowercaseCodePoints = new int[normalized.codePoints.length];
+        StringBuilder lowercase = new StringBuilder(lowercaseCodePoints.length);
+        for (int i = 0; i < lowercaseCodePoints.length; i += 1) {
+            lowercaseCodePoints[i] = Character.toLowerCase(normalized.codePoints[i]);
+            lowercase.appendCodePoint(lowercaseCodePoints[i]);
+        }
+        this.lowercase = lowercase.toString();
+    }
+
+    /**
+     * See {@link StringNormalizer#signature(int[])}, case is already ignored
+     */
+    public long signature() {
+        return normalized.signature;
+    }
+
+    public int length() {
+        return lowercaseCodePoints.length;
+    }
+}
@@ -2,8 +2,9 @@ package fr.neamar.kiss.normalizer;
 
 import androidx.annotation.NonNull;
 
-import java.nio.CharBuffer;
-import java.text.Normalizer;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Arrays;
 
 /**
@@ -11,6 +12,14 @@ import java.util.Arrays;
  */
 public class StringNormalizer {
     private static final String TAG = StringNormalizer.class.getSimpleName();
+    static final int HANGUL_FIRST = 0xAC00;
+    static final int HANGUL_LAST = 0xD7A3;
+    private static final int HANGUL_LEADING_FIRST = 0x1100;
+    private static final int HANGUL_VOWEL_FIRST = 0x1161;
+    private static final int HANGUL_TRAILING_BASE = 0x11A7;
+    private static final int HANGUL_TRAILING_COUNT = 28;
+    private static final int HANGUL_LEADING_SYLLABLES = 21 * HANGUL_TRAILING_COUNT;
+
     private StringNormalizer() {
     }
 
@@ -39,13 +48,11 @@ public class StringNormalizer {
         int numCodePoints = Character.codePointCount(input, 0, input.length());
         IntSequenceBuilder codePoints = new IntSequenceBuilder(numCodePoints);
         IntSequenceBuilder resultMap = new IntSequenceBuilder(numCodePoints);
-        CharBuffer buffer = CharBuffer.allocate(2);
         int i = 0;
         for (int iterCodePoint = 0; iterCodePoint < numCodePoints; iterCodePoint += 1) {
             int codepoint = Character.codePointAt(input, i);
-            String decomposedCharString;
             // Is it within the basic latin range?
-            // If so, we can skip the expensive call to Normalizer.normalize
+            // If so, we can skip looking it up in the fold table
             if(codepoint < 'z') {
                 // Ascii range, no need to normalize!
                 // Add directly if it's not a dash
@@ -57,42 +64,38 @@ public class StringNormalizer {
                     resultMap.add(i);
                 }
             }
+            else if (codepoint >= HANGUL_FIRST && codepoint <= HANGUL_LAST) {
+                // Hangul syllables decompose into two or three jamos (which have no case),
+                // computed rather than stored in the fold table
+                int syllable = codepoint - HANGUL_FIRST;
+                codePoints.add(HANGUL_LEADING_FIRST + syllable / HANGUL_LEADING_SYLLABLES);
+                resultMap.add(i);
+                codePoints.add(HANGUL_VOWEL_FIRST + (syllable % HANGUL_LEADING_SYLLABLES) / HANGUL_TRAILING_COUNT);
+                resultMap.add(i);
+                if (syllable % HANGUL_TRAILING_COUNT != 0) {
+                    codePoints.add(HANGUL_TRAILING_BASE + syllable % HANGUL_TRAILING_COUNT);
+                    resultMap.add(i);
+                }
+            }
             else {
-                // Otherwise, we'll need to normalize the code point to a letter and potential accentuation
-                buffer.put(Character.toChars(codepoint));
-                buffer.flip();
-                decomposedCharString = Normalizer.normalize(buffer, Normalizer.Form.NFKD);
-                buffer.clear();
-
-                // `inputChar` codepoint may be decomposed to four (or maybe even more) new code points
-                int decomposedCharOffset = 0;
-                while (decomposedCharOffset < decomposedCharString.length()) {
-                    int resultChar = decomposedCharString.codePointAt(decomposedCharOffset);
-
-                    // Skip characters for some unicode character classes, including:
-                    //  * combining characters produced by the NFKD normalizer above
-                    //  * dashes
-                    // See the method's description for more information
-                    switch (Character.getType(resultChar)) {
-                        case Character.NON_SPACING_MARK:
-                        case Character.COMBINING_SPACING_MARK:
-                            // Some combining character found
-                            // See http://www.fileformat.info/info/unicode/category/Mn/list.htm
-                            // And http://www.fileformat.info/info/unicode/category/Mc/list.htm
-                            break;
-
-                        case Character.DASH_PUNCTUATION:
-                            // We skip dashes too
-                            // (standard HYPHEN-MINUS was skipped above, but dashes are a large family!)
-                            // see http://www.fileformat.info/info/unicode/category/Pd/list.htm
-                            break;
-
-                        default:
-                            codePoints.add(makeLowercase ? Character.toLowerCase(resultChar) : resultChar);
-                            resultMap.add(i);
+                // Otherwise, the code point may be decomposed to a letter and potential
+                // accentuation (NFKD normalization), with combining characters and dashes
+                // dropped afterwards, see the method's description.
+                // FoldTable holds the result for every code point, generated from
+                // java.text.Normalizer so that no normalization happens here.
+                int folding = FoldTable.find(codepoint);
+                if (folding == FoldTable.UNCHANGED) {
+                    codePoints.add(makeLowercase ? Character.toLowerCase(codepoint) : codepoint);
+                    resultMap.add(i);
+                } else {
+                    // `inputChar` codepoint may be folded to nothing, or to four (or maybe even more) new code points
+                    int end = FoldTable.end(folding);
+                    for (int folded = FoldTable.start(folding); folded < end; ) {
+                        int resultChar = Character.codePointAt(FoldTable.FOLDED, folded);
+                        codePoints.add(makeLowercase ? Character.toLowerCase(resultChar) : resultChar);
+                        resultMap.add(i);
+                        folded += Character.charCount(resultChar);
                     }
-
-                    decomposedCharOffset += Character.charCount(resultChar);
                 }
             }
 
@@ -102,10 +105,44 @@ public class StringNormalizer {
         return new Result(input.length(), codePoints.toArray(), resultMap.toArray());
     }
 
+    /**
+     * Compact summary of the characters found in a string: one bit per bucket of characters,
+     * ignoring case. A string can only contain all the characters of another one if its
+     * signature has all of the other one's bits set.
+     * <p/>
+     * Latin letters, digits and space each get their own bit, other characters share the
+     * remaining ones.
+     *
+     * @param codePoints string converted to codepoints
+     * @return bitmap of the character buckets found in the string
+     */
+    public static long signature(int[] codePoints) {
+        long signature = 0;
+        for (int codePoint : codePoints) {
+            signature |= 1L << signatureBucket(Character.toLowerCase(codePoint));
+        }
+        return signature;
+    }
+
+    private static int signatureBucket(int lowerCodePoint) {
+        if (lowerCodePoint >= 'a' && lowerCodePoint <= 'z') {
+            return lowerCodePoint - 'a';
+        } else if (lowerCodePoint >= '0' && lowerCodePoint <= '9') {
+            return 26 + lowerCodePoint - '0';
+        } else if (lowerCodePoint == ' ') {
+            return 36;
+        }
+        return 37 + (lowerCodePoint & Integer.MAX_VALUE) % 27;
+    }
+
     public static class Result implements Comparable {
         private final int originalInputLastCharPosition;
         public final int[] codePoints;
         private final int[] mapPositions;
+        /**
+         * See {@link StringNormalizer#signature(int[])}
+         */
+        public final long signature;
 
         Result(final int originalInputLastCharPosition,
                final int[] codePoints, final int[] mapPositions) {
@@ -114,12 +151,48 @@ public class StringNormalizer {
             this.originalInputLastCharPosition = originalInputLastCharPosition;
             this.codePoints = codePoints;
             this.mapPositions = mapPositions;
+            this.signature = signature(codePoints);
         }
 
         public int length() {
             return this.codePoints.length;
         }
 
+        /**
+         * Store this result, e.g. to skip normalizing names again on next start
+         *
+         * @param out destination
+         */
+        public void writeTo(DataOutput out) throws IOException {
+            out.writeInt(originalInputLastCharPosition);
+            out.writeInt(codePoints.length);
+            for (int i = 0; i < codePoints.length; i += 1) {
+                out.writeInt(codePoints[i]);
+                out.writeInt(mapPositions[i]);
+            }
+        }
+
+        /**
+         * Read a result stored with {@link #writeTo(DataOutput)}
+         *
+         * @param in source
+         * @return stored result
+         */
+        public static Result readFrom(DataInput in) throws IOException {
+            int originalInputLastCharPosition = in.readInt();
+            int length = in.readInt();
+            if (length < 0 || length > 0xffff) {
+                throw new IOException("Invalid normalized string length " + length);
+            }
+            int[] codePoints = new int[length];
+            int[] mapPositions = new int[length];
+            for (int i = 0; i < length; i += 1) {
+                codePoints[i] = in.readInt();
+                mapPositions[i] = in.readInt();
+            }
+            return new Result(originalInputLastCharPosition, codePoints, mapPositions);
+        }
+
         /**
          * Map a position in the normalized string to a position in the original string
          *
@@ -17,8 +17,9 @@ public abstract class Pojo {
     public StringNormalizer.Result normalizedName = null;
     // Lower-cased name, for faster search
     //public String nameNormalized = "";
-    // How relevant is this record ? The higher, the most probable it will be
-    // displayed
+    // Base relevance of this record, used when it is listed without being scored
+    // (e.g. results built by simple providers). Searches never write here,
+    // scores for a given search are stored in ScoredPojo
     public int relevance = 0;
     private int badgeCount = 0;
     private String displayBadge;
@@ -71,6 +72,17 @@ public abstract class Pojo {
         }
     }
 
+    /**
+     * Set the name along with its already computed searchable version, e.g. read from a cache
+     *
+     * @param name           User-friendly name of this container
+     * @param normalizedName normalized version of name
+     */
+    public void setNormalizedName(String name, StringNormalizer.Result normalizedName) {
+        this.name = name;
+        this.normalizedName = normalizedName;
+    }
+
     public String getBadgeText(){
         return String.valueOf(badgeCount);
     }
@@ -11,11 +11,15 @@ public class PojoComparator implements Comparator<Pojo> {
     @Override
     public int compare(Pojo lhs, Pojo rhs) {
         if (lhs.relevance == rhs.relevance) {
-            if (lhs.normalizedName != null && rhs.normalizedName != null)
-                return lhs.normalizedName.compareTo(rhs.normalizedName);
-            else
-                return lhs.name.compareTo(rhs.name);
+            return compareNames(lhs, rhs);
         }
         return lhs.relevance - rhs.relevance;
     }
+
+    static int compareNames(Pojo lhs, Pojo rhs) {
+        if (lhs.normalizedName != null && rhs.normalizedName != null)
+            return lhs.normalizedName.compareTo(rhs.normalizedName);
+        else
+            return lhs.name.compareTo(rhs.name);
+    }
 }
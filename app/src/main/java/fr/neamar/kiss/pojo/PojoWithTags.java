@@ -30,4 +30,15 @@ public class PojoWithTags extends Pojo {
             this.normalizedTags = null;
         }
     }
+
+    /**
+     * Set the tags along with their already computed searchable version, e.g. read from a cache
+     *
+     * @param tags           tags assigned to this pojo
+     * @param normalizedTags normalized version of tags
+     */
+    public void setNormalizedTags(String tags, StringNormalizer.Result normalizedTags) {
+        this.tags = tags;
+        this.normalizedTags = normalizedTags;
+    }
 }
@@ -0,0 +1,18 @@
+package fr.neamar.kiss.pojo;
+
+/**
+ * A pojo as found by a search, along with its relevance for this search only.
+ * <p/>
+ * Pojos are shared between every search, scores are not: two overlapping searches each get their
+ * own ScoredPojo and can't alter each other's ranking.
+ */
+public final class ScoredPojo {
+    public final Pojo pojo;
+    // How relevant is this record for the search? The higher, the most probable it will be displayed
+    public final int relevance;
+
+    public ScoredPojo(Pojo pojo, int relevance) {
+        this.pojo = pojo;
+        this.relevance = relevance;
+    }
+}
@@ -0,0 +1,18 @@
+package fr.neamar.kiss.pojo;
+
+import java.util.Comparator;
+
+public class ScoredPojoComparator implements Comparator<ScoredPojo> {
+
+    public ScoredPojoComparator() {
+        super();
+    }
+
+    @Override
+    public int compare(ScoredPojo lhs, ScoredPojo rhs) {
+        if (lhs.relevance == rhs.relevance) {
+            return PojoComparator.compareNames(lhs.pojo, rhs.pojo);
+        }
+        return lhs.relevance - rhs.relevance;
+    }
+}
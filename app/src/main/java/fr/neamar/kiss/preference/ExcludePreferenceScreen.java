@@ -19,7 +19,6 @@ import fr.neamar.kiss.IconsHandler;
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.SwitchPreference;
 import fr.neamar.kiss.pojo.AppPojo;
-import fr.neamar.kiss.pojo.Pojo;
 import fr.neamar.kiss.pojo.PojoComparator;
 
 /**
@@ -34,7 +33,7 @@ public class ExcludePreferenceScreen {
 			@StringRes int preferenceTitleResId,
 			final @StringRes int preferenceScreenTitleResId
 	) {
-		List<Pojo> appList = KissApplication.getApplication(preferenceActivity).getDataHandler().getApplications();
+		List<AppPojo> appList = KissApplication.getApplication(preferenceActivity).getDataHandler().getApplications();
 		IconsHandler iconsHandler = KissApplication.getApplication(preferenceActivity).getIconsHandler();
 
 		AppPojo[] apps;
@@ -52,6 +52,7 @@ import fr.neamar.kiss.R;
 import fr.neamar.kiss.UIColors;
 import fr.neamar.kiss.adapter.RecordAdapter;
 import fr.neamar.kiss.cache.MemoryCacheHelper;
+import fr.neamar.kiss.normalizer.StringNormalizer;
 import fr.neamar.kiss.pojo.AppPojo;
 import fr.neamar.kiss.ui.GoogleCalendarIcon;
 import fr.neamar.kiss.ui.ListPopup;
@@ -78,6 +79,11 @@ public class AppResult extends Result {
         className = new ComponentName(appPojo.packageName, appPojo.activityName);
     }
 
+    @Override
+    StringNormalizer.Result[] getHighlightableTexts() {
+        return new StringNormalizer.Result[]{appPojo.normalizedName, appPojo.getNormalizedTags()};
+    }
+
     @NonNull
     @Override
     public View display(Context context, View view, @NonNull ViewGroup parent, FuzzyScore fuzzyScore) {
@@ -351,8 +357,7 @@ public class AppResult extends Result {
 
             // Set new name
             String newName = input.getText().toString().trim();
-            app.setName(newName);
-            KissApplication.getApplication(context).getDataHandler().renameApp(app.getComponentName(), newName);
+            KissApplication.getApplication(context).getDataHandler().renameApp(app, newName);
 
             // Show toast message
             String msg = context.getResources().getString(R.string.app_rename_confirmation, app.getName());
@@ -375,8 +380,7 @@ public class AppResult extends Result {
 
             // Set name
             if (name != null) {
-                app.setName(name);
-                KissApplication.getApplication(context).getDataHandler().removeRenameApp(getComponentName(), name);
+                KissApplication.getApplication(context).getDataHandler().removeRenameApp(app, name);
 
                 // Show toast message
                 String msg = context.getResources().getString(R.string.app_rename_confirmation, appPojo.getName());
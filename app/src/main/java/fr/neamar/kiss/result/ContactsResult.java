@@ -16,6 +16,7 @@ import android.os.Handler;
 import android.preference.PreferenceManager;
 import android.provider.ContactsContract;
 import android.util.Log;
+import android.util.Pair;
 import android.view.Menu;
 import android.view.MenuItem;
 import android.view.View;
@@ -55,6 +56,10 @@ public class ContactsResult extends Result {
     private final ContactsPojo contactPojo;
     private final QueryInterface queryInterface;
     private Drawable icon = null;
+    /**
+     * Company and title line with its normalization, kept while the row gets displayed again
+     */
+    private Pair<String, StringNormalizer.Result> normalizedLine = null;
 
 
     ContactsResult(QueryInterface queryInterface, ContactsPojo contactPojo) {
@@ -196,6 +201,39 @@ public class ContactsResult extends Result {
 
     }
 
+    /**
+     * @return company / title line with its normalization, null if the contact has neither
+     */
+    private Pair<String, StringNormalizer.Result> getNormalizedLine() {
+        String line = null;
+
+        // Company / Title
+        if (!contactPojo.getCompany().isEmpty() || !contactPojo.getTitle().isEmpty() ) {
+            line = contactPojo.getCompany();
+            if (line.isEmpty()){
+                line = contactPojo.getTitle();
+            } else {
+                if (!contactPojo.getTitle().isEmpty()) {
+                    line += " / " + contactPojo.getTitle();
+                }
+            }
+        }
+
+        if (line == null)
+            return null;
+        if (normalizedLine == null || !normalizedLine.first.equals(line)) {
+            normalizedLine = new Pair<>(line, StringNormalizer.normalizeWithResult(line, false));
+        }
+        return normalizedLine;
+    }
+
+    @Override
+    StringNormalizer.Result[] getHighlightableTexts() {
+        Pair<String, StringNormalizer.Result> line = getNormalizedLine();
+        return new StringNormalizer.Result[]{contactPojo.normalizedName, contactPojo.normalizedPhone,
+                contactPojo.normalizedNickname, line == null ? null : line.second};
+    }
+
     @NonNull
     @Override
     public View display(Context context, View view, @NonNull ViewGroup parent, FuzzyScore fuzzyScore) {
@@ -219,27 +257,14 @@ public class ContactsResult extends Result {
             displayHighlighted(contactPojo.normalizedNickname, contactPojo.getNickname(), fuzzyScore, contactNickname, context);
         }
 
-        String line = null;
-
-        // Company / Title
-        if (!contactPojo.getCompany().isEmpty() || !contactPojo.getTitle().isEmpty() ) {
-            line = contactPojo.getCompany();
-            if (line.isEmpty()){
-                line = contactPojo.getTitle();
-            } else {
-                if (!contactPojo.getTitle().isEmpty()) {
-                    line += " / " + contactPojo.getTitle();
-                }
-            }
-        }
-
         // Contact title
         TextView title = view.findViewById(R.id.item_contact_title);
+        Pair<String, StringNormalizer.Result> line = getNormalizedLine();
         if (line==null) {
             title.setVisibility(View.GONE);
         } else {
             title.setVisibility(View.VISIBLE);
-            displayHighlighted(StringNormalizer.normalizeWithResult(line,false), line, fuzzyScore, title, context);
+            displayHighlighted(line.second, line.first, fuzzyScore, title, context);
         }
 
         // Contact photo
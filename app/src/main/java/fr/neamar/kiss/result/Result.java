@@ -36,13 +36,13 @@ import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.R;
 import fr.neamar.kiss.UIColors;
 import fr.neamar.kiss.adapter.RecordAdapter;
-import fr.neamar.kiss.db.DBHelper;
 import fr.neamar.kiss.normalizer.StringNormalizer;
 import fr.neamar.kiss.pojo.AppPojo;
 import fr.neamar.kiss.pojo.ContactsPojo;
 import fr.neamar.kiss.pojo.PhoneAddPojo;
 import fr.neamar.kiss.pojo.PhonePojo;
 import fr.neamar.kiss.pojo.Pojo;
+import fr.neamar.kiss.pojo.ScoredPojo;
 import fr.neamar.kiss.pojo.SearchPojo;
 import fr.neamar.kiss.pojo.SettingsPojo;
 import fr.neamar.kiss.pojo.ShortcutPojo;
@@ -59,32 +59,58 @@ public abstract class Result {
      */
     @NonNull
     public final Pojo pojo;
+    /**
+     * Relevance of the pojo for the search that produced this result
+     */
+    private int relevance;
+    /**
+     * Texts matched by the search that produced this result, see computeHighlights()
+     */
+    private StringNormalizer.Result[] highlightedTexts = null;
+    /**
+     * Positions to highlight in each of highlightedTexts, as start and end pairs in the original
+     * text, null when the text was not matched
+     */
+    private int[][] highlightedPositions = null;
+    /**
+     * Nothing is highlighted when set, see skipHighlights()
+     */
+    private boolean highlightsSkipped = false;
     private static final String TAG = Result.class.getSimpleName();
 
     Result(@NonNull Pojo pojo) {
         this.pojo = pojo;
     }
 
+    public static Result fromPojo(QueryInterface parent, ScoredPojo scoredPojo) {
+        Result result = fromPojo(parent, scoredPojo.pojo);
+        result.relevance = scoredPojo.relevance;
+        return result;
+    }
+
     public static Result fromPojo(QueryInterface parent, Pojo pojo) {
+        Result result;
         if (pojo instanceof AppPojo)
-            return new AppResult((AppPojo) pojo);
+            result = new AppResult((AppPojo) pojo);
         else if (pojo instanceof ContactsPojo)
-            return new ContactsResult(parent, (ContactsPojo) pojo);
+            result = new ContactsResult(parent, (ContactsPojo) pojo);
         else if (pojo instanceof SearchPojo)
-            return new SearchResult((SearchPojo) pojo);
+            result = new SearchResult((SearchPojo) pojo);
         else if (pojo instanceof SettingsPojo)
-            return new SettingsResult((SettingsPojo) pojo);
+            result = new SettingsResult((SettingsPojo) pojo);
         else if (pojo instanceof PhoneAddPojo)
-            return new AddPhoneResult((PhoneAddPojo) pojo);
+            result = new AddPhoneResult((PhoneAddPojo) pojo);
         else if (pojo instanceof PhonePojo)
-            return new PhoneResult((PhonePojo) pojo);
+            result = new PhoneResult((PhonePojo) pojo);
         else if (pojo instanceof ShortcutPojo)
-            return new ShortcutsResult((ShortcutPojo) pojo);
+            result = new ShortcutsResult((ShortcutPojo) pojo);
         else if (pojo instanceof TagDummyPojo)
-            return new TagDummyResult((TagDummyPojo)pojo);
-
+            result = new TagDummyResult((TagDummyPojo)pojo);
+        else
+            throw new RuntimeException("Unable to create a result from POJO");
 
-        throw new RuntimeException("Unable to create a result from POJO");
+        result.relevance = pojo.relevance;
+        return result;
     }
 
     public String getPojoId() {
@@ -138,9 +164,9 @@ public abstract class Result {
 
     public boolean displayHighlighted(StringNormalizer.Result normalized, String text, FuzzyScore fuzzyScore,
                                       TextView view, Context context) {
-        FuzzyScore.MatchInfo matchInfo = fuzzyScore.match(normalized.codePoints);
+        int[] positions = getHighlightedPositions(normalized, fuzzyScore);
 
-        if (!matchInfo.match) {
+        if (positions == null) {
             view.setText(text);
             return false;
         }
@@ -148,11 +174,11 @@ public abstract class Result {
         SpannableString enriched = new SpannableString(text);
         int primaryColor = UIColors.getPrimaryColor(context);
 
-        for (Pair<Integer, Integer> position : matchInfo.getMatchedSequences()) {
+        for (int i = 0; i < positions.length; i += 2) {
             enriched.setSpan(
                     new ForegroundColorSpan(primaryColor),
-                    normalized.mapPosition(position.first),
-                    normalized.mapPosition(position.second),
+                    positions[i],
+                    positions[i + 1],
                     Spannable.SPAN_INCLUSIVE_INCLUSIVE
             );
         }
@@ -160,6 +186,72 @@ public abstract class Result {
         return true;
     }
 
+    /**
+     * Normalized texts display() highlights, so that they can be matched before the result is
+     * displayed (see computeHighlights)
+     */
+    StringNormalizer.Result[] getHighlightableTexts() {
+        return new StringNormalizer.Result[0];
+    }
+
+    /**
+     * Match the texts of this result against the query, so that display() doesn't have to.
+     * This is called from the background thread by the searcher, before the result is published.
+     *
+     * @param fuzzyScore query of the search, with detailed match indices
+     */
+    public void computeHighlights(FuzzyScore fuzzyScore) {
+        StringNormalizer.Result[] texts = getHighlightableTexts();
+        int[][] positions = new int[texts.length][];
+        for (int i = 0; i < texts.length; i += 1) {
+            if (texts[i] != null)
+                positions[i] = matchPositions(texts[i], fuzzyScore);
+        }
+        highlightedTexts = texts;
+        highlightedPositions = positions;
+    }
+
+    /**
+     * Display this result without highlighting anything, for results listed rather than searched
+     */
+    public void skipHighlights() {
+        highlightsSkipped = true;
+    }
+
+    /**
+     * @return positions to highlight in the original text, precomputed if possible
+     */
+    private int[] getHighlightedPositions(StringNormalizer.Result normalized, FuzzyScore fuzzyScore) {
+        if (highlightsSkipped)
+            return null;
+        if (highlightedTexts != null) {
+            for (int i = 0; i < highlightedTexts.length; i += 1) {
+                if (highlightedTexts[i] == normalized)
+                    return highlightedPositions[i];
+            }
+        }
+        return matchPositions(normalized, fuzzyScore);
+    }
+
+    /**
+     * @return start and end pairs of the matched sequences, as positions in the original text,
+     * or null if the text doesn't match
+     */
+    private static int[] matchPositions(StringNormalizer.Result normalized, FuzzyScore fuzzyScore) {
+        FuzzyScore.MatchInfo matchInfo = fuzzyScore.match(normalized);
+        if (!matchInfo.match)
+            return null;
+
+        List<Pair<Integer, Integer>> sequences = matchInfo.getMatchedSequences();
+        int[] positions = new int[sequences.size() * 2];
+        for (int i = 0; i < sequences.size(); i += 1) {
+            Pair<Integer, Integer> sequence = sequences.get(i);
+            positions[2 * i] = normalized.mapPosition(sequence.first);
+            positions[2 * i + 1] = normalized.mapPosition(sequence.second);
+        }
+        return positions;
+    }
+
     public String getSection() {
         try {
             // get the normalized first letter of the pojo
@@ -231,7 +323,7 @@ public abstract class Result {
         }
 
         if (BuildConfig.DEBUG) {
-            adapter.add(new ListPopup.Item("Relevance: " + pojo.relevance));
+            adapter.add(new ListPopup.Item("Relevance: " + relevance));
         }
 
         return menu;
@@ -389,7 +481,7 @@ public abstract class Result {
     }
 
     public void deleteRecord(Context context) {
-        DBHelper.removeFromHistory(context, pojo.id);
+        KissApplication.getApplication(context).getDataHandler().removeFromHistory(pojo.id);
     }
 
     /*
@@ -23,6 +23,7 @@ import fi.zmengames.zen.ZEvent;
 import fr.neamar.kiss.BuildConfig;
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.R;
+import fr.neamar.kiss.normalizer.StringNormalizer;
 import fr.neamar.kiss.pojo.SettingsPojo;
 import fr.neamar.kiss.utils.FuzzyScore;
 
@@ -34,6 +35,11 @@ public class SettingsResult extends Result {
         this.settingPojo = settingPojo;
     }
 
+    @Override
+    StringNormalizer.Result[] getHighlightableTexts() {
+        return new StringNormalizer.Result[]{settingPojo.normalizedName};
+    }
+
     @NonNull
     @Override
     public View display(Context context, View view, @NonNull ViewGroup parent, FuzzyScore fuzzyScore) {
@@ -42,6 +42,7 @@ import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.R;
 import fr.neamar.kiss.adapter.RecordAdapter;
 import fr.neamar.kiss.icons.IconPack;
+import fr.neamar.kiss.normalizer.StringNormalizer;
 import fr.neamar.kiss.pojo.ShortcutPojo;
 import fr.neamar.kiss.ui.ListPopup;
 import fr.neamar.kiss.utils.FuzzyScore;
@@ -59,6 +60,11 @@ public class ShortcutsResult extends Result {
         this.shortcutPojo = shortcutPojo;
     }
 
+    @Override
+    StringNormalizer.Result[] getHighlightableTexts() {
+        return new StringNormalizer.Result[]{shortcutPojo.normalizedName, shortcutPojo.getNormalizedTags()};
+    }
+
     @NonNull
     @Override
     @SuppressWarnings("CatchAndPrintStackTrace")
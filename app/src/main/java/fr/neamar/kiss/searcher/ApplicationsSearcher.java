@@ -4,14 +4,16 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.preference.PreferenceManager;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
 
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
-import fr.neamar.kiss.pojo.Pojo;
-import fr.neamar.kiss.pojo.PojoComparator;
+import fr.neamar.kiss.pojo.AppPojo;
+import fr.neamar.kiss.pojo.ScoredPojo;
+import fr.neamar.kiss.pojo.ScoredPojoComparator;
 
 /**
  * Returns the list of all applications on the system
@@ -22,17 +24,21 @@ public class ApplicationsSearcher extends Searcher {
     }
 
     @Override
-    PriorityQueue<Pojo> getPojoProcessor(Context context) {
+    Comparator<ScoredPojo> getResultComparator(Context context) {
         // Sort from A to Z, so reverse (last item needs to be A, listview starts at the bottom)
-        SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(context);
         // Apply app sorting preference
-        if (prefs.getString("sort-apps", "alphabetical").equals("alphabetical")) {
-            return new PriorityQueue<>(DEFAULT_MAX_RESULTS, new PojoComparator());
+        if (isAlphabetical(context)) {
+            return new ScoredPojoComparator();
         } else {
-            return new PriorityQueue<>(DEFAULT_MAX_RESULTS, Collections.reverseOrder(new PojoComparator()));
+            return Collections.reverseOrder(new ScoredPojoComparator());
         }
     }
 
+    private static boolean isAlphabetical(Context context) {
+        SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(context);
+        return prefs.getString("sort-apps", "alphabetical").equals("alphabetical");
+    }
+
     @Override
     protected int getMaxResultCount() {
         return Integer.MAX_VALUE;
@@ -44,9 +50,17 @@ public class ApplicationsSearcher extends Searcher {
         if (activity == null)
             return null;
 
-        List<Pojo> pojos = KissApplication.getApplication(activity).getDataHandler().getApplications();
-        if (pojos != null)
-            this.addResult(pojos.toArray(new Pojo[0]));
+        // Apps are kept sorted by their provider, only the display order may need to be reversed
+        List<AppPojo> apps = KissApplication.getApplication(activity).getDataHandler().getApplications();
+        if (apps != null) {
+            if (!isAlphabetical(activity)) {
+                apps = new ArrayList<>(apps);
+                Collections.reverse(apps);
+            }
+            this.setSortedResults(apps);
+        }
+
+        prepareResults();
         return null;
     }
 
@@ -5,14 +5,15 @@ import android.content.SharedPreferences;
 import android.preference.PreferenceManager;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
 
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
 import fr.neamar.kiss.normalizer.StringNormalizer;
 import fr.neamar.kiss.pojo.Pojo;
-import fr.neamar.kiss.pojo.PojoComparator;
+import fr.neamar.kiss.pojo.ScoredPojo;
+import fr.neamar.kiss.pojo.ScoredPojoComparator;
 import fr.neamar.kiss.pojo.SearchPojo;
 
 /**
@@ -24,14 +25,14 @@ public class AppsWithNotifSearcher extends Searcher {
     }
 
     @Override
-    PriorityQueue<Pojo> getPojoProcessor(Context context) {
+    Comparator<ScoredPojo> getResultComparator(Context context) {
         // Sort from A to Z, so reverse (last item needs to be A, listview starts at the bottom)
         SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(context);
         // Apply app sorting preference
         if (prefs.getString("sort-apps", "alphabetical").equals("alphabetical")) {
-            return new PriorityQueue<>(DEFAULT_MAX_RESULTS, new PojoComparator());
+            return new ScoredPojoComparator();
         } else {
-            return new PriorityQueue<>(DEFAULT_MAX_RESULTS, Collections.reverseOrder(new PojoComparator()));
+            return Collections.reverseOrder(new ScoredPojoComparator());
         }
     }
 
@@ -53,11 +54,11 @@ public class AppsWithNotifSearcher extends Searcher {
 
         List<Pojo> appPojos = KissApplication.getApplication(activity).getDataHandler().getAppsWithNotif();
         if (appPojos != null)
-            this.addResult(appPojos.toArray(new Pojo[0]));
+            this.addResults(appPojos);
 
         List<Pojo> contactPojos = KissApplication.getApplication(activity).getDataHandler().getContactssWithNotif();
         if (contactPojos != null)
-            this.addResult(contactPojos.toArray(new Pojo[0]));
+            this.addResults(contactPojos);
         return null;
 
     }
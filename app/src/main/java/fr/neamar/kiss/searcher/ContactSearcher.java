@@ -7,15 +7,16 @@ import android.preference.PreferenceManager;
 import android.util.Log;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
 
 import fr.neamar.kiss.BuildConfig;
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
 import fr.neamar.kiss.dataprovider.ContactsProvider;
 import fr.neamar.kiss.pojo.Pojo;
-import fr.neamar.kiss.pojo.PojoComparator;
+import fr.neamar.kiss.pojo.ScoredPojo;
+import fr.neamar.kiss.pojo.ScoredPojoComparator;
 
 /**
  * Returns the list of all contacts on the system
@@ -29,13 +30,13 @@ public class ContactSearcher extends Searcher {
     public static Bitmap signalIcon;
     public static Bitmap facebookIcon;
     @Override
-    PriorityQueue<Pojo> getPojoProcessor(Context context) {
+    Comparator<ScoredPojo> getResultComparator(Context context) {
         SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(context);
         // Apply app sorting preference
         if (prefs.getString("sort-contacts", "alphabetical").equals("alphabetical")) {
-            return new PriorityQueue<>(DEFAULT_MAX_RESULTS, new PojoComparator());
+            return new ScoredPojoComparator();
         } else {
-            return new PriorityQueue<>(DEFAULT_MAX_RESULTS, Collections.reverseOrder(new PojoComparator()));
+            return Collections.reverseOrder(new ScoredPojoComparator());
         }
     }
     @Override
@@ -55,7 +56,7 @@ public class ContactSearcher extends Searcher {
             pojos = contactsProvider.getAllContacts();
         }
         if (pojos != null)
-            this.addResult(pojos.toArray(new Pojo[0]));
+            this.addResults(pojos);
         return null;
     }
 
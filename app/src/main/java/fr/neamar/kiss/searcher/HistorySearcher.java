@@ -3,6 +3,7 @@ package fr.neamar.kiss.searcher;
 import android.content.SharedPreferences;
 import android.preference.PreferenceManager;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -10,6 +11,7 @@ import java.util.Set;
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
 import fr.neamar.kiss.pojo.Pojo;
+import fr.neamar.kiss.pojo.ScoredPojo;
 
 /**
  * Retrieve pojos from history
@@ -59,11 +61,12 @@ public class HistorySearcher extends Searcher {
                 .getHistory(activity, getMaxResultCount(), historyMode, excludedPojoById);
 
         int size = pojos.size();
+        ArrayList<ScoredPojo> results = new ArrayList<>(size);
         for(int i = 0; i < size; i += 1) {
-            pojos.get(i).relevance = size - i;
+            results.add(new ScoredPojo(pojos.get(i), size - i));
         }
+        this.addScoredResults(results);
 
-        this.addResult(pojos.toArray(new Pojo[0]));
         return null;
     }
 }
\ No newline at end of file
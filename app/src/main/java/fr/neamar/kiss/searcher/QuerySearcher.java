@@ -6,9 +6,9 @@ import android.preference.PreferenceManager;
 import java.util.HashMap;
 import java.util.List;
 
+import fr.neamar.kiss.DataHandler;
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
-import fr.neamar.kiss.db.DBHelper;
 import fr.neamar.kiss.db.ValuedHistoryRecord;
 import fr.neamar.kiss.pojo.Pojo;
 
@@ -51,16 +51,27 @@ public class QuerySearcher extends Searcher {
     }
 
     @Override
-    public boolean addResult(Pojo... pojos) {
-        // Give a boost if item was previously selected for this query
-        for (Pojo pojo : pojos) {
-            if (knownIds.containsKey(pojo.id)) {
-                pojo.relevance += 25 * knownIds.get(pojo.id);
-            }
+    boolean isProgressive() {
+        return prefs.getBoolean("progressive-search", true);
+    }
+
+    @Override
+    long getTimeBudget() {
+        try {
+            return Long.parseLong(prefs.getString("search-time-budget", "0"));
+        } catch (NumberFormatException e) {
+            return 0;
         }
+    }
 
-        // call super implementation to update the adapter
-        return super.addResult(pojos);
+    @Override
+    int getRelevance(Pojo pojo, int relevance) {
+        // Give a boost if item was previously selected for this query
+        Integer count = knownIds.get(pojo.id);
+        if (count != null) {
+            relevance += 25 * count;
+        }
+        return relevance;
     }
 
     /**
@@ -73,14 +84,18 @@ public class QuerySearcher extends Searcher {
             return null;
 
         // Have we ever made the same query and selected something ?
-        List<ValuedHistoryRecord> lastIdsForQuery = DBHelper.getPreviousResultsForQuery(activity, trimmedQuery);
+        DataHandler dataHandler = KissApplication.getApplication(activity).getDataHandler();
+        List<ValuedHistoryRecord> lastIdsForQuery = dataHandler.getPreviousResultsForQuery(trimmedQuery);
         knownIds = new HashMap<>();
         for (ValuedHistoryRecord id : lastIdsForQuery) {
             knownIds.put(id.record, id.value);
         }
 
         // Request results via "addResult"
-        KissApplication.getApplication(activity).getDataHandler().requestResults(trimmedQuery, this);
+        dataHandler.requestResults(trimmedQuery, this);
+
+        // Highlight results here rather than when rows get displayed
+        prepareResults();
         return null;
     }
 
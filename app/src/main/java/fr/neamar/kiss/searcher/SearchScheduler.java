@@ -0,0 +1,70 @@
+package fr.neamar.kiss.searcher;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Runs searchers on {@link Searcher#SEARCH_THREAD}, the latest one wins.
+ * <p>
+ * Scheduling a searcher cancels the one in flight. Since a cancelled searcher only stops once its
+ * providers notice it, the new searcher waits for it to be done instead of being queued behind it:
+ * searchers scheduled in the meantime (e.g. while the user keeps typing) replace each other, and
+ * only the last one runs. So there is never more than one searcher running and one waiting.
+ * <p>
+ * Must only be used from the UI thread.
+ */
+public class SearchScheduler {
+    /**
+     * Searcher running on the search thread, possibly cancelled and about to stop
+     */
+    @Nullable
+    private Searcher running = null;
+    /**
+     * Searcher to start once the running one is done
+     */
+    @Nullable
+    private Searcher pending = null;
+
+    /**
+     * Run a searcher as soon as the search thread is free, cancelling any other search
+     */
+    public void schedule(@NonNull Searcher searcher) {
+        cancel();
+        if (running == null) {
+            start(searcher);
+        } else {
+            pending = searcher;
+        }
+    }
+
+    /**
+     * Cancel the running searcher and forget the waiting one
+     */
+    public void cancel() {
+        pending = null;
+        if (running != null) {
+            running.cancel(true);
+        }
+    }
+
+    private void start(Searcher searcher) {
+        running = searcher;
+        searcher.scheduler = this;
+        searcher.executeOnExecutor(Searcher.SEARCH_THREAD);
+    }
+
+    /**
+     * Called by a searcher once it is done, whether it completed or was cancelled
+     */
+    void onFinished(Searcher searcher) {
+        if (searcher != running) {
+            return;
+        }
+        running = null;
+        if (pending != null) {
+            Searcher next = pending;
+            pending = null;
+            start(next);
+        }
+    }
+}
@@ -9,17 +9,21 @@ import androidx.annotation.CallSuper;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.PriorityQueue;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import fr.neamar.kiss.BuildConfig;
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
+import fr.neamar.kiss.normalizer.NormalizedQuery;
 import fr.neamar.kiss.pojo.Pojo;
-import fr.neamar.kiss.pojo.PojoComparator;
+import fr.neamar.kiss.pojo.ScoredPojo;
+import fr.neamar.kiss.pojo.ScoredPojoComparator;
 import fr.neamar.kiss.result.Result;
+import fr.neamar.kiss.utils.FuzzyScore;
 
 public abstract class Searcher extends AsyncTask<Void, Result, Void> {
     private static final String TAG = Searcher.class.getSimpleName();
@@ -27,19 +31,62 @@ public abstract class Searcher extends AsyncTask<Void, Result, Void> {
     public static final ExecutorService SEARCH_THREAD = Executors.newSingleThreadExecutor();
     static final int DEFAULT_MAX_RESULTS = 50;
     public final WeakReference<MainActivity> activityWeakReference;
-    private final PriorityQueue<Pojo> processedPojos;
+    private final Comparator<ScoredPojo> resultComparator;
+    /**
+     * Created before running, once subclasses are initialized (see getMaxResultCount)
+     */
+    private TopResults processedPojos;
+    /**
+     * Relevance below which results are rejected, read by providers without locking the search.
+     * It only rises, so a stale value only lets through results that get rejected later.
+     */
+    private volatile int relevanceThreshold = Integer.MIN_VALUE;
     private long start;
+    /**
+     * Time after which providers should stop looking for results, 0 for none
+     */
+    private volatile long deadline = 0;
+    /**
+     * Scheduler that started this searcher, to be told once it is done
+     */
+    SearchScheduler scheduler = null;
+    /**
+     * Were results kept since the last partial results were published?
+     */
+    private boolean resultsChanged = false;
+    /**
+     * Were partial results displayed? Set on the UI thread
+     */
+    private boolean partialResultsDisplayed = false;
+    /**
+     * Query normalized once for this search, see getNormalizedQuery()
+     */
+    private final NormalizedQuery normalizedQuery;
+    /**
+     * Final results built on the background thread, see prepareResults()
+     */
+    private List<Result> preparedResults = null;
+    /**
+     * Results given already sorted, displayed as they are instead of the processed pojos,
+     * see setSortedResults()
+     */
+    private volatile List<? extends Pojo> sortedResults = null;
     protected final String query;
 
     public Searcher(MainActivity activity, String query) {
         super();
         this.query = query;
+        // Providers are given the trimmed query, results are scored and highlighted against it
+        this.normalizedQuery = new NormalizedQuery(query.trim());
         this.activityWeakReference = new WeakReference<>(activity);
-        this.processedPojos = getPojoProcessor(activity);
+        this.resultComparator = getResultComparator(activity);
     }
 
-    PriorityQueue<Pojo> getPojoProcessor(Context context) {
-        return new PriorityQueue<>(DEFAULT_MAX_RESULTS, new PojoComparator());
+    /**
+     * @return ordering of the results, the greatest ones are kept and displayed at the bottom
+     */
+    Comparator<ScoredPojo> getResultComparator(Context context) {
+        return new ScoredPojoComparator();
     }
 
     int getMaxResultCount() {
@@ -47,29 +94,240 @@ public abstract class Searcher extends AsyncTask<Void, Result, Void> {
     }
 
     /**
-     * This is called from the background thread by the providers
+     * The query is normalized once for the whole search, providers running concurrently and result
+     * rows all share the same normalization
+     *
+     * @param query query to normalize, usually the one the providers were given
+     * @return normalized query
      */
-    public boolean addResult(Pojo... pojos) {
-        if (isCancelled())
-            return false;
+    public NormalizedQuery getNormalizedQuery(String query) {
+        if (normalizedQuery.query.equals(query))
+            return normalizedQuery;
+        return new NormalizedQuery(query);
+    }
+
+    /**
+     * @return the query of this search, trimmed and normalized
+     */
+    NormalizedQuery getNormalizedQuery() {
+        return normalizedQuery;
+    }
+
+    /**
+     * @return time in milliseconds after which the results found so far are displayed, 0 to
+     * always wait for every provider
+     */
+    long getTimeBudget() {
+        return 0;
+    }
+
+    /**
+     * Checked by providers while they look for results, from the background thread
+     *
+     * @return true if the search was cancelled or is out of time: providers should stop looking
+     * and submit the results they already found
+     */
+    public boolean shouldStop() {
+        return isCancelled() || (deadline != 0 && System.currentTimeMillis() >= deadline);
+    }
+
+    /**
+     * @return true to display the best results found so far each time a provider is done,
+     * instead of waiting for all of them
+     */
+    boolean isProgressive() {
+        return false;
+    }
+
+    /**
+     * This is called from the background thread each time a provider is done, except for the
+     * last one: the best results so far are displayed if they changed.
+     */
+    public void publishPartialResults() {
+        if (!isProgressive() || shouldStop())
+            return;
 
         MainActivity activity = activityWeakReference.get();
         if (activity == null)
+            return;
+
+        List<ScoredPojo> snapshot;
+        synchronized (this) {
+            if (!resultsChanged)
+                return;
+            resultsChanged = false;
+            snapshot = processedPojos.toSortedList();
+        }
+        List<Result> results = buildResults(activity, snapshot);
+        publishProgress(results.toArray(new Result[0]));
+    }
+
+    /**
+     * This is called from the background thread once the providers are done: results are built
+     * and matched against the query there, so that displaying them does no search work on the UI
+     * thread. Searchers which don't call it get their results built in onPostExecute.
+     */
+    void prepareResults() {
+        MainActivity activity = activityWeakReference.get();
+        if (activity == null || isCancelled())
+            return;
+
+        preparedResults = buildResults(activity);
+    }
+
+    /**
+     * This is called from the background thread, by searchers listing pojos in an order their
+     * provider already maintains: they are displayed in that order, without being sorted again
+     * nor highlighted. Their base relevance is used.
+     *
+     * @param sorted pojos from the worst to the best, the list is not modified
+     */
+    void setSortedResults(List<? extends Pojo> sorted) {
+        sortedResults = sorted;
+    }
+
+    /**
+     * @return final results to display, from the worst to the best
+     */
+    private List<Result> buildResults(MainActivity activity) {
+        List<? extends Pojo> sorted = sortedResults;
+        if (sorted == null) {
+            List<ScoredPojo> processed;
+            synchronized (this) {
+                processed = processedPojos.toSortedList();
+            }
+            return buildResults(activity, processed);
+        }
+
+        // Sorted results are listings, their query doesn't highlight anything
+        ArrayList<Result> results = new ArrayList<>(sorted.size());
+        for (Pojo pojo : sorted) {
+            Result result = Result.fromPojo(activity, pojo);
+            result.skipHighlights();
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * @param sorted results from the worst to the best
+     * @return results to display, with their highlights computed
+     */
+    private List<Result> buildResults(MainActivity activity, List<ScoredPojo> sorted) {
+        FuzzyScore fuzzyScore = new FuzzyScore(getNormalizedQuery(), true);
+        ArrayList<Result> results = new ArrayList<>(sorted.size());
+        for (ScoredPojo scoredPojo : sorted) {
+            Result result = Result.fromPojo(activity, scoredPojo);
+            result.computeHighlights(fuzzyScore);
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Relevance of a pojo for this search, from the relevance given by its provider
+     */
+    int getRelevance(Pojo pojo, int relevance) {
+        return relevance;
+    }
+
+    /**
+     * This is called from the background thread by the providers, before allocating anything for
+     * a pojo they found: most of them won't be kept once enough results are found.
+     *
+     * @param pojo      pojo found by the search
+     * @param relevance how relevant is this pojo for the current search
+     * @return false if the pojo would be rejected by addResult
+     */
+    public boolean mayKeep(Pojo pojo, int relevance) {
+        return getRelevance(pojo, relevance) >= relevanceThreshold;
+    }
+
+    /**
+     * This is called from the background thread by the providers,
+     * for a pojo that was not scored by this search (its base relevance is used)
+     */
+    public boolean addResult(Pojo pojo) {
+        return addResult(pojo, pojo.relevance);
+    }
+
+    /**
+     * This is called from the background thread by the providers,
+     * for pojos that were not scored by this search (their base relevance is used)
+     */
+    public synchronized boolean addResults(List<? extends Pojo> pojos) {
+        if (!isRunning())
+            return false;
+
+        for (int i = 0; i < pojos.size(); i += 1) {
+            Pojo pojo = pojos.get(i);
+            keep(pojo, pojo.relevance, null);
+        }
+        return true;
+    }
+
+    /**
+     * This is called from the background thread by the providers.
+     * The relevance is only stored for this search, the pojo itself is left untouched.
+     * Providers may run concurrently (see DataHandler.requestResults), hence the synchronization.
+     *
+     * @param pojo      pojo found by the search
+     * @param relevance how relevant is this pojo for the current search
+     * @return false if the search should be stopped
+     */
+    public synchronized boolean addResult(Pojo pojo, int relevance) {
+        if (!isRunning())
             return false;
 
-        Collections.addAll(this.processedPojos, pojos);
-        int maxResults = getMaxResultCount();
-        while (this.processedPojos.size() > maxResults)
-            this.processedPojos.poll();
+        keep(pojo, relevance, null);
+        return true;
+    }
+
+    /**
+     * This is called from the background thread by the providers, with all the pojos they found
+     * at once so that the search is only locked once per provider.
+     *
+     * @param results pojos found by the search, with their relevance for this search
+     * @return false if the search should be stopped
+     */
+    public synchronized boolean addScoredResults(List<ScoredPojo> results) {
+        if (!isRunning())
+            return false;
 
+        for (int i = 0; i < results.size(); i += 1) {
+            ScoredPojo result = results.get(i);
+            keep(result.pojo, result.relevance, result);
+        }
         return true;
     }
 
+    private boolean isRunning() {
+        return !isCancelled() && activityWeakReference.get() != null;
+    }
+
+    /**
+     * @param scored pojo and relevance when already allocated by the caller, null otherwise
+     */
+    private void keep(Pojo pojo, int relevance, ScoredPojo scored) {
+        int adjustedRelevance = getRelevance(pojo, relevance);
+        // Most pojos don't make it to the results, don't allocate anything for those
+        if (!processedPojos.mayKeep(adjustedRelevance))
+            return;
+        if (scored == null || adjustedRelevance != relevance)
+            scored = new ScoredPojo(pojo, adjustedRelevance);
+        processedPojos.add(scored);
+        relevanceThreshold = processedPojos.getRelevanceThreshold();
+        resultsChanged = true;
+    }
+
     @CallSuper
     @Override
     protected void onPreExecute() {
         super.onPreExecute();
         start = System.currentTimeMillis();
+        processedPojos = new TopResults(getMaxResultCount(), resultComparator);
+        long timeBudget = getTimeBudget();
+        deadline = timeBudget > 0 ? start + timeBudget : 0;
 
         displayActivityLoader();
     }
@@ -82,38 +340,71 @@ public abstract class Searcher extends AsyncTask<Void, Result, Void> {
         activity.displayLoader(true);
     }
 
+    @Override
+    protected void onProgressUpdate(Result... partialResults) {
+        MainActivity activity = activityWeakReference.get();
+        if (activity == null || isCancelled())
+            return;
+
+        if (BuildConfig.DEBUG) Log.d(TAG, "onProgressUpdate " + partialResults.length + " partial results");
+        displayResults(activity, Arrays.asList(partialResults));
+    }
+
+    @Override
+    protected void onCancelled() {
+        notifyFinished();
+    }
+
+    private void notifyFinished() {
+        if (scheduler != null) {
+            scheduler.onFinished(this);
+            scheduler = null;
+        }
+    }
+
     @Override
     protected void onPostExecute(Void param) {
+        notifyFinished();
+
         MainActivity activity = activityWeakReference.get();
         if (activity == null)
             return;
 
         // Loader should still be displayed until all the providers have finished loading
         activity.displayLoader(!KissApplication.getApplication(activity).getDataHandler().allProvidersHaveLoaded);
-        if (this.processedPojos.isEmpty()) {
+        List<Result> results = preparedResults;
+        if (results == null)
+            results = buildResults(activity);
+        if (results.isEmpty()) {
             if (BuildConfig.DEBUG) Log.d(TAG, "onPostExecute clear");
             activity.adapter.clear();
         } else {
-            if (BuildConfig.DEBUG) Log.d(TAG, "onPostExecute processedPojos not empty");
+            if (BuildConfig.DEBUG) Log.d(TAG, "onPostExecute results not empty");
 
-            PriorityQueue<Pojo> queue = this.processedPojos;
-            ArrayList<Result> results = new ArrayList<>(queue.size());
-            while (queue.peek() != null) {
-                results.add(Result.fromPojo(activity, queue.poll()));
-            }
-            activity.beforeListChange();
-
-            activity.adapter.updateResults(results, query);
-
-            activity.afterListChange();
+            displayResults(activity, results);
         }
 
-        activity.resetTask();
-
         long time = System.currentTimeMillis() - start;
         if (BuildConfig.DEBUG) Log.v("Timing", "Time to run query `" + query + "` on " + getClass().getSimpleName() + " to completion: " + time + "ms");
     }
 
+    /**
+     * @param results results from the worst to the best
+     */
+    private void displayResults(MainActivity activity, List<Result> results) {
+        activity.beforeListChange();
+
+        // Once partial results are displayed, the user may already be acting on them
+        if (partialResultsDisplayed) {
+            activity.adapter.mergeResults(results, getNormalizedQuery());
+        } else {
+            activity.adapter.updateResults(results, getNormalizedQuery());
+        }
+        partialResultsDisplayed = true;
+
+        activity.afterListChange();
+    }
+
     public interface DataObserver {
         void beforeListChange();
 
@@ -1,12 +1,12 @@
 package fr.neamar.kiss.searcher;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
+import fr.neamar.kiss.pojo.AppPojo;
 import fr.neamar.kiss.pojo.Pojo;
-import fr.neamar.kiss.pojo.PojoWithTags;
 
 /**
  * Returns a list of all applications that match the tags toggled
@@ -27,33 +27,27 @@ public class TagsSearcher extends Searcher
 		MainActivity activity = activityWeakReference.get();
 		if ( activity == null )
 			return null;
-		List<Pojo> results = KissApplication.getApplication(activity).getDataHandler().getApplications();
-		if (results == null)
+		List<AppPojo> apps = KissApplication.getApplication(activity).getDataHandler().getApplications();
+		if (apps == null)
 			return null;
-		for( Iterator<Pojo> iterator = results.iterator(); iterator.hasNext(); )
+		// The apps list is shared, matching apps are collected instead of removing the others
+		ArrayList<Pojo> results = new ArrayList<>();
+		for ( AppPojo pojo : apps )
 		{
-			Pojo pojo = iterator.next();
-			if ( !(pojo instanceof PojoWithTags)) {
-				iterator.remove();
+			if ( pojo.getTags() == null || pojo.getTags().isEmpty() )
 				continue;
-			}
-			PojoWithTags pojoWithTags = (PojoWithTags) pojo;
-			if ( pojoWithTags.getTags() == null || pojoWithTags.getTags().isEmpty() ) {
-				iterator.remove();
-				continue;
-			}
 
-            if (!pojoWithTags.getTags().contains(query))
-                iterator.remove();
+            if (pojo.getTags().contains(query))
+                results.add(pojo);
 
 //			TreeSet<String> tagList = new TreeSet<>();
-//			Collections.addAll( tagList, patternTagSplit.split( pojoWithTags.getTags() ) );
+//			Collections.addAll( tagList, patternTagSplit.split( pojo.getTags() ) );
 //
 //            if (!tagList.contains(this.query))
-//					iterator.remove();
+//					continue;
 		}
 
-		this.addResult(results.toArray(new Pojo[0]));
+		this.addResults(results);
 		return null;
 	}
 }
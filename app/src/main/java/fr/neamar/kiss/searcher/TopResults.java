@@ -0,0 +1,126 @@
+package fr.neamar.kiss.searcher;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import fr.neamar.kiss.pojo.ScoredPojo;
+import fr.neamar.kiss.pojo.ScoredPojoComparator;
+
+/**
+ * Best results of a search: the maxResults greatest results according to a comparator.
+ * <p/>
+ * Kept results are a heap whose root is the worst of them, so once maxResults results are kept a
+ * new result only costs a comparison with the root when it doesn't make it, instead of going
+ * through a priority queue and being polled out again.
+ * Without a bound, results are simply collected and sorted once at the end.
+ */
+public final class TopResults {
+    private final Comparator<ScoredPojo> comparator;
+    private final int maxResults;
+    /**
+     * Does the comparator order results on their relevance first? The root relevance is then a
+     * threshold below which results can be rejected without being compared
+     */
+    private final boolean relevanceFirst;
+    private ScoredPojo[] results;
+    private int size = 0;
+
+    /**
+     * @param maxResults number of results to keep, Integer.MAX_VALUE to keep everything
+     * @param comparator ordering of the results, greatest is best
+     */
+    public TopResults(int maxResults, Comparator<ScoredPojo> comparator) {
+        this.comparator = comparator;
+        this.maxResults = Math.max(0, maxResults);
+        this.relevanceFirst = comparator instanceof ScoredPojoComparator;
+        this.results = new ScoredPojo[Math.min(this.maxResults, 64)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private boolean isBounded() {
+        return maxResults != Integer.MAX_VALUE;
+    }
+
+    /**
+     * @param relevance relevance of a result
+     * @return false if a result this relevant would be rejected anyway
+     */
+    public boolean mayKeep(int relevance) {
+        return size < maxResults || (size > 0 && (!relevanceFirst || relevance >= results[0].relevance));
+    }
+
+    /**
+     * @return relevance below which results are rejected, only rises as results are added
+     */
+    public int getRelevanceThreshold() {
+        return relevanceFirst && size > 0 && size == maxResults ? results[0].relevance : Integer.MIN_VALUE;
+    }
+
+    /**
+     * @param result result to keep, if it's among the best ones so far
+     */
+    public void add(ScoredPojo result) {
+        if (size < maxResults) {
+            if (size == results.length) {
+                results = Arrays.copyOf(results, (int) Math.min((long) maxResults, size * 2L));
+            }
+            results[size] = result;
+            size += 1;
+            if (isBounded()) {
+                siftUp(size - 1);
+            }
+        } else if (size > 0 && comparator.compare(result, results[0]) > 0) {
+            results[0] = result;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * @return kept results from the worst to the best, as they would be polled from a priority
+     * queue using the same comparator
+     */
+    public List<ScoredPojo> toSortedList() {
+        ScoredPojo[] sorted = Arrays.copyOf(results, size);
+        Arrays.sort(sorted, comparator);
+        return Arrays.asList(sorted);
+    }
+
+    private void siftUp(int index) {
+        ScoredPojo result = results[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (comparator.compare(result, results[parent]) >= 0) {
+                break;
+            }
+            results[index] = results[parent];
+            index = parent;
+        }
+        results[index] = result;
+    }
+
+    private void siftDown(int index) {
+        ScoredPojo result = results[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && comparator.compare(results[right], results[child]) < 0) {
+                child = right;
+            }
+            if (comparator.compare(result, results[child]) <= 0) {
+                break;
+            }
+            results[index] = results[child];
+            index = child;
+        }
+        results[index] = result;
+    }
+}
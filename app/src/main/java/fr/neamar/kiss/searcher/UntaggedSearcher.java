@@ -1,12 +1,12 @@
 package fr.neamar.kiss.searcher;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 
 import fr.neamar.kiss.KissApplication;
 import fr.neamar.kiss.MainActivity;
+import fr.neamar.kiss.pojo.AppPojo;
 import fr.neamar.kiss.pojo.Pojo;
-import fr.neamar.kiss.pojo.PojoWithTags;
 
 public class UntaggedSearcher extends Searcher {
 
@@ -20,22 +20,17 @@ public class UntaggedSearcher extends Searcher {
         MainActivity activity = activityWeakReference.get();
         if ( activity == null )
             return null;
-        List<Pojo> results = KissApplication.getApplication(activity).getDataHandler().getApplications();
-        if (results == null)
+        List<AppPojo> apps = KissApplication.getApplication(activity).getDataHandler().getApplications();
+        if (apps == null)
             return null;
-        for(Iterator<Pojo> iterator = results.iterator(); iterator.hasNext(); ) {
-            Pojo pojo = iterator.next();
-            if (!(pojo instanceof PojoWithTags)) {
-                iterator.remove();
-                continue;
+        // The apps list is shared, untagged apps are collected instead of removing the others
+        ArrayList<Pojo> results = new ArrayList<>();
+        for (AppPojo pojo : apps) {
+            if (pojo.getTags() == null || pojo.getTags().isEmpty()) {
+                results.add(pojo);
             }
-            PojoWithTags pojoWithTags = (PojoWithTags) pojo;
-            if (pojoWithTags.getTags() == null || pojoWithTags.getTags().isEmpty()) {
-                continue;
-            }
-            iterator.remove();
         }
-        this.addResult(results.toArray(new Pojo[0]));
+        this.addResults(results);
         return null;
     }
 }
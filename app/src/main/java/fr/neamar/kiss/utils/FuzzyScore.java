@@ -5,6 +5,9 @@ import android.util.Pair;
 import java.util.ArrayList;
 import java.util.List;
 
+import fr.neamar.kiss.normalizer.NormalizedQuery;
+import fr.neamar.kiss.normalizer.StringNormalizer;
+
 /**
  * A Sublime Text inspired fuzzy match algorithm
  * https://github.com/forrestthewoods/lib_fts/blob/master/docs/fuzzy_match.md
@@ -14,9 +17,22 @@ import java.util.List;
  * match("otw", "Frostwolf Grunt", info) = true, info.score = -13
  */
 public class FuzzyScore {
+    /**
+     * Scratch buffer for {@link #match(CharSequence)}, one per thread, grown when needed
+     */
+    private static final ThreadLocal<int[]> codepointBuffer = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[64];
+        }
+    };
+
     private final int patternLength;
-    private final int[] patternChar;
     private final int[] patternLower;
+    /**
+     * Characters a text must contain to match, see {@link StringNormalizer#signature(int[])}
+     */
+    private final long patternSignature;
     /**
      * bonus for adjacent matches
      */
@@ -45,14 +61,29 @@ public class FuzzyScore {
     private final MatchInfo matchInfo;
 
     public FuzzyScore(int[] pattern, boolean detailedMatchIndices) {
+        this(toLowerCase(pattern), StringNormalizer.signature(pattern), detailedMatchIndices);
+    }
+
+    public FuzzyScore(int[] pattern) {
+        this(pattern, false);
+    }
+
+    /**
+     * @param query query normalized once for the search, its code points are shared
+     */
+    public FuzzyScore(NormalizedQuery query, boolean detailedMatchIndices) {
+        this(query.lowercaseCodePoints, query.signature(), detailedMatchIndices);
+    }
+
+    public FuzzyScore(NormalizedQuery query) {
+        this(query, false);
+    }
+
+    private FuzzyScore(int[] patternLower, long patternSignature, boolean detailedMatchIndices) {
         super();
-        patternLength = pattern.length;
-        patternChar = new int[patternLength];
-        patternLower = new int[patternLength];
-        for (int i = 0; i < patternLower.length; i += 1) {
-            patternChar[i] = pattern[i];
-            patternLower[i] = Character.toLowerCase(pattern[i]);
-        }
+        this.patternLength = patternLower.length;
+        this.patternLower = patternLower;
+        this.patternSignature = patternSignature;
         adjacency_bonus = 10;
         separator_bonus = 5;
         camel_bonus = 10;
@@ -66,8 +97,12 @@ public class FuzzyScore {
         }
     }
 
-    public FuzzyScore(int[] pattern) {
-        this(pattern, false);
+    private static int[] toLowerCase(int[] pattern) {
+        int[] patternLower = new int[pattern.length];
+        for (int i = 0; i < patternLower.length; i += 1) {
+            patternLower[i] = Character.toLowerCase(pattern[i]);
+        }
+        return patternLower;
     }
 
     public void setAdjacencyBonus(int adjacency_bonus) {
@@ -102,14 +137,47 @@ public class FuzzyScore {
         int idx = 0;
         int idxCodepoint = 0;
         int textLength = text.length();
-        int[] codepoints = new int[Character.codePointCount(text, 0, textLength)];
+        int[] codepoints = codepointBuffer.get();
+        // A string never has more codepoints than chars
+        if (codepoints.length < textLength) {
+            codepoints = new int[textLength];
+            codepointBuffer.set(codepoints);
+        }
         while (idx < textLength) {
             int codepoint = Character.codePointAt(text, idx);
             codepoints[idxCodepoint] = codepoint;
             idx += Character.charCount(codepoint);
             idxCodepoint += 1;
         }
-        return match(codepoints);
+        return match(codepoints, idxCodepoint);
+    }
+
+    /**
+     * Quick test to run before {@link #match(int[])}: a text whose signature misses some of the
+     * pattern characters can't match
+     *
+     * @param textSignature signature of the text, see {@link StringNormalizer#signature(int[])}
+     * @return false if the text can't match the pattern
+     */
+    public boolean mayMatch(long textSignature) {
+        return (patternSignature & ~textSignature) == 0;
+    }
+
+    /**
+     * Match a normalized text, texts missing some of the pattern characters are rejected
+     * without walking through them, so the score of a non-match is meaningless: use
+     * {@link #match(int[])} when scoring texts that don't match
+     *
+     * @param text normalized string where to search
+     * @return true if each character in pattern is found sequentially within text
+     */
+    public MatchInfo match(StringNormalizer.Result text) {
+        if (!mayMatch(text.signature)) {
+            matchInfo.clearMatchedIndices();
+            matchInfo.match = false;
+            return matchInfo;
+        }
+        return match(text.codePoints, text.codePoints.length);
     }
 
     /**
@@ -117,50 +185,50 @@ public class FuzzyScore {
      * @return true if each character in pattern is found sequentially within text
      */
     public MatchInfo match(int[] text) {
+        return match(text, text.length);
+    }
+
+    /**
+     * Only works on primitives, so that scoring a whole catalog doesn't allocate anything
+     *
+     * @param text       string converted to codepoints
+     * @param strLength  number of codepoints to use from text
+     * @return true if each character in pattern is found sequentially within text
+     */
+    private MatchInfo match(int[] text, int strLength) {
         // Loop variables
         int score = 0;
         int patternIdx = 0;
         int strIdx = 0;
-        int strLength = text.length;
         boolean prevMatched = false;
         boolean prevLower = false;
         boolean prevSeparator = true;       // true so if first letter match gets separator bonus
 
         // Use "best" matched letter if multiple string letters match the pattern
-        Integer bestLetter = null;
-        Integer bestLower = null;
-        Integer bestLetterIdx = null;
+        boolean hasBestLetter = false;
+        int bestLower = 0;
+        int bestLetterIdx = 0;
         int bestLetterScore = 0;
 
-        if (matchInfo.matchedIndices != null) {
-            matchInfo.matchedIndices.clear();
-        }
+        matchInfo.clearMatchedIndices();
 
         // Loop over strings
         while (strIdx != strLength) {
-            Integer patternChar = null;
-            Integer patternLower = null;
-            if (patternIdx != patternLength) {
-                patternChar = this.patternChar[patternIdx];
-                patternLower = this.patternLower[patternIdx];
-            }
+            boolean hasPatternChar = patternIdx != patternLength;
+            int patternLower = hasPatternChar ? this.patternLower[patternIdx] : 0;
             int strChar = text[strIdx];
             int strLower = Character.toLowerCase(strChar);
             int strUpper = Character.toUpperCase(strChar);
 
-            boolean nextMatch = patternChar != null && patternLower == strLower;
-            boolean rematch = bestLetter != null && bestLower == strLower;
+            boolean nextMatch = hasPatternChar && patternLower == strLower;
+            boolean rematch = hasBestLetter && bestLower == strLower;
 
-            boolean advanced = nextMatch && bestLetter != null;
-            boolean patternRepeat = bestLetter != null && patternChar != null && patternLower.equals(bestLower);
+            boolean advanced = nextMatch && hasBestLetter;
+            boolean patternRepeat = hasBestLetter && hasPatternChar && patternLower == bestLower;
             if (advanced || patternRepeat) {
                 score += bestLetterScore;
-                if (matchInfo.matchedIndices != null) {
-                    matchInfo.matchedIndices.add(bestLetterIdx);
-                }
-                bestLetter = null;
-                bestLower = null;
-                bestLetterIdx = null;
+                matchInfo.addMatchedIndex(bestLetterIdx);
+                hasBestLetter = false;
                 bestLetterScore = 0;
             }
 
@@ -194,10 +262,10 @@ public class FuzzyScore {
                 if (newScore >= bestLetterScore) {
 
                     // Apply penalty for now skipped letter
-                    if (bestLetter != null)
+                    if (hasBestLetter)
                         score += unmatched_letter_penalty;
 
-                    bestLetter = strChar;
+                    hasBestLetter = true;
                     bestLower = strLower;
                     bestLetterIdx = strIdx;
                     bestLetterScore = newScore;
@@ -217,17 +285,13 @@ public class FuzzyScore {
         }
 
         // Apply score for last match
-        if (bestLetter != null) {
+        if (hasBestLetter) {
             score += bestLetterScore;
-            if (matchInfo.matchedIndices != null) {
-                matchInfo.matchedIndices.add(bestLetterIdx);
-            }
+            matchInfo.addMatchedIndex(bestLetterIdx);
         }
 
         matchInfo.match = patternIdx == patternLength;
-        if (matchInfo.match) {
-            matchInfo.score = score;
-        }
+        matchInfo.score = score;
         return matchInfo;
     }
 
@@ -235,38 +299,68 @@ public class FuzzyScore {
         /**
          * higher is better match. Value has no intrinsic meaning. Range varies with pattern.
          * Can only compare scores with same search pattern.
+         * Also set when the text doesn't match, from the characters that did.
          */
         public int score;
         public boolean match;
-        public final ArrayList<Integer> matchedIndices;
+        /**
+         * Matched positions, only the first matchedIndicesCount values are meaningful.
+         * null when detailed match indices were not requested.
+         */
+        private int[] matchedIndices;
+        private int matchedIndicesCount = 0;
 
         MatchInfo() {
             matchedIndices = null;
         }
 
         MatchInfo(int patternLength) {
-            matchedIndices = new ArrayList<>(patternLength);
+            matchedIndices = new int[Math.max(1, patternLength)];
+        }
+
+        void clearMatchedIndices() {
+            matchedIndicesCount = 0;
+        }
+
+        void addMatchedIndex(int index) {
+            if (matchedIndices == null)
+                return;
+            if (matchedIndicesCount == matchedIndices.length) {
+                int[] data = matchedIndices;
+                matchedIndices = new int[(data.length * 3) / 2 + 1];
+                System.arraycopy(data, 0, matchedIndices, 0, matchedIndicesCount);
+            }
+            matchedIndices[matchedIndicesCount] = index;
+            matchedIndicesCount += 1;
+        }
+
+        public int getMatchedIndicesCount() {
+            return matchedIndicesCount;
+        }
+
+        public int getMatchedIndex(int position) {
+            return matchedIndices[position];
         }
 
         public List<Pair<Integer, Integer>> getMatchedSequences() {
             assert this.matchedIndices != null;
             // compute pair match indices
-            List<Pair<Integer, Integer>> positions = new ArrayList<>(this.matchedIndices.size());
-            if (matchedIndices.size()>0) {
-                int start = this.matchedIndices.get(0);
+            List<Pair<Integer, Integer>> positions = new ArrayList<>(this.matchedIndicesCount);
+            if (matchedIndicesCount > 0) {
+                int start = this.matchedIndices[0];
                 int end = start + 1;
-                for (int i = 1; i < this.matchedIndices.size(); i += 1) {
-                    if (end == this.matchedIndices.get(i)) {
+                for (int i = 1; i < this.matchedIndicesCount; i += 1) {
+                    if (end == this.matchedIndices[i]) {
                         end += 1;
                     } else {
                         positions.add(new Pair<>(start, end));
-                        start = this.matchedIndices.get(i);
+                        start = this.matchedIndices[i];
                         end = start + 1;
                     }
                 }
                 positions.add(new Pair<>(start, end));
             }
             return positions;
-            }
         }
     }
+}
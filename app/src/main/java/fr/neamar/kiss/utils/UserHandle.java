@@ -80,11 +80,21 @@ public class UserHandle implements Parcelable {
     }
 
 
+    public long getSerial() {
+        return this.serial;
+    }
+
+
     public boolean isCurrentUser() {
         return (this.handle == null);
     }
 
 
+    public boolean isSameUser(UserHandle other) {
+        return other != null && this.serial == other.serial && this.isCurrentUser() == other.isCurrentUser();
+    }
+
+
     public String addUserSuffixToString(String base, char separator) {
         if (this.handle == null) {
             return base;
@@ -0,0 +1,72 @@
+package fr.neamar.kiss.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import fr.neamar.kiss.dataprovider.CandidateIndex;
+import fr.neamar.kiss.normalizer.StringNormalizer;
+import fr.neamar.kiss.pojo.Pojo;
+import fr.neamar.kiss.utils.FuzzyScore;
+
+/**
+ * Scoring the corpus against a query, either every name or only the candidates from the index
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CandidateIndexBenchmark {
+    @Param({"500", "5000", "50000"})
+    public int size;
+
+    @Param({"cam", "settngs", "камера"})
+    public String query;
+
+    private List<Pojo> pojos;
+    private CandidateIndex<Pojo> index;
+    private StringNormalizer.Result queryNormalized;
+
+    @Setup
+    public void setUp() {
+        pojos = Corpus.pojos(size);
+        index = new CandidateIndex<>(pojo -> new StringNormalizer.Result[]{pojo.normalizedName});
+        index.update(pojos);
+        queryNormalized = StringNormalizer.normalizeWithResult(query, false);
+    }
+
+    @Benchmark
+    public void scoreAll(Blackhole blackhole) {
+        score(pojos, blackhole);
+    }
+
+    @Benchmark
+    public void scoreCandidates(Blackhole blackhole) {
+        score(index.getCandidates(queryNormalized.codePoints), blackhole);
+    }
+
+    @Benchmark
+    public void build(Blackhole blackhole) {
+        CandidateIndex<Pojo> index = new CandidateIndex<>(pojo -> new StringNormalizer.Result[]{pojo.normalizedName});
+        index.update(pojos);
+        blackhole.consume(index);
+    }
+
+    private void score(List<Pojo> candidates, Blackhole blackhole) {
+        FuzzyScore fuzzyScore = new FuzzyScore(queryNormalized.codePoints);
+        for (Pojo pojo : candidates) {
+            FuzzyScore.MatchInfo matchInfo = fuzzyScore.match(pojo.normalizedName);
+            if (matchInfo.match) {
+                blackhole.consume(matchInfo.score);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package fr.neamar.kiss.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import fr.neamar.kiss.dataprovider.CandidateIndex;
+import fr.neamar.kiss.normalizer.StringNormalizer;
+
+/**
+ * Reports the size of the candidate index for the corpus, with contact-like items: a name and
+ * sometimes a nickname as main texts, a phone number, a company and a title as secondary texts.
+ * <p>
+ * Run with: ./gradlew :benchmark:candidateIndexSize
+ */
+public final class CandidateIndexSize {
+    private CandidateIndexSize() {
+    }
+
+    public static void main(String[] args) {
+        for (int size : new int[]{500, 5000, 50000}) {
+            List<Contact> contacts = contacts(size);
+
+            CandidateIndex<Contact> bounded = new CandidateIndex<>(contact -> contact.main, contact -> contact.secondary);
+            bounded.update(contacts);
+            CandidateIndex<Contact> allPairs = new CandidateIndex<>(Contact::all);
+            allPairs.update(contacts);
+
+            System.out.printf("%6d contacts: %7d keys, %6.1f postings/contact (all texts as pairs: %7d keys, %6.1f postings/contact)%n",
+                    size, bounded.getKeyCount(), (double) bounded.getPostingCount() / size,
+                    allPairs.getKeyCount(), (double) allPairs.getPostingCount() / size);
+        }
+    }
+
+    private static List<Contact> contacts(int size) {
+        List<String> names = Corpus.names(size);
+        Random random = new Random(size);
+        List<Contact> contacts = new ArrayList<>(size);
+        for (int i = 0; i < size; i += 1) {
+            String nickname = random.nextInt(5) == 0 ? names.get((i * 7) % size) : null;
+            StringBuilder phone = new StringBuilder("+33 6");
+            for (int digit = 0; digit < 8; digit += 1) {
+                phone.append(digit % 2 == 0 ? " " : "").append(random.nextInt(10));
+            }
+            contacts.add(new Contact(names.get(i), nickname, phone.toString(),
+                    names.get((i * 13) % size), names.get((i * 31) % size)));
+        }
+        return contacts;
+    }
+
+    private static final class Contact {
+        final StringNormalizer.Result[] main;
+        final StringNormalizer.Result[] secondary;
+
+        Contact(String name, String nickname, String phone, String company, String title) {
+            main = new StringNormalizer.Result[]{normalize(name), normalize(nickname)};
+            secondary = new StringNormalizer.Result[]{normalize(phone), normalize(company), normalize(title)};
+        }
+
+        StringNormalizer.Result[] all() {
+            return new StringNormalizer.Result[]{main[0], main[1], secondary[0], secondary[1], secondary[2]};
+        }
+
+        private static StringNormalizer.Result normalize(String text) {
+            return text == null ? null : StringNormalizer.normalizeWithResult(text, false);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package fr.neamar.kiss.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import fr.neamar.kiss.pojo.Pojo;
+
+/**
+ * Synthetic app and contact names, mostly latin with a share of accented, cyrillic, greek,
+ * CJK and arabic names, so normalization and matching see the same variety as on a device
+ */
+final class Corpus {
+    private static final String[] LATIN = {
+            "camera", "calendar", "clock", "contacts", "messages", "maps", "music", "photos",
+            "settings", "files", "weather", "notes", "mail", "browser", "wallet", "fitness",
+            "translate", "podcasts", "radio", "news", "banking", "chess", "drive", "keep"
+    };
+    private static final String[] ACCENTED = {
+            "Météo", "Musique", "Réglages", "Téléphone", "Übersetzer", "Kalender", "Cámara",
+            "Fotografías", "Mensajería", "Navegação", "Ñandú", "Crème brûlée", "Smörgåsbord"
+    };
+    private static final String[] CYRILLIC = {
+            "Камера", "Календарь", "Сообщения", "Настройки", "Музыка", "Погода", "Карты"
+    };
+    private static final String[] GREEK = {
+            "Κάμερα", "Ημερολόγιο", "Μηνύματα", "Ρυθμίσεις", "Μουσική", "Καιρός"
+    };
+    private static final String[] CJK = {
+            "相机", "日历", "信息", "设置", "音乐", "天气", "地図", "カメラ", "ｶﾒﾗ", "설정"
+    };
+    private static final String[] ARABIC = {
+            "الكاميرا", "التقويم", "الرسائل", "الإعدادات", "الموسيقى"
+    };
+
+    private Corpus() {
+    }
+
+    /**
+     * @param size number of names
+     * @return names, always the same for a given size
+     */
+    static List<String> names(int size) {
+        Random random = new Random(size);
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String[] words;
+            int script = random.nextInt(100);
+            if (script < 60) {
+                words = LATIN;
+            } else if (script < 75) {
+                words = ACCENTED;
+            } else if (script < 83) {
+                words = CYRILLIC;
+            } else if (script < 89) {
+                words = GREEK;
+            } else if (script < 96) {
+                words = CJK;
+            } else {
+                words = ARABIC;
+            }
+
+            StringBuilder name = new StringBuilder();
+            int wordCount = 1 + random.nextInt(3);
+            for (int w = 0; w < wordCount; w++) {
+                if (w > 0) {
+                    name.append(' ');
+                }
+                String word = words[random.nextInt(words.length)];
+                // Capitalize some words to exercise camel case bonus and lower casing
+                if (random.nextBoolean()) {
+                    word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+                }
+                name.append(word);
+            }
+            names.add(name.toString());
+        }
+        return names;
+    }
+
+    static List<Pojo> pojos(int size) {
+        List<String> names = names(size);
+        List<Pojo> pojos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            NamePojo pojo = new NamePojo("bench://" + i);
+            pojo.setName(names.get(i));
+            pojos.add(pojo);
+        }
+        return pojos;
+    }
+
+    static final class NamePojo extends Pojo {
+        NamePojo(String id) {
+            super(id);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package fr.neamar.kiss.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import fr.neamar.kiss.normalizer.StringNormalizer;
+import fr.neamar.kiss.utils.FuzzyScore;
+
+/**
+ * Scoring every name of the corpus against a query, as providers do on each keystroke
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FuzzyScoreBenchmark {
+    @Param({"500", "5000", "50000"})
+    public int size;
+
+    @Param({"c", "cam", "settngs", "кам", "相机"})
+    public String query;
+
+    private StringNormalizer.Result[] names;
+    private FuzzyScore fuzzyScore;
+
+    @Setup
+    public void setUp() {
+        List<String> corpus = Corpus.names(size);
+        names = new StringNormalizer.Result[corpus.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = StringNormalizer.normalizeWithResult(corpus.get(i), false);
+        }
+        fuzzyScore = new FuzzyScore(StringNormalizer.normalizeWithResult(query, false).codePoints);
+    }
+
+    @Benchmark
+    public void match(Blackhole blackhole) {
+        for (StringNormalizer.Result name : names) {
+            FuzzyScore.MatchInfo matchInfo = fuzzyScore.match(name.codePoints);
+            blackhole.consume(matchInfo.match);
+            blackhole.consume(matchInfo.score);
+        }
+    }
+
+    /**
+     * Same as {@link #match(Blackhole)}, names missing a query character being rejected
+     * from their signature
+     */
+    @Benchmark
+    public void matchWithSignature(Blackhole blackhole) {
+        for (StringNormalizer.Result name : names) {
+            FuzzyScore.MatchInfo matchInfo = fuzzyScore.match(name);
+            blackhole.consume(matchInfo.match);
+            blackhole.consume(matchInfo.score);
+        }
+    }
+
+    @Benchmark
+    public void matchDetailed(Blackhole blackhole) {
+        FuzzyScore detailed = new FuzzyScore(StringNormalizer.normalizeWithResult(query, false).codePoints, true);
+        for (StringNormalizer.Result name : names) {
+            FuzzyScore.MatchInfo matchInfo = detailed.match(name);
+            if (matchInfo.match) {
+                blackhole.consume(matchInfo.getMatchedSequences());
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package fr.neamar.kiss.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import fr.neamar.kiss.pojo.Pojo;
+import fr.neamar.kiss.pojo.PojoComparator;
+
+/**
+ * Sorting the whole corpus, as the application list does
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PojoComparatorBenchmark {
+    @Param({"500", "5000", "50000"})
+    public int size;
+
+    private List<Pojo> pojos;
+    private final PojoComparator comparator = new PojoComparator();
+
+    @Setup
+    public void setUp() {
+        pojos = Corpus.pojos(size);
+    }
+
+    @Benchmark
+    public List<Pojo> sort() {
+        List<Pojo> sorted = new ArrayList<>(pojos);
+        Collections.sort(sorted, comparator);
+        return sorted;
+    }
+}
@@ -0,0 +1,77 @@
+package fr.neamar.kiss.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import fr.neamar.kiss.pojo.Pojo;
+import fr.neamar.kiss.pojo.ScoredPojo;
+import fr.neamar.kiss.pojo.ScoredPojoComparator;
+import fr.neamar.kiss.searcher.TopResults;
+
+/**
+ * Keeping the best results of a search: every match going through a priority queue trimmed to the
+ * maximum result count (the way Searcher used to), against TopResults which rejects losers
+ * before they are even allocated
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearcherQueueBenchmark {
+    @Param({"500", "5000", "50000"})
+    public int size;
+
+    @Param({"50"})
+    public int maxResults;
+
+    private List<Pojo> pojos;
+    private int[] relevances;
+
+    @Setup
+    public void setUp() {
+        pojos = Corpus.pojos(size);
+        relevances = new int[size];
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            relevances[i] = random.nextInt(200) - 50;
+        }
+    }
+
+    @Benchmark
+    public void addResults(Blackhole blackhole) {
+        PriorityQueue<ScoredPojo> queue = new PriorityQueue<>(maxResults, new ScoredPojoComparator());
+        for (int i = 0; i < size; i++) {
+            queue.add(new ScoredPojo(pojos.get(i), relevances[i]));
+            while (queue.size() > maxResults) {
+                queue.poll();
+            }
+        }
+        while (queue.peek() != null) {
+            blackhole.consume(queue.poll());
+        }
+    }
+
+    @Benchmark
+    public void topResults(Blackhole blackhole) {
+        TopResults results = new TopResults(maxResults, new ScoredPojoComparator());
+        for (int i = 0; i < size; i++) {
+            if (results.mayKeep(relevances[i])) {
+                results.add(new ScoredPojo(pojos.get(i), relevances[i]));
+            }
+        }
+        for (ScoredPojo result : results.toSortedList()) {
+            blackhole.consume(result);
+        }
+    }
+}
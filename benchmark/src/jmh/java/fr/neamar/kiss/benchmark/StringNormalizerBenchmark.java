@@ -0,0 +1,48 @@
+package fr.neamar.kiss.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import fr.neamar.kiss.normalizer.StringNormalizer;
+
+/**
+ * Normalizing every name of the corpus, as loaders do when building pojos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringNormalizerBenchmark {
+    @Param({"500", "5000", "50000"})
+    public int size;
+
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        names = Corpus.names(size);
+    }
+
+    @Benchmark
+    public void normalizeWithResult(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(StringNormalizer.normalizeWithResult(name, false));
+        }
+    }
+
+    @Benchmark
+    public void normalizeWithResultLowercase(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(StringNormalizer.normalizeWithResult(name, true));
+        }
+    }
+}
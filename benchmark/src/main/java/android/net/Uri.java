@@ -0,0 +1,7 @@
+package android.net;
+
+/**
+ * JVM stand-in for the Android uri, contacts in tests have no icon
+ */
+public abstract class Uri {
+}
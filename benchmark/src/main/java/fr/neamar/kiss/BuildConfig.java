@@ -0,0 +1,11 @@
+package fr.neamar.kiss;
+
+/**
+ * JVM stand-in for the generated build config, benchmarks measure release behaviour
+ */
+public final class BuildConfig {
+    public static final boolean DEBUG = false;
+
+    private BuildConfig() {
+    }
+}
@@ -0,0 +1,231 @@
+package fr.neamar.kiss.normalizer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes FoldTable.java, the table StringNormalizer uses to fold code points, from this JVM's
+ * java.text.Normalizer.
+ * <p>
+ * Run with: ./gradlew :benchmark:generateFoldTable
+ * <p>
+ * Code points are grouped in blocks of 128, identical blocks being stored once. Each code point of
+ * a block holds 0 when it folds to itself, or the number of its folding (starting at 1) otherwise.
+ * Foldings are stored once each, as UTF-16. Hangul syllables are left out, StringNormalizer
+ * decomposes them itself.
+ */
+public final class FoldTableGenerator {
+    private static final int BLOCK_SHIFT = 7;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    /**
+     * Characters per string literal, so that no literal goes over the class file constant limit
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    private FoldTableGenerator() {
+    }
+
+    /**
+     * Folding of a code point the way StringNormalizer used to compute it: NFKD decomposition,
+     * then combining marks and dashes are dropped
+     */
+    static String fold(int codePoint) {
+        String decomposed = Normalizer.normalize(new String(Character.toChars(codePoint)), Normalizer.Form.NFKD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); ) {
+            int c = decomposed.codePointAt(i);
+            switch (Character.getType(c)) {
+                case Character.NON_SPACING_MARK:
+                case Character.COMBINING_SPACING_MARK:
+                case Character.DASH_PUNCTUATION:
+                    break;
+                default:
+                    folded.appendCodePoint(c);
+            }
+            i += Character.charCount(c);
+        }
+        return folded.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: FoldTableGenerator <path of FoldTable.java>");
+            System.exit(1);
+        }
+
+        Map<String, Integer> foldingNumbers = new HashMap<>();
+        StringBuilder folded = new StringBuilder();
+        StringBuilder foldedEnds = new StringBuilder();
+
+        Map<String, Integer> blockNumbers = new HashMap<>();
+        StringBuilder blocks = new StringBuilder();
+        StringBuilder foldings = new StringBuilder();
+
+        // Block 0 is the one where all code points are unchanged
+        String unchangedBlock = new String(new char[BLOCK_SIZE]);
+        blockNumbers.put(unchangedBlock, 0);
+        foldings.append(unchangedBlock);
+
+        int lastBlock = 0;
+        int blockCount = (Character.MAX_CODE_POINT + 1) >> BLOCK_SHIFT;
+        for (int block = 0; block < blockCount; block += 1) {
+            StringBuilder blockFoldings = new StringBuilder(BLOCK_SIZE);
+            for (int codePoint = block << BLOCK_SHIFT; codePoint < (block + 1) << BLOCK_SHIFT; codePoint += 1) {
+                String folding = fold(codePoint);
+                boolean unchanged = folding.equals(new String(Character.toChars(codePoint)))
+                        || (codePoint >= StringNormalizer.HANGUL_FIRST && codePoint <= StringNormalizer.HANGUL_LAST);
+                if (unchanged) {
+                    blockFoldings.append((char) 0);
+                    continue;
+                }
+                Integer number = foldingNumbers.get(folding);
+                if (number == null) {
+                    number = foldingNumbers.size() + 1;
+                    foldingNumbers.put(folding, number);
+                    folded.append(folding);
+                    foldedEnds.append(checkedChar(folded.length()));
+                }
+                blockFoldings.append(checkedChar(number));
+            }
+
+            String key = blockFoldings.toString();
+            Integer number = blockNumbers.get(key);
+            if (number == null) {
+                number = blockNumbers.size();
+                blockNumbers.put(key, number);
+                foldings.append(key);
+            }
+            blocks.append(checkedChar(number));
+            if (number != 0) {
+                lastBlock = block;
+            }
+        }
+        // Code points after the last block with foldings are all unchanged
+        blocks.setLength(lastBlock + 1);
+
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(new File(args[0])), Charset.forName("UTF-8")));
+        try {
+            out.println("package fr.neamar.kiss.normalizer;");
+            out.println();
+            out.println("/**");
+            out.println(" * Folding of code points for {@link StringNormalizer}: NFKD decomposition without combining");
+            out.println(" * marks and dashes, as computed by java.text.Normalizer on Java " + System.getProperty("java.specification.version") + ".");
+            out.println(" * <p>");
+            out.println(" * Generated by FoldTableGenerator (./gradlew :benchmark:generateFoldTable), do not edit.");
+            out.println(" */");
+            out.println("final class FoldTable {");
+            out.println("    /**");
+            out.println("     * Returned by {@link #find(int)} for code points that fold to themselves");
+            out.println("     */");
+            out.println("    static final int UNCHANGED = 0;");
+            out.println("    private static final int BLOCK_SHIFT = " + BLOCK_SHIFT + ";");
+            out.println("    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;");
+            out.println();
+            out.println("    /**");
+            out.println("     * Block of each range of " + BLOCK_SIZE + " code points, code points after the last range are unchanged");
+            out.println("     */");
+            writeChars(out, "private static final", "BLOCKS", blocks);
+            out.println("    /**");
+            out.println("     * Folding number of each code point, by block");
+            out.println("     */");
+            writeChars(out, "private static final", "FOLDINGS", foldings);
+            out.println("    /**");
+            out.println("     * End of each folding in FOLDED");
+            out.println("     */");
+            writeChars(out, "private static final", "FOLDED_ENDS", foldedEnds);
+            out.println("    /**");
+            out.println("     * Folded code points, UTF-16 encoded");
+            out.println("     */");
+            writeChars(out, "static final", "FOLDED", folded);
+            out.println("    private FoldTable() {");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * @return number of the folding of codePoint, or UNCHANGED");
+            out.println("     */");
+            out.println("    static int find(int codePoint) {");
+            out.println("        int block = codePoint >> BLOCK_SHIFT;");
+            out.println("        if (block >= BLOCKS.length) {");
+            out.println("            return UNCHANGED;");
+            out.println("        }");
+            out.println("        return FOLDINGS[(BLOCKS[block] << BLOCK_SHIFT) | (codePoint & BLOCK_MASK)];");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * @return position in FOLDED of the first char of a folding");
+            out.println("     */");
+            out.println("    static int start(int folding) {");
+            out.println("        return folding == 1 ? 0 : FOLDED_ENDS[folding - 2];");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * @return position in FOLDED after the last char of a folding");
+            out.println("     */");
+            out.println("    static int end(int folding) {");
+            out.println("        return FOLDED_ENDS[folding - 1];");
+            out.println("    }");
+            out.println();
+            out.println("    private static char[] decode(String... chunks) {");
+            out.println("        StringBuilder chars = new StringBuilder();");
+            out.println("        for (String chunk : chunks) {");
+            out.println("            chars.append(chunk);");
+            out.println("        }");
+            out.println("        return chars.toString().toCharArray();");
+            out.println("    }");
+            out.println("}");
+        } finally {
+            out.close();
+        }
+    }
+
+    private static char checkedChar(int value) {
+        if (value > Character.MAX_VALUE) {
+            throw new IllegalStateException("Table too large: " + value);
+        }
+        return (char) value;
+    }
+
+    private static void writeChars(PrintWriter out, String modifiers, String name, CharSequence chars) {
+        List<String> chunks = new ArrayList<>();
+        for (int start = 0; start < chars.length(); start += CHUNK_SIZE) {
+            chunks.add(chars.subSequence(start, Math.min(chars.length(), start + CHUNK_SIZE)).toString());
+        }
+        out.println("    " + modifiers + " char[] " + name + " = decode(");
+        for (int chunk = 0; chunk < chunks.size(); chunk += 1) {
+            String value = chunks.get(chunk);
+            StringBuilder line = new StringBuilder("            \"");
+            for (int i = 0; i < value.length(); i += 1) {
+                if (line.length() > 100) {
+                    out.println(line.append("\" +"));
+                    line = new StringBuilder("            \"");
+                }
+                line.append(escape(value.charAt(i)));
+            }
+            out.println(line.append(chunk + 1 < chunks.size() ? "\"," : "\");"));
+        }
+        out.println();
+    }
+
+    /**
+     * @param c char to write in a string literal, unicode escapes are avoided for chars below
+     *          0x100 since those are processed before the source is parsed
+     */
+    private static String escape(char c) {
+        if (c >= 0x20 && c < 0x7f && c != '"' && c != '\\') {
+            return String.valueOf(c);
+        } else if (c < 0x100) {
+            // Always 3 digits, so that a digit written next is not part of the escape
+            return String.format("\\%03o", (int) c);
+        }
+        return String.format("\\u%04x", (int) c);
+    }
+}
@@ -0,0 +1,85 @@
+package fr.neamar.kiss.dataprovider;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import fr.neamar.kiss.normalizer.StringNormalizer;
+import fr.neamar.kiss.utils.FuzzyScore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The candidate index must never leave out an item matching a query, whether it matches through
+ * a main text (indexed by character pairs) or a secondary text (indexed by character).
+ */
+public class CandidateIndexTest {
+    private static final String[] WORDS = {
+            "camera", "calendar", "clock", "contacts", "Météo", "Réglages", "Камера", "Настройки",
+            "Κάμερα", "相机", "设置", "Acme Corp", "Sales", "Engineering", "+33 6 12 34 56 78"
+    };
+
+    private static final class Item {
+        final StringNormalizer.Result[] texts;
+        final StringNormalizer.Result[] secondary;
+
+        Item(String name, String... secondary) {
+            this.texts = new StringNormalizer.Result[]{StringNormalizer.normalizeWithResult(name, false)};
+            this.secondary = new StringNormalizer.Result[secondary.length];
+            for (int i = 0; i < secondary.length; i += 1) {
+                this.secondary[i] = StringNormalizer.normalizeWithResult(secondary[i], false);
+            }
+        }
+    }
+
+    @Test
+    public void candidatesIncludeEveryMatch() {
+        Random random = new Random(42);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 2000; i += 1) {
+            items.add(new Item(word(random) + " " + word(random), word(random), word(random)));
+        }
+        CandidateIndex<Item> index = new CandidateIndex<>(item -> item.texts, item -> item.secondary);
+        index.update(items);
+
+        String[] queries = {"cam", "cal", "mtr", "кам", "acm", "sls", "eng", "345", "678", "xyz", "camera acme"};
+        for (String query : queries) {
+            int[] codePoints = StringNormalizer.normalizeWithResult(query, false).codePoints;
+            HashSet<Item> candidates = new HashSet<>(index.getCandidates(codePoints));
+            FuzzyScore fuzzyScore = new FuzzyScore(codePoints);
+            for (Item item : items) {
+                if (matches(fuzzyScore, item.texts) || matches(fuzzyScore, item.secondary)) {
+                    assertTrue(query, candidates.contains(item));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void secondaryTextsAreIndexedByCharacter() {
+        List<Item> items = new ArrayList<>();
+        items.add(new Item("ab", "0123456789"));
+        CandidateIndex<Item> index = new CandidateIndex<>(item -> item.texts, item -> item.secondary);
+        index.update(items);
+        // One pair for the name, one key per distinct digit
+        assertEquals(1 + 10, index.getKeyCount());
+        assertEquals(11, index.getPostingCount());
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static boolean matches(FuzzyScore fuzzyScore, StringNormalizer.Result[] texts) {
+        for (StringNormalizer.Result text : texts) {
+            if (fuzzyScore.match(text).match) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,71 @@
+package fr.neamar.kiss.dataprovider;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import fr.neamar.kiss.normalizer.PhoneNormalizer;
+import fr.neamar.kiss.pojo.ContactsPojo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Incoming calls are matched to contacts whatever the notation of the number, without matching
+ * contacts whose numbers only share their last digits.
+ */
+public class ContactPhoneIndexTest {
+    private static ContactsPojo contact(String id, String phone, int timesContacted) {
+        return new ContactsPojo("contact://" + id, id, phone, PhoneNormalizer.simplifyPhoneNumber(phone),
+                null, false, timesContacted, false, false);
+    }
+
+    @Test
+    public void nationalAndInternationalNotationsMatch() {
+        ContactsPojo contact = contact("mobile", "+33 6 12 34 56 78", 0);
+        ContactPhoneIndex index = new ContactPhoneIndex(Arrays.asList(contact, contact("other", "+33 6 98 76 54 32", 0)));
+
+        assertEquals(contact, index.find("+33 6 12 34 56 78"));
+        assertEquals(contact, index.find("+33612345678"));
+        assertEquals(contact, index.find("06 12 34 56 78"));
+        assertEquals(contact, index.find("06.12.34.56.78"));
+        assertEquals(contact, index.find("0033612345678"));
+        assertNull(index.find("06 12 34 56 79"));
+        // A number ending another one on at least seven digits is the same, without its prefixes
+        assertEquals(contact, index.find("12 34 56 78"));
+        assertNull(index.find("34 56 78"));
+    }
+
+    @Test
+    public void shortNumbersOnlyMatchExactly() {
+        ContactsPojo shortCode = contact("short", "3210", 0);
+        ContactsPojo sixDigits = contact("six", "123456", 0);
+        ContactPhoneIndex index = new ContactPhoneIndex(Arrays.asList(shortCode, sixDigits));
+
+        assertEquals(shortCode, index.find("3210"));
+        assertNull(index.find("321"));
+        assertNull(index.find("13210"));
+        assertEquals(sixDigits, index.find("123456"));
+        assertNull(index.find("+44 123456"));
+        assertNull(index.find("23456"));
+        assertNull(index.find(""));
+        assertNull(index.find("+"));
+    }
+
+    @Test
+    public void identicalNumberThenMostContactedWins() {
+        ContactsPojo national = contact("national", "06 12 34 56 78", 2);
+        ContactsPojo international = contact("international", "+33 6 12 34 56 78", 5);
+        // Same last seven digits, but another number
+        ContactsPojo foreign = contact("foreign", "+44 7 12 34 56 78", 50);
+        ContactPhoneIndex index = new ContactPhoneIndex(Arrays.asList(foreign, national, international));
+
+        assertEquals(national, index.find("06 12 34 56 78"));
+        assertEquals(international, index.find("+33 6 12 34 56 78"));
+        // Neither notation is identical, the most contacted wins
+        assertEquals(international, index.find("0033 6 12 34 56 78"));
+        assertEquals(foreign, index.find("+44 7 12 34 56 78"));
+        assertEquals(foreign, index.find("07 12 34 56 78"));
+        assertNull(index.find("+1 12 34 56 78"));
+    }
+}
@@ -0,0 +1,166 @@
+package fr.neamar.kiss.db;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * QueryHistoryTrie must return what the history table gave for `query LIKE 'prefix%'`: records
+ * launched after a query starting with the prefix, case insensitively, most launched first.
+ */
+public class QueryHistoryTrieTest {
+    private static final String[] QUERIES = {
+            "", "c", "ca", "cam", "Camera", "CAL", "calc", "clock", "m", "Météo", "mét", "МЕТ", "мет", "ab", "abc"
+    };
+    private static final String[] RECORDS = {
+            "app://camera", "app://calendar", "app://calculator", "app://clock", "app://weather",
+            "contact://1", "contact://2", "shortcut://a", "shortcut://b", "setting://wifi",
+            "setting://bluetooth", "app://maps"
+    };
+
+    private static final class Launch {
+        final String query;
+        final String record;
+
+        Launch(String query, String record) {
+            this.query = query;
+            this.record = record;
+        }
+    }
+
+    @Test
+    public void previousResultsMatchAPrefixCount() {
+        Random random = new Random(42);
+        QueryHistoryTrie trie = new QueryHistoryTrie();
+        List<Launch> history = new ArrayList<>();
+        for (int i = 0; i < 2000; i += 1) {
+            Launch launch = new Launch(QUERIES[random.nextInt(QUERIES.length)], RECORDS[random.nextInt(RECORDS.length)]);
+            history.add(launch);
+            trie.add(launch.query, launch.record, 1);
+
+            if (i % 100 == 0) {
+                String removed = RECORDS[random.nextInt(RECORDS.length)];
+                trie.remove(removed);
+                removeAll(history, removed);
+            }
+            if (i % 50 == 0) {
+                assertSameResults(history, trie);
+            }
+        }
+        assertSameResults(history, trie);
+    }
+
+    @Test
+    public void countsAreAddedUp() {
+        QueryHistoryTrie trie = new QueryHistoryTrie();
+        trie.add("cam", "app://camera", 3);
+        trie.add("Camera", "app://camera", 2);
+        trie.add("cal", "app://calendar", 4);
+        // Nothing is recorded without a query
+        trie.add(null, "app://clock", 1);
+
+        List<ValuedHistoryRecord> results = trie.getPreviousResults("CA", 10);
+        assertEquals(2, results.size());
+        assertEquals("app://camera", results.get(0).record);
+        assertEquals(5, results.get(0).value);
+        assertEquals("app://calendar", results.get(1).record);
+        assertEquals(4, results.get(1).value);
+        assertEquals(0, trie.getPreviousResults("x", 10).size());
+    }
+
+    @Test
+    public void removePrunesEmptyQueries() {
+        QueryHistoryTrie trie = new QueryHistoryTrie();
+        trie.add("camera", "app://camera", 1);
+        trie.add("cal", "app://calendar", 1);
+        // root, c, a, m, e, r, a, l
+        assertEquals(8, trie.getNodeCount());
+
+        trie.remove("app://camera");
+        // root, c, a, l
+        assertEquals(4, trie.getNodeCount());
+        assertEquals(0, trie.getPreviousResults("cam", 10).size());
+        assertEquals(1, trie.getPreviousResults("ca", 10).size());
+
+        trie.remove("app://calendar");
+        assertEquals(1, trie.getNodeCount());
+        assertEquals(0, trie.getPreviousResults("", 10).size());
+
+        // Removing an unknown record changes nothing
+        trie.add("clock", "app://clock", 1);
+        trie.remove("app://camera");
+        assertEquals(6, trie.getNodeCount());
+    }
+
+    private static void removeAll(List<Launch> history, String record) {
+        List<Launch> kept = new ArrayList<>(history.size());
+        for (Launch launch : history) {
+            if (!launch.record.equals(record)) {
+                kept.add(launch);
+            }
+        }
+        history.clear();
+        history.addAll(kept);
+    }
+
+    private static void assertSameResults(List<Launch> history, QueryHistoryTrie trie) {
+        for (String query : QUERIES) {
+            for (int length = 0; length <= query.length(); length += 1) {
+                String prefix = query.substring(0, length);
+                for (int limit : new int[]{1, 3, 10}) {
+                    assertEquals(prefix + " " + limit, describe(countByPrefix(history, prefix, limit)),
+                            describe(trie.getPreviousResults(prefix, limit)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Naive version of the query the trie replaced, ties ordered by record
+     */
+    private static List<ValuedHistoryRecord> countByPrefix(List<Launch> history, String prefix, int limit) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Launch launch : history) {
+            if (startsWithIgnoreCase(launch.query, prefix)) {
+                Integer count = counts.get(launch.record);
+                counts.put(launch.record, count == null ? 1 : count + 1);
+            }
+        }
+        List<ValuedHistoryRecord> records = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            ValuedHistoryRecord record = new ValuedHistoryRecord();
+            record.record = entry.getKey();
+            record.value = entry.getValue();
+            records.add(record);
+        }
+        Collections.sort(records, (a, b) -> a.value != b.value ? b.value - a.value : a.record.compareTo(b.record));
+        return records.size() > limit ? records.subList(0, limit) : records;
+    }
+
+    private static boolean startsWithIgnoreCase(String query, String prefix) {
+        if (query.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i += 1) {
+            if (Character.toLowerCase(query.charAt(i)) != Character.toLowerCase(prefix.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> describe(List<ValuedHistoryRecord> records) {
+        List<String> descriptions = new ArrayList<>(records.size());
+        for (ValuedHistoryRecord record : records) {
+            descriptions.add(record.record + " (" + record.value + ")");
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,108 @@
+package fr.neamar.kiss.normalizer;
+
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+import java.text.Normalizer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * StringNormalizer must give the same results with its fold table as with java.text.Normalizer.
+ * When this fails after a JDK upgrade, regenerate the table: ./gradlew :benchmark:generateFoldTable
+ */
+public class StringNormalizerTest {
+
+    @Test
+    public void everyCodePointFoldsLikeNormalizer() {
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint += 1) {
+            String input = new String(Character.toChars(codePoint));
+            for (boolean makeLowercase : new boolean[]{false, true}) {
+                Reference expected = normalizeWithNormalizer(input, makeLowercase);
+                StringNormalizer.Result actual = StringNormalizer.normalizeWithResult(input, makeLowercase);
+                String message = "U+" + Integer.toHexString(codePoint) + (makeLowercase ? " lowercase" : "");
+                assertArrayEquals(message, expected.codePoints, actual.codePoints);
+                for (int i = 0; i < expected.mapPositions.length; i += 1) {
+                    assertEquals(message, expected.mapPositions[i], actual.mapPosition(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void stringsFoldLikeNormalizer() {
+        String[] inputs = {
+                "",
+                "Firefox",
+                "Crème brûlée — à la carte",
+                "Ⅻ ﾐｶﾝ ﬁnance",
+                "한국어 키보드",
+                "Ελληνικά, русский, עברית",
+                "𝐀𝐁 😀 \uD800",
+        };
+        for (String input : inputs) {
+            for (boolean makeLowercase : new boolean[]{false, true}) {
+                Reference expected = normalizeWithNormalizer(input, makeLowercase);
+                StringNormalizer.Result actual = StringNormalizer.normalizeWithResult(input, makeLowercase);
+                assertArrayEquals(input, expected.codePoints, actual.codePoints);
+                for (int i = 0; i <= expected.mapPositions.length; i += 1) {
+                    int position = i < expected.mapPositions.length ? expected.mapPositions[i] : input.length();
+                    assertEquals(input, position, actual.mapPosition(i));
+                }
+            }
+        }
+    }
+
+    private static final class Reference {
+        final int[] codePoints;
+        final int[] mapPositions;
+
+        Reference(int[] codePoints, int[] mapPositions) {
+            this.codePoints = codePoints;
+            this.mapPositions = mapPositions;
+        }
+    }
+
+    /**
+     * StringNormalizer.normalizeWithResult as it was before the fold table
+     */
+    private static Reference normalizeWithNormalizer(CharSequence input, boolean makeLowercase) {
+        int numCodePoints = Character.codePointCount(input, 0, input.length());
+        IntSequenceBuilder codePoints = new IntSequenceBuilder(numCodePoints);
+        IntSequenceBuilder resultMap = new IntSequenceBuilder(numCodePoints);
+        CharBuffer buffer = CharBuffer.allocate(2);
+        int i = 0;
+        for (int iterCodePoint = 0; iterCodePoint < numCodePoints; iterCodePoint += 1) {
+            int codepoint = Character.codePointAt(input, i);
+            if (codepoint < 'z') {
+                if (codepoint != '-') {
+                    codePoints.add(makeLowercase ? Character.toLowerCase(codepoint) : codepoint);
+                    resultMap.add(i);
+                }
+            } else {
+                buffer.put(Character.toChars(codepoint));
+                buffer.flip();
+                String decomposedCharString = Normalizer.normalize(buffer, Normalizer.Form.NFKD);
+                buffer.clear();
+
+                int decomposedCharOffset = 0;
+                while (decomposedCharOffset < decomposedCharString.length()) {
+                    int resultChar = decomposedCharString.codePointAt(decomposedCharOffset);
+                    switch (Character.getType(resultChar)) {
+                        case Character.NON_SPACING_MARK:
+                        case Character.COMBINING_SPACING_MARK:
+                        case Character.DASH_PUNCTUATION:
+                            break;
+                        default:
+                            codePoints.add(makeLowercase ? Character.toLowerCase(resultChar) : resultChar);
+                            resultMap.add(i);
+                    }
+                    decomposedCharOffset += Character.charCount(resultChar);
+                }
+            }
+            i += Character.charCount(codepoint);
+        }
+        return new Reference(codePoints.toArray(), resultMap.toArray());
+    }
+}
@@ -0,0 +1,119 @@
+package fr.neamar.kiss.searcher;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import fr.neamar.kiss.pojo.Pojo;
+import fr.neamar.kiss.pojo.ScoredPojo;
+import fr.neamar.kiss.pojo.ScoredPojoComparator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TopResults must keep the same results, in the same order, as the priority queue Searcher used
+ * to trim down to its maximum result count.
+ */
+public class TopResultsTest {
+    private static final int[] BOUNDS = {0, 1, 2, 3, 5, 10, 50, Integer.MAX_VALUE};
+
+    private static final class NamePojo extends Pojo {
+        NamePojo(String id, String name) {
+            super(id);
+            setName(name);
+        }
+    }
+
+    @Test
+    public void keepsTheSameResultsAsAPriorityQueue() {
+        Random random = new Random(42);
+        List<Comparator<ScoredPojo>> comparators = new ArrayList<>();
+        comparators.add(new ScoredPojoComparator());
+        comparators.add(Collections.reverseOrder(new ScoredPojoComparator()));
+
+        for (int run = 0; run < 500; run += 1) {
+            // Few distinct relevances and names, so that ties are common
+            int size = random.nextInt(80);
+            List<ScoredPojo> input = new ArrayList<>(size);
+            for (int i = 0; i < size; i += 1) {
+                Pojo pojo = new NamePojo("test://" + i, "app " + random.nextInt(20));
+                input.add(new ScoredPojo(pojo, random.nextInt(10) - 5));
+            }
+
+            for (Comparator<ScoredPojo> comparator : comparators) {
+                for (int maxResults : BOUNDS) {
+                    List<ScoredPojo> expected = trimWithPriorityQueue(input, maxResults, comparator);
+
+                    TopResults all = new TopResults(maxResults, comparator);
+                    TopResults checked = new TopResults(maxResults, comparator);
+                    for (ScoredPojo result : input) {
+                        all.add(result);
+                        // As Searcher does, results under the threshold are not even offered
+                        if (result.relevance >= checked.getRelevanceThreshold() && checked.mayKeep(result.relevance)) {
+                            checked.add(result);
+                        }
+                    }
+
+                    String message = "run " + run + ", " + maxResults + " results, " + comparator;
+                    assertSameResults(message, expected, all.toSortedList());
+                    assertSameResults(message, expected, checked.toSortedList());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void thresholdNeverRejectsAKeptResult() {
+        Random random = new Random(7);
+        for (int maxResults : BOUNDS) {
+            TopResults results = new TopResults(maxResults, new ScoredPojoComparator());
+            int threshold = results.getRelevanceThreshold();
+            for (int i = 0; i < 500; i += 1) {
+                results.add(new ScoredPojo(new NamePojo("test://" + i, "app " + i), random.nextInt(1000)));
+                int newThreshold = results.getRelevanceThreshold();
+                assertTrue("threshold must only rise", newThreshold >= threshold);
+                threshold = newThreshold;
+                for (ScoredPojo kept : results.toSortedList()) {
+                    assertTrue(kept.relevance >= threshold);
+                }
+            }
+        }
+    }
+
+    private static List<ScoredPojo> trimWithPriorityQueue(List<ScoredPojo> input, int maxResults, Comparator<ScoredPojo> comparator) {
+        PriorityQueue<ScoredPojo> queue = new PriorityQueue<>(Math.max(1, Math.min(maxResults, 64)), comparator);
+        for (ScoredPojo result : input) {
+            queue.add(result);
+            while (queue.size() > maxResults) {
+                queue.poll();
+            }
+        }
+        List<ScoredPojo> sorted = new ArrayList<>(queue.size());
+        while (queue.peek() != null) {
+            sorted.add(queue.poll());
+        }
+        return sorted;
+    }
+
+    /**
+     * Results comparing equal may be kept in any order, check what is displayed rather than
+     * which pojo instance is kept
+     */
+    private static void assertSameResults(String message, List<ScoredPojo> expected, List<ScoredPojo> actual) {
+        assertEquals(message, describe(expected), describe(actual));
+    }
+
+    private static List<String> describe(List<ScoredPojo> results) {
+        List<String> descriptions = new ArrayList<>(results.size());
+        for (ScoredPojo result : results) {
+            descriptions.add(result.pojo.getName() + " (" + result.relevance + ")");
+        }
+        return descriptions;
+    }
+}